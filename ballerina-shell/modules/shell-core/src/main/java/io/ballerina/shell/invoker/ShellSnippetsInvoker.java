@@ -26,9 +26,11 @@ import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JarLibrary;
 import io.ballerina.projects.JarResolver;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.directory.SingleFileProject;
@@ -50,12 +52,19 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringWriter;
+import java.lang.ref.Cleaner;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -87,8 +96,14 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     /* Constants related to temp files */
     private static final String TEMP_FILE_PREFIX = "main-";
     private static final String TEMP_FILE_SUFFIX = ".bal";
+    private static final String JAR_FILE_SUFFIX = ".jar";
     /* Error type codes */
     private static final String MODULE_NOT_FOUND_CODE = "BCE2003";
+    /**
+     * Cleaner that removes the snippet jar copies of the class loaders
+     * which are no longer reachable.
+     */
+    private static final Cleaner CLASS_LOADER_CLEANER = Cleaner.create();
 
     /**
      * Scheduler used to run the init and main methods
@@ -101,6 +116,12 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * or a temp file.
      */
     private File bufferFile;
+    /**
+     * Project that is kept for the whole session. Each snippet only replaces the
+     * content of its single document, so the compiler context, the resolved
+     * dependencies and the symbols of imported modules are loaded once and reused.
+     */
+    private Project sessionProject;
 
     protected ShellSnippetsInvoker() {
         this.scheduler = new Scheduler(false);
@@ -248,11 +269,20 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
         try {
             File mainBal = writeToFile(source);
+            if (isOffline && sessionProject != null) {
+                Module module = sessionProject.currentPackage().getDefaultModule();
+                Document document = module.document(module.documentIds().iterator().next());
+                return document.modify().withContent(source).apply().module().project();
+            }
             BuildOptions buildOptions = BuildOptions.builder()
                     .setOffline(isOffline)
                     .targetDir(ProjectUtils.getTemporaryTargetPath())
                     .build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                sessionProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
@@ -321,9 +351,20 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
                 addErrorDiagnostic("Import resolution failed. Module not found.");
                 throw new InvokerException();
             }
+            // The module was pulled to the local repository, which the session project
+            // has already searched. Reload the project so that it resolves the new module.
+            resetSessionProject();
         }
     }
 
+    /**
+     * Discards the project kept for the session.
+     * The next compilation loads a new project.
+     */
+    protected void resetSessionProject() {
+        this.sessionProject = null;
+    }
+
     /**
      * @return Whether the compilation contains MODULE_NOT_FOUND error.
      */
@@ -371,8 +412,7 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
             String fileName = bufferFile.getName();
             String mainMethodClassName = fileName.substring(0, fileName.length() - TEMP_FILE_SUFFIX.length());
 
-            JarResolver jarResolver = jBallerinaBackend.jarResolver();
-            ClassLoader classLoader = jarResolver.getClassLoaderWithRequiredJarFilesForExecution();
+            ClassLoader classLoader = createClassLoader(jBallerinaBackend);
             // First run configure initialization
             // TODO: (#28662) After configurables can be supported, change this to that file location
             invokeMethodDirectly(classLoader, CONFIGURE_INIT_CLASS_NAME, CONFIGURE_INIT_METHOD_NAME,
@@ -397,6 +437,84 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
             stacktrace.forEach(errorStream::println);
             addErrorDiagnostic("Execution aborted due to unhandled runtime error.");
             throw panicError;
+        } catch (IOException e) {
+            addErrorDiagnostic("Loading generated code failed: " + e.getMessage());
+            throw new InvokerException(e);
+        }
+    }
+
+    /**
+     * Creates the class loader to run the generated code.
+     * <p>
+     * The session project writes the jar of the snippet module to the same path on
+     * every execution, while values created by earlier snippets may still load classes
+     * through the class loader they were created with. So the snippet module jars are
+     * copied and the class loader reads the copies.
+     * <p>
+     * A class loader is reachable as long as the invoker memory keeps a value created by
+     * the snippets it ran. Once it is not, the class loader and its open jars are released
+     * by the garbage collector and its copies are deleted.
+     *
+     * @param jBallerinaBackend Backend used to generate the code.
+     * @return Class loader with the jars required for execution.
+     * @throws IOException If copying the jars failed.
+     */
+    private ClassLoader createClassLoader(JBallerinaBackend jBallerinaBackend) throws IOException {
+        JarResolver jarResolver = jBallerinaBackend.jarResolver();
+        if (sessionProject == null) {
+            return jarResolver.getClassLoaderWithRequiredJarFilesForExecution();
+        }
+
+        Package currentPackage = sessionProject.currentPackage();
+        Set<Path> snippetJarPaths = new HashSet<>();
+        for (Module module : currentPackage.modules()) {
+            snippetJarPaths.add(jBallerinaBackend.codeGeneratedLibrary(currentPackage.packageId(),
+                    module.moduleName()).path());
+        }
+
+        List<URL> urls = new ArrayList<>();
+        List<Path> jarCopies = new ArrayList<>();
+        try {
+            for (JarLibrary jarLibrary : jarResolver.getJarFilePathsRequiredForExecution()) {
+                Path jarPath = jarLibrary.path();
+                if (snippetJarPaths.contains(jarPath)) {
+                    Path jarCopy = Files.createTempFile(TEMP_FILE_PREFIX, JAR_FILE_SUFFIX);
+                    jarCopies.add(jarCopy);
+                    jarCopy.toFile().deleteOnExit();
+                    Files.copy(jarPath, jarCopy, StandardCopyOption.REPLACE_EXISTING);
+                    jarPath = jarCopy;
+                }
+                urls.add(jarPath.toUri().toURL());
+            }
+        } catch (IOException e) {
+            new JarCopiesRemover(jarCopies).run();
+            throw e;
+        }
+        URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader());
+        CLASS_LOADER_CLEANER.register(classLoader, new JarCopiesRemover(jarCopies));
+        return classLoader;
+    }
+
+    /**
+     * Deletes the snippet jar copies read by a class loader.
+     * This must not refer to the class loader, so that the class loader can become unreachable.
+     */
+    private static class JarCopiesRemover implements Runnable {
+        private final List<Path> jarCopies;
+
+        private JarCopiesRemover(List<Path> jarCopies) {
+            this.jarCopies = jarCopies;
+        }
+
+        @Override
+        public void run() {
+            for (Path jarCopy : jarCopies) {
+                try {
+                    Files.deleteIfExists(jarCopy);
+                } catch (IOException ignored) {
+                    // The copy is deleted on exit.
+                }
+            }
         }
     }
 
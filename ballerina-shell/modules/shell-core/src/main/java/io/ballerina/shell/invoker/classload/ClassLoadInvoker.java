@@ -201,6 +201,7 @@ public class ClassLoadInvoker extends ShellSnippetsInvoker {
         this.initialized.set(false);
         this.importsManager.reset();
         this.availableModuleDeclarations.clear();
+        resetSessionProject();
     }
 
     @Override
@@ -286,9 +287,15 @@ public class ClassLoadInvoker extends ShellSnippetsInvoker {
         }
 
         // If there are no declarations/variables, we can simply execute.
+        // The compilation is already of the execution template, so it is not compiled again.
         if (noModuleDeclarations && noVariableDeclarations) {
-            ClassLoadContext execContext = createVariablesExecutionContext(List.of(), executableSnippets, Map.of());
-            executeProject(execContext, EXECUTION_TEMPLATE_FILE);
+            if (compilation.isPresent()) {
+                executeProject(JBallerinaBackend.from(compilation.get(), JvmTarget.JAVA_17));
+            } else {
+                ClassLoadContext execContext = createVariablesExecutionContext(List.of(), executableSnippets,
+                        Map.of());
+                executeProject(execContext, EXECUTION_TEMPLATE_FILE);
+            }
             return Optional.ofNullable(InvokerMemory.recall(contextId, CONTEXT_EXPR_VAR_NAME));
         }
 
@@ -32,6 +32,7 @@ public class RegressionEvaluatorTest extends AbstractEvaluatorTest {
     private static final String PANIC_SAVE_STATE_TESTCASE = "testcases/evaluator/regression.panic.save.state.json";
     private static final String QUALIFIERS_TESTCASE = "testcases/evaluator/regression.qualifiers.json";
     private static final String IMPORT_CYCLIC_TYPE_TESTCASE = "testcases/evaluator/regression.cyclic.type.json";
+    private static final String SESSION_STATE_TESTCASE = "testcases/evaluator/regression.session.state.json";
 
     @Test
     public void testEvaluateSameImport() throws BallerinaShellException {
@@ -62,4 +63,10 @@ public class RegressionEvaluatorTest extends AbstractEvaluatorTest {
         // Cyclic types use.
         testEvaluate(IMPORT_CYCLIC_TYPE_TESTCASE);
     }
+
+    @Test
+    public void testEvaluateSessionState() throws BallerinaShellException {
+        // Values from earlier snippets keep working after the session module is recompiled.
+        testEvaluate(SESSION_STATE_TESTCASE);
+    }
 }
@@ -1,6 +1,13 @@
+import benchmarkarray;
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkjson;
+import benchmarkquery;
+import benchmarkrecord;
+import benchmarkregexp;
+import benchmarkstrands;
+import benchmarktable;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +24,14 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addStrandFunctions();
+    addRegexpFunctions();
+    addQueryFunctions();
+    addTableFunctions();
+    addTypeCastFunctions();
+    addJsonParseFunctions();
+    addArraySortFunctions();
+    addRecordFunctions();
 }
 
 function addJSONFunctions() {
@@ -59,6 +74,8 @@ function addIntFunctions() {
     functions["benchmarkIntegerTypesSubtraction"] = benchmarktypes:benchmarkIntegerTypesSubtraction;
     functions["benchmarkIntegerTypesMultiplication"] = benchmarktypes:benchmarkIntegerTypesMultiplication;
     functions["benchmarkIntegerTypesDivision"] = benchmarktypes:benchmarkIntegerTypesDivision;
+    functions["benchmarkIntHelperFunctionCalls"] = benchmarktypes:benchmarkIntHelperFunctionCalls;
+    functions["benchmarkIntRecursiveFunctionCalls"] = benchmarktypes:benchmarkIntRecursiveFunctionCalls;
 }
 
 function addPrintFunctions() {
@@ -140,3 +157,70 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addStrandFunctions() {
+    functions["benchmarkStartAndWaitStrands"] = benchmarkstrands:benchmarkStartAndWaitStrands;
+    functions["benchmarkWorkerMessagePassing"] = benchmarkstrands:benchmarkWorkerMessagePassing;
+    functions["benchmarkNestedStrands"] = benchmarkstrands:benchmarkNestedStrands;
+    functions["benchmarkConcurrentBlockingInteropCalls"] = benchmarkstrands:benchmarkConcurrentBlockingInteropCalls;
+}
+
+function addRegexpFunctions() {
+    functions["benchmarkRegexpFindWithModuleLevelPattern"] = benchmarkregexp:benchmarkRegexpFindWithModuleLevelPattern;
+    functions["benchmarkRegexpFindWithLiteral"] = benchmarkregexp:benchmarkRegexpFindWithLiteral;
+    functions["benchmarkRegexpFindAllGroups"] = benchmarkregexp:benchmarkRegexpFindAllGroups;
+    functions["benchmarkRegexpIsFullMatch"] = benchmarkregexp:benchmarkRegexpIsFullMatch;
+    functions["benchmarkRegexpReplaceAll"] = benchmarkregexp:benchmarkRegexpReplaceAll;
+    functions["benchmarkRegexpSplit"] = benchmarkregexp:benchmarkRegexpSplit;
+    functions["benchmarkRegexpFindAllWithNonBmpString"] = benchmarkregexp:benchmarkRegexpFindAllWithNonBmpString;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkQueryInnerJoin"] = benchmarkquery:benchmarkQueryInnerJoin;
+    functions["benchmarkQueryOuterJoin"] = benchmarkquery:benchmarkQueryOuterJoin;
+    functions["benchmarkQueryJoinWithLimit"] = benchmarkquery:benchmarkQueryJoinWithLimit;
+    functions["benchmarkQueryJoinOnCompositeKey"] = benchmarkquery:benchmarkQueryJoinOnCompositeKey;
+}
+
+function addTableFunctions() {
+    functions["benchmarkTableAdd"] = benchmarktable:benchmarkTableAdd;
+    functions["benchmarkTableAddKeyless"] = benchmarktable:benchmarkTableAddKeyless;
+    functions["benchmarkTableAddCompositeKey"] = benchmarktable:benchmarkTableAddCompositeKey;
+    functions["benchmarkTableGet"] = benchmarktable:benchmarkTableGet;
+    functions["benchmarkTablePutExisting"] = benchmarktable:benchmarkTablePutExisting;
+    functions["benchmarkTableRemove"] = benchmarktable:benchmarkTableRemove;
+    functions["benchmarkTableIterate"] = benchmarktable:benchmarkTableIterate;
+    functions["benchmarkTableNextKey"] = benchmarktable:benchmarkTableNextKey;
+}
+
+function addTypeCastFunctions() {
+    functions["benchmarkRecordToOpenRecordCast"] = benchmarktypes:benchmarkRecordToOpenRecordCast;
+    functions["benchmarkRecordIsCheckOnUnion"] = benchmarktypes:benchmarkRecordIsCheckOnUnion;
+    functions["benchmarkRecursiveRecordCast"] = benchmarktypes:benchmarkRecursiveRecordCast;
+    functions["benchmarkRecordCloneWithType"] = benchmarktypes:benchmarkRecordCloneWithType;
+}
+
+function addJsonParseFunctions() {
+    functions["benchmarkJsonParseFlatRecord"] = benchmarkjson:benchmarkJsonParseFlatRecord;
+    functions["benchmarkJsonParseRecordArray"] = benchmarkjson:benchmarkJsonParseRecordArray;
+    functions["benchmarkJsonParseNumericArrays"] = benchmarkjson:benchmarkJsonParseNumericArrays;
+    functions["benchmarkJsonParseStringMap"] = benchmarkjson:benchmarkJsonParseStringMap;
+    functions["benchmarkJsonParseUntyped"] = benchmarkjson:benchmarkJsonParseUntyped;
+}
+
+function addArraySortFunctions() {
+    functions["benchmarkArraySortInt"] = benchmarkarray:benchmarkArraySortInt;
+    functions["benchmarkArraySortIntDescending"] = benchmarkarray:benchmarkArraySortIntDescending;
+    functions["benchmarkArraySortLargeInt"] = benchmarkarray:benchmarkArraySortLargeInt;
+    functions["benchmarkArraySortFloat"] = benchmarkarray:benchmarkArraySortFloat;
+    functions["benchmarkArraySortString"] = benchmarkarray:benchmarkArraySortString;
+    functions["benchmarkArraySortWithKeyFunction"] = benchmarkarray:benchmarkArraySortWithKeyFunction;
+}
+
+function addRecordFunctions() {
+    functions["benchmarkRecordCreateClosed"] = benchmarkrecord:benchmarkRecordCreateClosed;
+    functions["benchmarkRecordCreateOpen"] = benchmarkrecord:benchmarkRecordCreateOpen;
+    functions["benchmarkRecordFieldAccess"] = benchmarkrecord:benchmarkRecordFieldAccess;
+    functions["benchmarkRecordIterateClosed"] = benchmarkrecord:benchmarkRecordIterateClosed;
+    functions["benchmarkRecordIterateWithRestField"] = benchmarkrecord:benchmarkRecordIterateWithRestField;
+}
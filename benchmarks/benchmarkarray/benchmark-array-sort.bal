@@ -0,0 +1,75 @@
+import ballerina/lang.array;
+
+type Entry record {|
+    int key;
+    string value;
+|};
+
+final int[] & readonly ints = createInts(100000).cloneReadOnly();
+final int[] & readonly largeInts = createInts(1000000).cloneReadOnly();
+final float[] & readonly floats = createFloats(100000).cloneReadOnly();
+final string[] & readonly strings = createStrings(100000).cloneReadOnly();
+final Entry[] & readonly entries = createEntries(100000).cloneReadOnly();
+
+public function benchmarkArraySortInt() {
+    int[] result = ints.sort();
+}
+
+public function benchmarkArraySortIntDescending() {
+    int[] result = ints.sort(array:DESCENDING);
+}
+
+public function benchmarkArraySortLargeInt() {
+    int[] result = largeInts.sort();
+}
+
+public function benchmarkArraySortFloat() {
+    float[] result = floats.sort();
+}
+
+public function benchmarkArraySortString() {
+    string[] result = strings.sort();
+}
+
+public function benchmarkArraySortWithKeyFunction() {
+    Entry[] result = entries.sort(array:ASCENDING, isolated function(Entry e) returns int => e.key);
+}
+
+// Linear congruential generator, so every run sorts the same data.
+function next(int seed) returns int {
+    return (seed * 1103515245 + 12345) % 2147483648;
+}
+
+function createInts(int count) returns int[] {
+    int[] result = [];
+    int seed = 42;
+    foreach int _ in 0 ..< count {
+        seed = next(seed);
+        result.push(seed);
+    }
+    return result;
+}
+
+function createFloats(int count) returns float[] {
+    float[] result = [];
+    foreach int i in createInts(count) {
+        result.push(<float>i / 1000.0);
+    }
+    return result;
+}
+
+function createStrings(int count) returns string[] {
+    string[] result = [];
+    foreach int i in createInts(count) {
+        result.push("value" + i.toString());
+    }
+    return result;
+}
+
+function createEntries(int count) returns Entry[] {
+    Entry[] result = [];
+    foreach int i in createInts(count) {
+        result.push({key: i % 1000, value: i.toString()});
+    }
+    return result;
+}
@@ -0,0 +1,84 @@
+type Address record {|
+    string street;
+    string city;
+    int zip;
+|};
+
+type Order record {|
+    int id;
+    string customer;
+    float amount;
+    boolean paid;
+    Address address;
+    string[] items;
+|};
+
+type Metrics record {
+    int[] counts;
+    float[] values;
+};
+
+const RECORD_COUNT = 1000;
+const ARRAY_LENGTH = 10000;
+
+final string flatRecordPayload = createOrder(1).toJsonString();
+final string recordArrayPayload = createOrders(RECORD_COUNT).toJsonString();
+final string numericArrayPayload = createMetrics(ARRAY_LENGTH).toJsonString();
+final string stringMapPayload = createStringMap(RECORD_COUNT).toJsonString();
+
+public function benchmarkJsonParseFlatRecord() {
+    Order|error result = flatRecordPayload.fromJsonStringWithType();
+}
+
+public function benchmarkJsonParseRecordArray() {
+    Order[]|error result = recordArrayPayload.fromJsonStringWithType();
+}
+
+public function benchmarkJsonParseNumericArrays() {
+    Metrics|error result = numericArrayPayload.fromJsonStringWithType();
+}
+
+public function benchmarkJsonParseStringMap() {
+    map<string>|error result = stringMapPayload.fromJsonStringWithType();
+}
+
+public function benchmarkJsonParseUntyped() {
+    json|error result = recordArrayPayload.fromJsonString();
+}
+
+function createOrder(int id) returns Order {
+    return {
+        id,
+        customer: "customer" + id.toString(),
+        amount: <float> id * 1.5,
+        paid: id % 2 == 0,
+        address: {street: "Main Street", city: "Colombo", zip: 10000 + id},
+        items: ["item1", "item2", "item3"]
+    };
+}
+
+function createOrders(int count) returns Order[] {
+    Order[] orders = [];
+    foreach int i in 0 ..< count {
+        orders.push(createOrder(i));
+    }
+    return orders;
+}
+
+function createMetrics(int length) returns Metrics {
+    int[] counts = [];
+    float[] values = [];
+    foreach int i in 0 ..< length {
+        counts.push(i * 7919 - length);
+        values.push(<float> i / 3.0);
+    }
+    return {counts, values};
+}
+
+function createStringMap(int count) returns map<string> {
+    map<string> result = {};
+    foreach int i in 0 ..< count {
+        result["key" + i.toString()] = "value" + i.toString();
+    }
+    return result;
+}
@@ -0,0 +1,60 @@
+type Employee record {|
+    int id;
+    string name;
+    int deptId;
+|};
+
+type Department record {|
+    int id;
+    string name;
+|};
+
+type EmployeeDepartment record {|
+    string employee;
+    string department;
+|};
+
+final Employee[] & readonly employees = createEmployees(10000, 100).cloneReadOnly();
+final Department[] & readonly departments = createDepartments(100).cloneReadOnly();
+
+public function benchmarkQueryInnerJoin() {
+    EmployeeDepartment[] result = from var emp in employees
+        join var dept in departments on emp.deptId equals dept.id
+        select {employee: emp.name, department: dept.name};
+}
+
+public function benchmarkQueryOuterJoin() {
+    EmployeeDepartment[] result = from var emp in employees
+        outer join var dept in departments on emp.deptId equals dept.id
+        select {employee: emp.name, department: dept?.name ?: ""};
+}
+
+public function benchmarkQueryJoinWithLimit() {
+    EmployeeDepartment[] result = from var emp in employees
+        join var dept in departments on emp.deptId equals dept.id
+        limit 10
+        select {employee: emp.name, department: dept.name};
+}
+
+public function benchmarkQueryJoinOnCompositeKey() {
+    EmployeeDepartment[] result = from var emp in employees
+        join var dept in departments on [emp.deptId, emp.deptId % 2] equals [dept.id, dept.id % 2]
+        select {employee: emp.name, department: dept.name};
+}
+
+function createEmployees(int count, int deptCount) returns Employee[] {
+    Employee[] result = [];
+    foreach int i in 0 ..< count {
+        // Every fifth department has no employees, to exercise outer joins.
+        result.push({id: i, name: "employee" + i.toString(), deptId: (i % deptCount) / 5 * 5 + 1});
+    }
+    return result;
+}
+
+function createDepartments(int count) returns Department[] {
+    Department[] result = [];
+    foreach int i in 0 ..< count {
+        result.push({id: i, name: "department" + i.toString()});
+    }
+    return result;
+}
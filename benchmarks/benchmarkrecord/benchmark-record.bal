@@ -0,0 +1,47 @@
+type Point record {|
+    int x;
+    int y;
+    string label?;
+|};
+
+type Event record {
+    string id;
+    int timestamp;
+    float value;
+};
+
+public function benchmarkRecordCreateClosed() {
+    foreach int i in 0 ..< 100000 {
+        Point p = {x: i, y: i + 1};
+    }
+}
+
+public function benchmarkRecordCreateOpen() {
+    foreach int i in 0 ..< 100000 {
+        Event e = {id: "event", timestamp: i, value: 1.5};
+    }
+}
+
+public function benchmarkRecordFieldAccess() {
+    Point p = {x: 1, y: 2, label: "point"};
+    int sum = 0;
+    foreach int _ in 0 ..< 100000 {
+        sum += p.x + p.y;
+    }
+}
+
+public function benchmarkRecordIterateClosed() {
+    Point p = {x: 1, y: 2, label: "point"};
+    foreach int _ in 0 ..< 100000 {
+        string[] keys = p.keys();
+        anydata[] values = p.toArray();
+    }
+}
+
+public function benchmarkRecordIterateWithRestField() {
+    Event e = {id: "event", timestamp: 1, value: 1.5, "source": "sensor"};
+    foreach int _ in 0 ..< 100000 {
+        string[] keys = e.keys();
+        anydata[] values = e.toArray();
+    }
+}
@@ -0,0 +1,34 @@
+import ballerina/lang.regexp;
+
+final string:RegExp logLinePattern = re `(\d{4}-\d{2}-\d{2}) (\w+) \[(\w+)\] (.*)`;
+
+const string LOG_LINE = "2023-01-20 INFO [main] Started server on port 9090";
+const string NON_BMP_LOG_LINE = "2023-01-20 INFO [main] Started 🌍 server 😀 on port 9090";
+
+public function benchmarkRegexpFindWithModuleLevelPattern() {
+    regexp:Span? result = logLinePattern.find(LOG_LINE);
+}
+
+public function benchmarkRegexpFindWithLiteral() {
+    regexp:Span? result = re `\[(\w+)\]`.find(LOG_LINE);
+}
+
+public function benchmarkRegexpFindAllGroups() {
+    regexp:Groups[] result = re `(\w+)=(\d+)`.findAllGroups("a=1, b=2, c=3, d=4, e=5");
+}
+
+public function benchmarkRegexpIsFullMatch() {
+    boolean result = logLinePattern.isFullMatch(LOG_LINE);
+}
+
+public function benchmarkRegexpReplaceAll() {
+    string result = re `\d`.replaceAll(LOG_LINE, "#");
+}
+
+public function benchmarkRegexpSplit() {
+    string[] result = re `,\s*`.split("a, b, c, d, e, f, g, h");
+}
+
+public function benchmarkRegexpFindAllWithNonBmpString() {
+    regexp:Span[] result = re `\w+`.findAll(NON_BMP_LOG_LINE);
+}
@@ -0,0 +1,68 @@
+import ballerina/jballerina.java;
+
+public function benchmarkStartAndWaitStrands() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< 100 {
+        futures.push(start sum(i));
+    }
+    foreach future<int> f in futures {
+        int|error result = wait f;
+    }
+}
+
+public function benchmarkWorkerMessagePassing() {
+    worker w1 {
+        foreach int i in 0 ..< 100 {
+            i -> w2;
+        }
+    }
+
+    worker w2 {
+        foreach int i in 0 ..< 100 {
+            int value = <- w1;
+        }
+    }
+
+    var result = wait {w1, w2};
+}
+
+public function benchmarkNestedStrands() {
+    future<int> f1 = start fork(5);
+    int|error result = wait f1;
+}
+
+public function benchmarkConcurrentBlockingInteropCalls() {
+    future<()>[] futures = [];
+    foreach int i in 0 ..< 1000 {
+        futures.push(start sleep(1));
+    }
+    foreach future<()> f in futures {
+        error? result = wait f;
+    }
+}
+
+function fork(int depth) returns int {
+    if (depth == 0) {
+        return sum(10);
+    }
+    future<int> f1 = start fork(depth - 1);
+    future<int> f2 = start fork(depth - 1);
+    int r1 = checkpanic wait f1;
+    int r2 = checkpanic wait f2;
+    return r1 + r2;
+}
+
+function sum(int n) returns int {
+    int total = 0;
+    foreach int i in 0 ... n {
+        total += i;
+    }
+    return total;
+}
+
+// Blocks the thread that runs the strand, as a blocking Java library call would.
+isolated function sleep(int millis) = @java:Method {
+    'class: "java.lang.Thread",
+    name: "sleep",
+    paramTypes: ["long"]
+} external;
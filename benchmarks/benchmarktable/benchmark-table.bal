@@ -0,0 +1,78 @@
+type Row record {|
+    readonly int id;
+    string name;
+    int value;
+|};
+
+type CompositeRow record {|
+    readonly int id;
+    readonly string code;
+    int value;
+|};
+
+type RowTable table<Row> key(id);
+
+const ROW_COUNT = 10000;
+
+final RowTable & readonly rowTable = createRowTable(ROW_COUNT).cloneReadOnly();
+
+public function benchmarkTableAdd() {
+    _ = createRowTable(ROW_COUNT);
+}
+
+public function benchmarkTableAddKeyless() {
+    table<Row> tbl = table [];
+    foreach int i in 0 ..< ROW_COUNT {
+        tbl.add({id: i, name: "row" + i.toString(), value: i});
+    }
+}
+
+public function benchmarkTableAddCompositeKey() {
+    table<CompositeRow> key(id, code) tbl = table [];
+    foreach int i in 0 ..< ROW_COUNT {
+        tbl.add({id: i, code: (i % 10).toString(), value: i});
+    }
+}
+
+public function benchmarkTableGet() {
+    int sum = 0;
+    foreach int i in 0 ..< ROW_COUNT {
+        sum += rowTable.get(i).value;
+    }
+}
+
+public function benchmarkTablePutExisting() {
+    RowTable tbl = createRowTable(ROW_COUNT);
+    foreach int i in 0 ..< ROW_COUNT {
+        tbl.put({id: i, name: "updated" + i.toString(), value: -i});
+    }
+}
+
+public function benchmarkTableRemove() {
+    RowTable tbl = createRowTable(ROW_COUNT);
+    foreach int i in 0 ..< ROW_COUNT {
+        _ = tbl.remove(i);
+    }
+}
+
+public function benchmarkTableIterate() {
+    int sum = 0;
+    foreach Row row in rowTable {
+        sum += row.value;
+    }
+}
+
+public function benchmarkTableNextKey() {
+    RowTable tbl = table [];
+    foreach int i in 0 ..< ROW_COUNT {
+        tbl.add({id: tbl.nextKey(), name: "row", value: i});
+    }
+}
+
+function createRowTable(int count) returns RowTable {
+    RowTable tbl = table [];
+    foreach int i in 0 ..< count {
+        tbl.add({id: i, name: "row" + i.toString(), value: i});
+    }
+    return tbl;
+}
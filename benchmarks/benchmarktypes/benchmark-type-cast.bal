@@ -0,0 +1,63 @@
+type Address record {|
+    string street;
+    string city;
+    int zip?;
+|};
+
+type Customer record {|
+    int id;
+    string name;
+    Address address;
+    string[] tags;
+|};
+
+type OpenCustomer record {
+    int id;
+    string name;
+};
+
+type CustomerOrError Customer|error;
+
+type Node record {|
+    int value;
+    Node? next;
+|};
+
+const CAST_ITERATIONS = 1000;
+
+final Customer customer = {id: 1, name: "Alice", address: {street: "Main Street", city: "Colombo"}, tags: ["a"]};
+final Node node = {value: 1, next: {value: 2, next: {value: 3, next: ()}}};
+
+public function benchmarkRecordToOpenRecordCast() {
+    anydata value = customer;
+    foreach int i in 0 ..< CAST_ITERATIONS {
+        OpenCustomer openCustomer = <OpenCustomer> value;
+    }
+}
+
+public function benchmarkRecordIsCheckOnUnion() {
+    any|error value = customer;
+    int count = 0;
+    foreach int i in 0 ..< CAST_ITERATIONS {
+        if value is CustomerOrError {
+            count += 1;
+        }
+        if value is Node|string|int {
+            count -= 1;
+        }
+    }
+}
+
+public function benchmarkRecursiveRecordCast() {
+    anydata value = node;
+    foreach int i in 0 ..< CAST_ITERATIONS {
+        Node n = <Node> value;
+    }
+}
+
+public function benchmarkRecordCloneWithType() {
+    map<anydata> value = customer;
+    foreach int i in 0 ..< CAST_ITERATIONS {
+        Customer|error c = value.cloneWithType();
+    }
+}
@@ -54,3 +54,25 @@ public function benchmarkIntegerTypesDivision() {
     int e = (a / b) / (c / d);
 }
 
+public function benchmarkIntHelperFunctionCalls() {
+    int a = 5;
+    int b = 6;
+    int c = addInts(multiplyInts(a, b), subtractInts(b, a));
+}
+
+public function benchmarkIntRecursiveFunctionCalls() {
+    int c = fibonacci(15);
+}
+
+function addInts(int a, int b) returns int => a + b;
+
+function multiplyInts(int a, int b) returns int => a * b;
+
+function subtractInts(int a, int b) returns int => a - b;
+
+function fibonacci(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
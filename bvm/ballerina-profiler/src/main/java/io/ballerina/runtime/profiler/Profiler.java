@@ -61,6 +61,7 @@ public class Profiler {
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private int samplingInterval = 0;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
@@ -141,6 +142,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingInterval(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -153,6 +158,19 @@ public class Profiler {
         return value;
     }
 
+    private int extractSamplingInterval(String value) {
+        int interval;
+        try {
+            interval = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ProfilerException("Invalid sampling interval found: " + value, e);
+        }
+        if (interval <= 0) {
+            throw new ProfilerException("Invalid sampling interval found: " + value);
+        }
+        return interval;
+    }
+
     private String extractBalJarArgs(String value) {
         if (value == null || !value.startsWith("[") || !value.endsWith("]")) {
             throw new ProfilerException("Invalid JAR arguments found: " + value);
@@ -211,26 +229,43 @@ public class Profiler {
                 if (mainClassPackage == null || className.contains("$gen$")) {
                     continue;
                 }
-                if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
+                if (shouldModifyClass(className, mainClassPackage)) {
                     try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
                         String sourceClassName = className.replace(Constants.CLASS_SUFFIX, "");
-                        byte[] code = profilerMethodWrapper.modifyMethods(inputStream, sourceClassName);
+                        byte[] code = profilerMethodWrapper.modifyMethods(inputStream, sourceClassName,
+                                samplingInterval);
                         profilerClassLoader.loadClass(code);
                         profilerMethodWrapper.printCode(className, code, getFileNameWithoutExtension(balJarName));
                     }
                 }
-                if (className.endsWith("/$_init.class")) {
+                if (className.endsWith(Constants.INIT_CLASS_SUFFIX)) {
                     moduleCount++;
                 }
             }
-            OUT_STREAM.printf("      Instrumented module count: %d%n", moduleCount);
-            OUT_STREAM.printf("      Instrumented function count: %d%n", balFunctionCount);
+            if (isSamplingMode()) {
+                OUT_STREAM.printf("      Sampling interval: %d ms%n", samplingInterval);
+            } else {
+                OUT_STREAM.printf("      Instrumented module count: %d%n", moduleCount);
+                OUT_STREAM.printf("      Instrumented function count: %d%n", balFunctionCount);
+            }
             modifyJar();
         } catch (Throwable throwable) {
             throw new ProfilerException(throwable);
         }
     }
 
+    private boolean shouldModifyClass(String className, String mainClassPackage) {
+        if (isSamplingMode()) {
+            // In the sampling mode only the main method is modified, to start the sampler.
+            return className.equals(mainClassPackage + Constants.INIT_CLASS_SUFFIX);
+        }
+        return className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className);
+    }
+
+    private boolean isSamplingMode() {
+        return samplingInterval > 0;
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -23,6 +23,8 @@ import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
+import static io.ballerina.runtime.profiler.util.Constants.MAIN_METHOD;
+import static io.ballerina.runtime.profiler.util.Constants.MAIN_METHOD_DESCRIPTOR;
 import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
 
 /**
@@ -33,15 +35,36 @@ import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
 public class ProfilerClassVisitor extends ClassVisitor {
 
     private final String className;
+    private final int samplingInterval;
 
     public ProfilerClassVisitor(String className, ClassVisitor classVisitor) {
+        this(className, classVisitor, 0);
+    }
+
+    /**
+     * Creates a class visitor that only starts the sampling profiler from the main method when the sampling interval
+     * is positive, and instruments every Ballerina function otherwise.
+     *
+     * @param className        name of the visited class
+     * @param classVisitor     class visitor to delegate to
+     * @param samplingInterval sampling interval in milliseconds
+     */
+    public ProfilerClassVisitor(String className, ClassVisitor classVisitor, int samplingInterval) {
         super(Opcodes.ASM9, classVisitor);
         this.className = className;
+        this.samplingInterval = samplingInterval;
     }
 
     @Override
     public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
         MethodVisitor methodVisitor = super.visitMethod(access, name, desc, signature, exceptions);
+        if (samplingInterval > 0) {
+            if (MAIN_METHOD.equals(name) && MAIN_METHOD_DESCRIPTOR.equals(desc) &&
+                    (access & Opcodes.ACC_STATIC) != 0) {
+                return new SamplingStarterAdapter(access, methodVisitor, name, desc, samplingInterval);
+            }
+            return methodVisitor;
+        }
         if (desc.startsWith(STRAND_ARG) && !name.contains("$gen$")) {
             Main.incrementBalFunctionCount();
             return new StrandCheckAdapter(className, access, methodVisitor, name, desc, (access & Opcodes.ACC_STATIC));
@@ -89,12 +89,16 @@ public class ProfilerMethodWrapper extends ClassLoader {
     }
 
     public byte[] modifyMethods(InputStream inputStream, String className) {
+        return modifyMethods(inputStream, className, 0);
+    }
+
+    public byte[] modifyMethods(InputStream inputStream, String className, int samplingInterval) {
         byte[] code;
         try {
             ClassReader reader = new ClassReader(inputStream);
             ClassWriter classWriter = new ProfilerClassWriter(reader, ClassWriter.COMPUTE_MAXS |
                     ClassWriter.COMPUTE_FRAMES);
-            ClassVisitor change = new ProfilerClassVisitor(className, classWriter);
+            ClassVisitor change = new ProfilerClassVisitor(className, classWriter, samplingInterval);
             reader.accept(change, ClassReader.EXPAND_FRAMES);
             code = classWriter.toByteArray();
             return code;
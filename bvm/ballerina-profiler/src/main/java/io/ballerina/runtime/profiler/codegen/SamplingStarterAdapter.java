@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.codegen;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.AdviceAdapter;
+
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_PROFILER;
+import static io.ballerina.runtime.profiler.util.Constants.START_SAMPLING_DESCRIPTOR;
+
+/**
+ * This class is used as the advice adapter for the sampling mode of the Ballerina profiler.
+ * This will start {@link io.ballerina.runtime.profiler.runtime.SamplingProfiler} at the entry of the program's main
+ * method, leaving the Ballerina functions uninstrumented.
+ *
+ * @since 2201.10.0
+ */
+public class SamplingStarterAdapter extends AdviceAdapter {
+
+    private final int samplingInterval;
+
+    public SamplingStarterAdapter(int access, MethodVisitor mv, String methodName, String description,
+                                  int samplingInterval) {
+        super(Opcodes.ASM9, mv, access, methodName, description);
+        this.samplingInterval = samplingInterval;
+    }
+
+    // It starts the sampler thread before the program is initialized.
+    @Override
+    protected void onMethodEnter() {
+        mv.visitLdcInsn(samplingInterval);
+        mv.visitMethodInsn(INVOKESTATIC, SAMPLING_PROFILER, "start", START_SAMPLING_DESCRIPTOR, false);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A call tree aggregated from sampled stacks. Frame names are interned to integer ids and the tree nodes are kept in
+ * parallel primitive arrays, so recording a stack whose frames have been seen before does not allocate.
+ *
+ * @since 2201.10.0
+ */
+class SampledCallTree {
+
+    static final int ROOT_NODE = 0;
+    private static final String ROOT_FRAME_NAME = "root";
+    private static final int INITIAL_NODE_CAPACITY = 256;
+
+    private final Map<String, Map<String, Integer>> methodFrameIds = new HashMap<>();
+    private final Map<String, Integer> locationFrameIds = new HashMap<>();
+    private final List<String> frameNames = new ArrayList<>();
+
+    private int[] frameIds = new int[INITIAL_NODE_CAPACITY];
+    private int[] parents = new int[INITIAL_NODE_CAPACITY];
+    private int[] firstChildren = new int[INITIAL_NODE_CAPACITY];
+    private int[] nextSiblings = new int[INITIAL_NODE_CAPACITY];
+    private int[] selfSamples = new int[INITIAL_NODE_CAPACITY];
+    private int nodeCount;
+
+    SampledCallTree() {
+        frameNames.add(ROOT_FRAME_NAME);
+        frameIds[ROOT_NODE] = 0;
+        parents[ROOT_NODE] = -1;
+        firstChildren[ROOT_NODE] = -1;
+        nextSiblings[ROOT_NODE] = -1;
+        nodeCount = 1;
+    }
+
+    int internMethodFrame(String className, String methodName) {
+        Map<String, Integer> methodIds = methodFrameIds.computeIfAbsent(className, k -> new HashMap<>());
+        Integer frameId = methodIds.get(methodName);
+        if (frameId == null) {
+            frameId = addFrameName(StackTraceMap.decodeStackElement(className.replace('.', '/') + "." + methodName));
+            methodIds.put(methodName, frameId);
+        }
+        return frameId;
+    }
+
+    int internLocationFrame(String location) {
+        Integer frameId = locationFrameIds.get(location);
+        if (frameId == null) {
+            frameId = addFrameName(location);
+            locationFrameIds.put(location, frameId);
+        }
+        return frameId;
+    }
+
+    private int addFrameName(String frameName) {
+        frameNames.add(frameName);
+        return frameNames.size() - 1;
+    }
+
+    int getChild(int node, int frameId) {
+        int child = firstChildren[node];
+        while (child != -1) {
+            if (frameIds[child] == frameId) {
+                return child;
+            }
+            child = nextSiblings[child];
+        }
+        return addChild(node, frameId);
+    }
+
+    private int addChild(int node, int frameId) {
+        if (nodeCount == frameIds.length) {
+            int newCapacity = nodeCount * 2;
+            frameIds = Arrays.copyOf(frameIds, newCapacity);
+            parents = Arrays.copyOf(parents, newCapacity);
+            firstChildren = Arrays.copyOf(firstChildren, newCapacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, newCapacity);
+            selfSamples = Arrays.copyOf(selfSamples, newCapacity);
+        }
+        int child = nodeCount++;
+        frameIds[child] = frameId;
+        parents[child] = node;
+        firstChildren[child] = -1;
+        nextSiblings[child] = firstChildren[node];
+        firstChildren[node] = child;
+        return child;
+    }
+
+    void addSample(int leafNode) {
+        selfSamples[leafNode]++;
+    }
+
+    /**
+     * Returns the call tree in the format of the profiler's intermediate CPU JSON, so that the same UI renders both
+     * the instrumented and the sampled profiles. Each node is emitted with its inclusive time, estimated as the number
+     * of samples it appears in multiplied by the sampling interval.
+     *
+     * @param intervalMillis sampling interval in milliseconds
+     * @return the JSON array of stack trace items
+     */
+    String toProfileJson(long intervalMillis) {
+        // Children are always added after their parents, so a reverse scan accumulates the inclusive counts.
+        long[] totalSamples = new long[nodeCount];
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            totalSamples[node] += selfSamples[node];
+            if (node != ROOT_NODE) {
+                totalSamples[parents[node]] += totalSamples[node];
+            }
+        }
+        StringBuilder sb = new StringBuilder("[");
+        int[] path = new int[16];
+        for (int node = 0; node < nodeCount; node++) {
+            int depth = 0;
+            for (int current = node; current != -1; current = parents[current]) {
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                }
+                path[depth++] = current;
+            }
+            if (node != ROOT_NODE) {
+                sb.append(",\n");
+            }
+            sb.append("{\"time\": \"").append(totalSamples[node] * intervalMillis).append("\", \"stackTrace\": [");
+            for (int i = depth - 1; i >= 0; i--) {
+                appendJsonString(sb, frameNames.get(frameIds[path[i]]));
+                if (i != 0) {
+                    sb.append(",");
+                }
+            }
+            sb.append("]}");
+        }
+        sb.append("\n]");
+        return sb.toString();
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+}
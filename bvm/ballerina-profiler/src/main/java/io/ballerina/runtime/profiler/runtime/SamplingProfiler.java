@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import io.ballerina.runtime.internal.scheduling.FunctionFrame;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Stack;
+
+import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
+
+/**
+ * The sampling mode of the Ballerina profiler. Instead of wrapping every Ballerina function with
+ * {@link ProfileAnalyzer#start} and {@link ProfileAnalyzer#stop}, a single daemon thread periodically captures
+ * <ul>
+ *     <li>the Java stacks of the threads that are running strands, and</li>
+ *     <li>the {@link Strand#frames} of the yielded strands found in the scheduler's strand registry,</li>
+ * </ul>
+ * and aggregates them into a {@link SampledCallTree}. The instrumented code paths stay untouched, so the overhead is
+ * paid once per sampling interval rather than once per function call: each sample costs a thread stack walk, which
+ * brings all threads to a safepoint, plus a snapshot of the strand registry. The resulting times are estimates whose
+ * resolution is the sampling interval.
+ *
+ * @since 2201.10.0
+ */
+public class SamplingProfiler {
+
+    private static final String SAMPLER_THREAD_NAME = "ballerina-profiler-sampler";
+    private static final String SCHEDULER_CLASS_NAME = Scheduler.class.getName();
+    private static final String[] EXCLUDED_CLASS_PREFIXES = {"java.", "jdk.", "sun.", "io.ballerina.runtime."};
+    private static final String GENERATED_METHOD_MARKER = "$gen$";
+    private static SamplingProfiler instance;
+
+    private final long intervalMillis;
+    private final SampledCallTree callTree = new SampledCallTree();
+    private final Thread samplerThread;
+    private volatile boolean running = true;
+
+    private SamplingProfiler(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+        this.samplerThread = new Thread(this::sampleUntilStopped, SAMPLER_THREAD_NAME);
+        this.samplerThread.setDaemon(true);
+    }
+
+    /**
+     * Starts sampling the running program. This is invoked from the instrumented main method of the program, and
+     * subsequent invocations are ignored.
+     *
+     * @param intervalMillis sampling interval in milliseconds
+     */
+    public static synchronized void start(int intervalMillis) {
+        if (instance != null) {
+            return;
+        }
+        SamplingProfiler profiler = new SamplingProfiler(Math.max(1, intervalMillis));
+        instance = profiler;
+        // add a shutdown hook to stop sampling and write the output when the program is closed
+        Runtime.getRuntime().addShutdownHook(new Thread(profiler::stopAndWriteOutput));
+        profiler.samplerThread.start();
+    }
+
+    private void sampleUntilStopped() {
+        while (running) {
+            takeSample();
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void takeSample() {
+        for (Map.Entry<Thread, StackTraceElement[]> threadStack : Thread.getAllStackTraces().entrySet()) {
+            if (threadStack.getKey() != samplerThread) {
+                recordThreadStack(threadStack.getValue());
+            }
+        }
+        for (Strand strand : Scheduler.getCurrentStrands().values()) {
+            if (strand.isYielded()) {
+                recordYieldedStrand(strand);
+            }
+        }
+    }
+
+    private void recordThreadStack(StackTraceElement[] stackTrace) {
+        // Strands are executed by the scheduler, hence only the frames above the innermost scheduler frame belong to
+        // a strand. Threads without a scheduler frame (e.g. threads calling into Ballerina through interop) are
+        // sampled as a whole.
+        int outermostFrame = stackTrace.length - 1;
+        for (int i = 0; i < stackTrace.length; i++) {
+            if (SCHEDULER_CLASS_NAME.equals(stackTrace[i].getClassName())) {
+                outermostFrame = i - 1;
+                break;
+            }
+        }
+        int node = SampledCallTree.ROOT_NODE;
+        for (int i = outermostFrame; i >= 0; i--) {
+            StackTraceElement element = stackTrace[i];
+            if (isBallerinaFrame(element)) {
+                node = callTree.getChild(node, callTree.internMethodFrame(element.getClassName(),
+                        element.getMethodName()));
+            }
+        }
+        if (node != SampledCallTree.ROOT_NODE) {
+            callTree.addSample(node);
+        }
+    }
+
+    private void recordYieldedStrand(Strand strand) {
+        Stack<FunctionFrame> strandFrames = strand.frames;
+        if (strandFrames == null) {
+            return;
+        }
+        // Frames are pushed while the stack unwinds, hence the innermost function is at the bottom. Taking a copy
+        // guards against the strand being resumed while it is being sampled.
+        Object[] frames = strandFrames.toArray();
+        int node = SampledCallTree.ROOT_NODE;
+        for (int i = frames.length - 1; i >= 0; i--) {
+            String yieldLocation = ((FunctionFrame) frames[i]).yieldLocation;
+            if (yieldLocation != null) {
+                node = callTree.getChild(node, callTree.internLocationFrame(yieldLocation));
+            }
+        }
+        if (node != SampledCallTree.ROOT_NODE) {
+            callTree.addSample(node);
+        }
+    }
+
+    private static boolean isBallerinaFrame(StackTraceElement element) {
+        String className = element.getClassName();
+        for (String prefix : EXCLUDED_CLASS_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return !element.getMethodName().contains(GENERATED_METHOD_MARKER);
+    }
+
+    private void stopAndWriteOutput() {
+        running = false;
+        samplerThread.interrupt();
+        try {
+            samplerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try (Writer writer = new FileWriter(CPU_PRE_JSON, StandardCharsets.UTF_8)) {
+            writer.write(callTree.toProfileJson(intervalMillis));
+        } catch (IOException e) {
+            throw new ProfilerRuntimeException("Error occurred while writing to the " + CPU_PRE_JSON + " file");
+        }
+    }
+}
@@ -61,7 +61,7 @@ public class StackTraceMap {
         return sb.toString();
     }
 
-    private static String decodeStackElement(String stackElement) {
+    static String decodeStackElement(String stackElement) {
         return Utils.decodeIdentifier(stackElement.replaceAll("\\$value\\$", ""));
     }
 }
@@ -50,6 +50,11 @@ public class Constants {
             "(L" + STRAND_CLASS + ";L" + DATA_CLASS + ";)V";
     public static final String PROFILE_ANALYZER = "io/ballerina/runtime/profiler/runtime/ProfileAnalyzer";
     public static final String GET_INSTANCE_DESCRIPTOR = "()L" + PROFILE_ANALYZER + ";";
+    public static final String SAMPLING_PROFILER = "io/ballerina/runtime/profiler/runtime/SamplingProfiler";
+    public static final String START_SAMPLING_DESCRIPTOR = "(I)V";
+    public static final String MAIN_METHOD = "main";
+    public static final String MAIN_METHOD_DESCRIPTOR = "([L" + STRING_CLASS + ";)V";
+    public static final String INIT_CLASS_SUFFIX = "/$_init.class";
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String WORKING_DIRECTORY = "user.dir";
     public static final String PROFILE_DATA = "${profile_data}";
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test cases for the sampled call tree.
+ *
+ * @since 2201.10.0
+ */
+public class SampledCallTreeTest {
+
+    private static final long INTERVAL_MILLIS = 10;
+
+    @Test
+    public void testProfileJsonShape() {
+        JsonArray items = new Gson().fromJson(createCallTree().toProfileJson(INTERVAL_MILLIS), JsonArray.class);
+        Assert.assertEquals(items.size(), 5);
+        for (JsonElement element : items) {
+            JsonObject item = element.getAsJsonObject();
+            Assert.assertEquals(item.keySet(), Set.of("time", "stackTrace"));
+            // The instrumented profiler writes the time as a string, see Data#toString
+            Assert.assertTrue(item.get("time").getAsJsonPrimitive().isString());
+            Assert.assertEquals(item.getAsJsonArray("stackTrace").get(0).getAsString(), "root");
+        }
+
+        // The UI takes the total time from the first item
+        JsonObject root = items.get(0).getAsJsonObject();
+        Assert.assertEquals(root.getAsJsonArray("stackTrace").size(), 1);
+        Assert.assertEquals(root.get("time").getAsString(), "50");
+    }
+
+    @Test
+    public void testInclusiveTimes() {
+        String json = createCallTree().toProfileJson(INTERVAL_MILLIS);
+        Map<List<String>, Integer> times = new HashMap<>();
+        for (StackTraceItem item : new Gson().fromJson(json, StackTraceItem[].class)) {
+            times.put(item.stackTrace, item.time);
+        }
+        Assert.assertEquals(times, Map.of(
+                List.of("root"), 50,
+                List.of("root", "main"), 50,
+                List.of("root", "main", "foo"), 30,
+                List.of("root", "main", "foo", "bar \"quoted\""), 20,
+                List.of("root", "main", "baz"), 10));
+    }
+
+    @Test
+    public void testEmptyTree() {
+        JsonArray items = new Gson().fromJson(new SampledCallTree().toProfileJson(INTERVAL_MILLIS), JsonArray.class);
+        Assert.assertEquals(items.size(), 1);
+        Assert.assertEquals(items.get(0).getAsJsonObject().get("time").getAsString(), "0");
+    }
+
+    private static SampledCallTree createCallTree() {
+        SampledCallTree tree = new SampledCallTree();
+        int main = tree.internLocationFrame("main");
+        int foo = tree.internLocationFrame("foo");
+        int bar = tree.internLocationFrame("bar \"quoted\"");
+        int baz = tree.internLocationFrame("baz");
+
+        // main -> foo -> bar is sampled twice, main -> foo and main -> baz once each and main on its own once
+        addSample(tree, main, foo, bar);
+        addSample(tree, main, foo, bar);
+        addSample(tree, main, foo);
+        addSample(tree, main, baz);
+        addSample(tree, main);
+        return tree;
+    }
+
+    private static void addSample(SampledCallTree tree, int... frames) {
+        int node = SampledCallTree.ROOT_NODE;
+        for (int frame : frames) {
+            node = tree.getChild(node, frame);
+        }
+        tree.addSample(node);
+    }
+
+    /**
+     * The stack trace item read by the profiler UI.
+     */
+    private static class StackTraceItem {
+
+        int time;
+        List<String> stackTrace;
+    }
+}
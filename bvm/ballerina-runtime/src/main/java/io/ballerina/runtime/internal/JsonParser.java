@@ -62,11 +62,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -141,7 +146,55 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(String str, Type targetType) throws BError {
-        return parse(new StringReader(str), targetType);
+        char[] chars = str.toCharArray();
+        return parse(chars, 0, chars.length, targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given byte array and returns a value of the given target type.
+     *
+     * @param bytes      the byte array which contains the UTF-8 encoded content
+     * @param targetType the type of the value to be created
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, Type targetType) throws BError {
+        return parse(ByteBuffer.wrap(bytes), targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents remaining in the given {@link ByteBuffer} and returns a value of the given
+     * target type. The buffer is consumed. Malformed UTF-8 input is reported as an error rather than replaced.
+     *
+     * @param buffer     the buffer which contains the UTF-8 encoded content
+     * @param targetType the type of the value to be created
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BError {
+        CharBuffer chars;
+        try {
+            chars = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(buffer);
+        } catch (CharacterCodingException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(("error in parsing input bytes: "
+                                                                   + e.getMessage())));
+        }
+        int start = chars.arrayOffset() + chars.position();
+        return parse(chars.array(), start, start + chars.remaining(), targetType);
+    }
+
+    private static Object parse(char[] chars, int start, int end, Type targetType) throws BError {
+        JsonStateMachine sm = acquireStateMachine();
+        try {
+            sm.addTargetType(targetType);
+            JsonStateMachine.mode = JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+            return sm.execute(chars, start, end);
+        } finally {
+            releaseStateMachine(sm);
+        }
     }
 
     /**
@@ -154,17 +207,31 @@ public class JsonParser {
      */
     public static Object parse(Reader reader, Type targetType, JsonUtils.NonStringValueProcessingMode mode)
             throws BError {
-        JsonStateMachine sm = tlStateMachine.get();
+        JsonStateMachine sm = acquireStateMachine();
         try {
             sm.addTargetType(targetType);
             JsonStateMachine.mode = mode;
             return sm.execute(reader);
         } finally {
-            // Need to reset the state machine before leaving. Otherwise, references to the created
-            // values will be maintained and the java GC will not happen properly.
-            sm.reset();
-            tlStateMachine.remove();
+            releaseStateMachine(sm);
+        }
+    }
+
+    private static JsonStateMachine acquireStateMachine() {
+        JsonStateMachine sm = tlStateMachine.get();
+        // Parsing can be nested, e.g., when computing the default values of record fields.
+        if (sm.inUse) {
+            sm = new JsonStateMachine();
         }
+        sm.inUse = true;
+        return sm;
+    }
+
+    private static void releaseStateMachine(JsonStateMachine sm) {
+        // Need to reset the state machine before leaving. Otherwise, references to the created
+        // values will be maintained and the java GC will not happen properly.
+        sm.reset();
+        sm.inUse = false;
     }
 
     /**
@@ -222,6 +289,11 @@ public class JsonParser {
         private int nodesStackSizeWhenUnionStarts = -1; // when we come across a union target type we set this value
         private static JsonUtils.NonStringValueProcessingMode mode =
                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+        private static final int MAX_FIELD_NAME_TABLES = 256;
+        // Field name tables of the record types parsed in this thread, see FieldNameTable.
+        private final Map<BRecordType, FieldNameTable> fieldNameTables = new IdentityHashMap<>();
+        private long bufferedIntValue;
+        private boolean inUse = false;
 
         JsonStateMachine() {
             super("input stream", new FieldNameState(), new StringValueState(), new StringFieldValueState(),
@@ -240,6 +312,78 @@ public class JsonParser {
             this.targetTypes.add(TypeUtils.getImpliedType(type));
         }
 
+        @Override
+        public void processFieldName() {
+            Type parentTargetType = this.targetTypes.get(this.targetTypes.size() - 1);
+            if (parentTargetType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                String fieldName = getFieldNameTable((BRecordType) parentTargetType)
+                        .lookup(this.charBuff, this.charBuffIndex);
+                if (fieldName != null) {
+                    this.charBuffIndex = 0;
+                    this.fieldNames.push(fieldName);
+                    return;
+                }
+            }
+            super.processFieldName();
+        }
+
+        private FieldNameTable getFieldNameTable(BRecordType recordType) {
+            FieldNameTable table = this.fieldNameTables.get(recordType);
+            Map<String, Field> fields = recordType.getFields();
+            if (table == null || table.fields != fields) {
+                if (this.fieldNameTables.size() >= MAX_FIELD_NAME_TABLES) {
+                    this.fieldNameTables.clear();
+                }
+                table = new FieldNameTable(fields);
+                this.fieldNameTables.put(recordType, table);
+            }
+            return table;
+        }
+
+        /**
+         * Checks whether the buffered characters are an int literal which can be parsed without creating a string.
+         * Such literals have at most 18 digits, so they cannot overflow. If so, the value is kept in
+         * {@code bufferedIntValue}.
+         *
+         * @return true if the buffered characters are such an int literal
+         */
+        private boolean isBufferedIntLiteral() {
+            int length = this.charBuffIndex;
+            int i = length > 0 && this.charBuff[0] == '-' ? 1 : 0;
+            if (length == i || length - i > 18) {
+                return false;
+            }
+            long value = 0;
+            for (; i < length; i++) {
+                char ch = this.charBuff[i];
+                if (ch < '0' || ch > '9') {
+                    return false;
+                }
+                value = value * 10 + (ch - '0');
+            }
+            this.bufferedIntValue = this.charBuff[0] == '-' ? -value : value;
+            return true;
+        }
+
+        private Object getBufferedValueAsJson() throws ParserException {
+            // Negative zero is a float in JSON, so it is left to the string based conversion.
+            if (mode == JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING && isBufferedIntLiteral() &&
+                    (this.bufferedIntValue != 0 || this.charBuff[0] != '-')) {
+                this.charBuffIndex = 0;
+                return this.bufferedIntValue;
+            }
+            return getNonStringValueAsJson(value());
+        }
+
+        private Object convertBufferedValue(Type targetType) throws ParserException {
+            if (TypeTags.isIntegerTypeTag(targetType.getTag()) && isBufferedIntLiteral() &&
+                    TypeConverter.isConvertibleToIntRange(targetType, this.bufferedIntValue)) {
+                this.charBuffIndex = 0;
+                return this.bufferedIntValue;
+            }
+            return convertValues(targetType, value());
+        }
+
         private static ParserException getConversionError(Type targetType, String inputValue) {
             return new ParserException("value '" + inputValue + "' cannot be converted to '" + targetType + "'");
         }
@@ -916,56 +1060,55 @@ public class JsonParser {
             }
         }
 
-        private void processNonStringValueAsJson(String str, ValueType type) throws ParserException {
-            setValueToJsonType(type, getNonStringValueAsJson(str));
+        private void processNonStringValueAsJson(ValueType type) throws ParserException {
+            setValueToJsonType(type, getBufferedValueAsJson());
         }
 
         void processNonStringValue(ValueType type) throws ParserException {
-            String str = value();
             Type targetType = this.targetTypes.get(this.targetTypes.size() - 1);
             Type referredType = TypeUtils.getImpliedType(targetType);
             switch (referredType.getTag()) {
                 case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG -> {
-                    processNonStringValueAsJson(str, type);
+                    processNonStringValueAsJson(type);
                     if (this.nodesStackSizeWhenUnionStarts == -1) {
                         this.currentJsonNode = convert(this.currentJsonNode, targetType);
                     }
                 }
                 case TypeTags.ANYDATA_TAG, TypeTags.JSON_TAG, TypeTags.TABLE_TAG ->
-                        processNonStringValueAsJson(str, type);
-                case TypeTags.ARRAY_TAG -> processArrayType(str, (ArrayType) referredType);
-                case TypeTags.TUPLE_TAG -> processTupleType(str, (TupleType) referredType);
-                case TypeTags.MAP_TAG -> processMapType(str, (MapType) referredType);
-                case TypeTags.RECORD_TYPE_TAG -> processRecordType(str, (BRecordType) referredType);
-                default -> this.currentJsonNode = convertValues(referredType, str);
+                        processNonStringValueAsJson(type);
+                case TypeTags.ARRAY_TAG -> processArrayElement((ArrayType) referredType);
+                case TypeTags.TUPLE_TAG -> processTupleMember((TupleType) referredType);
+                case TypeTags.MAP_TAG -> processMapEntry((MapType) referredType);
+                case TypeTags.RECORD_TYPE_TAG -> processRecordField((BRecordType) referredType);
+                default -> this.currentJsonNode = convertBufferedValue(referredType);
             }
         }
 
-        private void processRecordType(String str, BRecordType referredType) throws ParserException {
+        private void checkCurrentJsonNode() throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
+        }
+
+        private void processRecordField(BRecordType referredType) throws ParserException {
+            checkCurrentJsonNode();
             String fieldName = this.fieldNames.pop();
             Map<String, Field> fields = referredType.getFields();
             Field field = fields.get(fieldName);
             Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+                    StringUtils.fromString(fieldName), convertBufferedValue(TypeUtils.getImpliedType(fieldType)));
         }
 
-        private void processMapType(String str, MapType referredType) throws ParserException {
-            if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
-            }
+        private void processMapEntry(MapType referredType) throws ParserException {
+            checkCurrentJsonNode();
             Type constrainedType = TypeUtils.getImpliedType(referredType.getConstrainedType());
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(this.fieldNames.pop()), convertValues(constrainedType, str));
+                    StringUtils.fromString(this.fieldNames.pop()), convertBufferedValue(constrainedType));
         }
 
-        private void processTupleType(String str, TupleType referredType) throws ParserException {
-            if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
-            }
+        private void processTupleMember(TupleType referredType) throws ParserException {
+            checkCurrentJsonNode();
             int tupleListIndex = this.listIndices.get(this.listIndices.size() - 1);
             List<Type> tupleTypes = referredType.getTupleTypes();
             int targetTupleSize = tupleTypes.size();
@@ -982,17 +1125,15 @@ public class JsonParser {
                 tupleElementType = TypeUtils.getImpliedType(tupleTypes.get(tupleListIndex));
             }
             ((TupleValueImpl) this.currentJsonNode).addRefValueForcefully(tupleListIndex,
-                    convertValues(tupleElementType, str));
+                    convertBufferedValue(tupleElementType));
             this.listIndices.set(this.listIndices.size() - 1, tupleListIndex + 1);
         }
 
-        private void processArrayType(String str, ArrayType referredType) throws ParserException {
-            if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
-            }
+        private void processArrayElement(ArrayType referredType) throws ParserException {
+            checkCurrentJsonNode();
             int listIndex = this.listIndices.get(this.listIndices.size() - 1);
             Type elementType = TypeUtils.getImpliedType(referredType.getElementType());
-            ((ArrayValueImpl) this.currentJsonNode).addRefValue(listIndex, convertValues(elementType, str));
+            ((ArrayValueImpl) this.currentJsonNode).addRefValue(listIndex, convertBufferedValue(elementType));
             this.listIndices.set(this.listIndices.size() - 1, listIndex + 1);
         }
 
@@ -1168,7 +1309,68 @@ public class JsonParser {
         }
     }
 
+    /**
+     * A lookup table of the field names of a record type, which finds the field name matching a sequence of
+     * characters without creating a string. The field names found this way are the keys of the field map of the
+     * record type, so the subsequent field lookups do not need to hash the name again.
+     */
+    private static final class FieldNameTable {
 
+        private final Map<String, Field> fields;
+        private final String[] names;
 
-}
+        FieldNameTable(Map<String, Field> fields) {
+            this.fields = fields;
+            int capacity = 8;
+            while (capacity < fields.size() * 2) {
+                capacity <<= 1;
+            }
+            this.names = new String[capacity];
+            int mask = capacity - 1;
+            for (String name : fields.keySet()) {
+                int slot = name.hashCode() & mask;
+                while (this.names[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.names[slot] = name;
+            }
+        }
 
+        /**
+         * Returns the field name matching the given characters.
+         *
+         * @param chars  the buffer containing the characters
+         * @param length the number of characters
+         * @return the matching field name, or null if there is no such field
+         */
+        String lookup(char[] chars, int length) {
+            // Same as the hash code of the string of the characters.
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + chars[i];
+            }
+            int mask = this.names.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                String name = this.names[slot];
+                if (name == null) {
+                    return null;
+                }
+                if (matches(name, chars, length)) {
+                    return name;
+                }
+            }
+        }
+
+        private static boolean matches(String name, char[] chars, int length) {
+            if (name.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (name.charAt(i) != chars[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -48,6 +48,9 @@ public abstract class StateMachine {
     static final String NULL = "null";
     static final String TRUE = "true";
     static final String FALSE = "false";
+    private static final int INITIAL_CHAR_BUFF_SIZE = 1024;
+    // Larger buffers grown for long tokens are not retained once parsing is completed.
+    private static final int MAX_RETAINED_CHAR_BUFF_SIZE = 64 * 1024;
     static final State DOC_START_STATE = new DocumentStartState();
     static final State DOC_END_STATE = new DocumentEndState();
     static final State FIRST_FIELD_READY_STATE = new FirstFieldReadyState();
@@ -79,7 +82,7 @@ public abstract class StateMachine {
     protected final Deque<String> fieldNames = new ArrayDeque<>();
 
     protected final StringBuilder hexBuilder = new StringBuilder(4);
-    protected char[] charBuff = new char[1024];
+    protected char[] charBuff = new char[INITIAL_CHAR_BUFF_SIZE];
     protected int charBuffIndex;
 
     protected int index = 0;
@@ -105,6 +108,11 @@ public abstract class StateMachine {
         this.column = 0;
         this.nodesStack.clear();
         this.fieldNames.clear();
+        this.hexBuilder.setLength(0);
+        this.charBuffIndex = 0;
+        if (this.charBuff.length > MAX_RETAINED_CHAR_BUFF_SIZE) {
+            this.charBuff = new char[INITIAL_CHAR_BUFF_SIZE];
+        }
     }
 
     public static boolean isWhitespace(char ch) {
@@ -126,24 +134,54 @@ public abstract class StateMachine {
             char[] buff = new char[1024];
             int count;
             while ((count = reader.read(buff)) > 0) {
-                this.index = 0;
-                while (this.index < count) {
-                    currentState = currentState.transition(this, buff, this.index, count);
-                }
+                currentState = transition(currentState, buff, 0, count);
             }
-            currentState = currentState.transition(this, new char[]{EOF}, 0, 1);
-            if (currentState != DOC_END_STATE) {
-                throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
-            }
-            return this.currentJsonNode;
+            return endDocument(currentState);
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
         } catch (ParserException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line
-                                                                  + " column: " + this.column));
+            throw getParserError(e);
         }
     }
 
+    /**
+     * Parses the characters in the given range of the buffer, which should contain the whole document.
+     *
+     * @param buff  the buffer containing the document
+     * @param start the start index of the document in the buffer
+     * @param end   the end index (exclusive) of the document in the buffer
+     * @return the parsed value
+     * @throws BError for any parsing error
+     */
+    public Object execute(char[] buff, int start, int end) throws BError {
+        try {
+            return endDocument(transition(DOC_START_STATE, buff, start, end));
+        } catch (ParserException e) {
+            throw getParserError(e);
+        }
+    }
+
+    private State transition(State currentState, char[] buff, int start, int end) throws ParserException {
+        this.index = start;
+        while (this.index < end) {
+            currentState = currentState.transition(this, buff, this.index, end);
+        }
+        return currentState;
+    }
+
+    private Object endDocument(State currentState) throws ParserException {
+        currentState = currentState.transition(this, new char[]{EOF}, 0, 1);
+        if (currentState != DOC_END_STATE) {
+            throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+        }
+        return this.currentJsonNode;
+    }
+
+    private BError getParserError(ParserException e) {
+        return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line
+                                                               + " column: " + this.column));
+    }
+
     public void append(char ch) {
         try {
             this.charBuff[this.charBuffIndex] = ch;
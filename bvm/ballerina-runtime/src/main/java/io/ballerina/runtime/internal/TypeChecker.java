@@ -62,6 +62,7 @@ import io.ballerina.runtime.internal.types.BTypeReferenceType;
 import io.ballerina.runtime.internal.types.BTypedescType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.types.BXmlType;
+import io.ballerina.runtime.internal.types.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -565,6 +566,65 @@ public class TypeChecker {
             return true;
         }
 
+        // Only the results of checks that do not depend on unresolved type pairs are exact, and hence can be cached.
+        if (unresolvedTypes == null && sourceType instanceof BType bSourceType &&
+                isTypeCheckCacheable(sourceType.getTag(), targetType.getTag())) {
+            return checkIsTypeWithCache(bSourceType, targetType);
+        }
+
+        return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+    }
+
+    private static boolean checkIsTypeWithCache(BType sourceType, Type targetType) {
+        TypeCheckCache cache = sourceType.getTypeCheckCache();
+        Boolean cachedResult = cache.get(targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        int epoch = TypeCheckCache.getEpoch();
+        boolean result = checkIsTypeUncached(sourceType, targetType, null);
+        cache.put(targetType, result, epoch);
+        return result;
+    }
+
+    private static boolean isCachedSubType(Type sourceType, Type targetType) {
+        return sourceType instanceof BType bSourceType &&
+                Boolean.TRUE.equals(bSourceType.getTypeCheckCache().get(targetType));
+    }
+
+    // Checks between simple types are cheaper than a cache lookup, so only checks involving structured types, unions
+    // and type references are cached.
+    private static boolean isTypeCheckCacheable(int sourceTypeTag, int targetTypeTag) {
+        return isStructuredOrReferenceTypeTag(sourceTypeTag) || isStructuredOrReferenceTypeTag(targetTypeTag);
+    }
+
+    private static boolean isStructuredOrReferenceTypeTag(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.UNION_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.SERVICE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.ERROR_TAG:
+            case TypeTags.FUNCTION_POINTER_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.TYPEDESC_TAG:
+            case TypeTags.INTERSECTION_TAG:
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean checkIsTypeUncached(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -705,6 +765,11 @@ public class TypeChecker {
             case TypeTags.READONLY_TAG:
                 return isInherentlyImmutableType(sourceType) || sourceType.isReadOnly();
             default:
+                // A cached result of the type based check is reused, but a missing one is not computed here, as the
+                // value based check below is the cheaper one to fail.
+                if (unresolvedTypes == null && isCachedSubType(sourceType, targetType)) {
+                    return true;
+                }
                 return checkIsRecursiveTypeOnValue(sourceVal, sourceType, targetType, sourceTypeTag, targetTypeTag,
                                                    unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
         }
@@ -25,8 +25,6 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.util.PrimitiveIterator;
-
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_NULL;
 
 /**
@@ -250,25 +248,32 @@ public class ValueComparisonUtils {
                 TypeChecker.getType(rhsValue));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
+    /**
+     * Compares two strings by their code points. Comparing UTF-16 code units gives the same result, except that the
+     * surrogates (U+D800 to U+DFFF) of supplementary characters have to be ordered after U+E000 to U+FFFF.
+     *
+     * @param str1 The string on the left hand side
+     * @param str2 The string on the right hand side
+     * @return A negative integer, zero or a positive integer as the first string is less than, equal to or greater
+     * than the second string.
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char char1 = str1.charAt(i);
+            char char2 = str2.charAt(i);
+            if (char1 != char2) {
+                if (char1 >= Character.MIN_SURROGATE && char2 >= Character.MIN_SURROGATE) {
+                    return Integer.compare(fixupSurrogateOrder(char1), fixupSurrogateOrder(char2));
+                }
+                return Character.compare(char1, char2);
             }
         }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
+        return Integer.compare(str1.length(), str2.length());
+    }
+
+    private static int fixupSurrogateOrder(char c) {
+        return Character.isSurrogate(c) ? c + 0x2000 : c - 0x800;
     }
 
     private static int compareFloatValues(double lhsValue, double rhsValue, boolean inRelationalExpr,
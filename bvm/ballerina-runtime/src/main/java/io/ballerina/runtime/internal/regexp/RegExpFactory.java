@@ -38,6 +38,10 @@ import io.ballerina.runtime.internal.values.RegExpSequence;
 import io.ballerina.runtime.internal.values.RegExpTerm;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 /**
  * Common utility methods used for regular expression manipulation.
  *
@@ -45,6 +49,9 @@ import io.ballerina.runtime.internal.values.RegExpValue;
  */
 public class RegExpFactory {
 
+    private static final int MAX_CACHED_PATTERNS = 1024;
+    private static final Map<PatternKey, Pattern> patternCache = new ConcurrentHashMap<>();
+
     private RegExpFactory() {
     }
 
@@ -146,6 +153,31 @@ public class RegExpFactory {
         return new RegExpValue(disjunction);
     }
 
+    /**
+     * Returns the compiled java pattern for the given regular expression, after mapping the ballerina regexp
+     * constructs to java. Compiled patterns are cached against the regular expression string, since regular
+     * expression literals evaluated repeatedly create a new value each time.
+     *
+     * @param regExpValue regular expression
+     * @param flags       java pattern match flags
+     * @return compiled pattern
+     */
+    public static Pattern getPattern(RegExpValue regExpValue, int flags) {
+        PatternKey key = new PatternKey(regExpValue.stringValue(null), flags);
+        Pattern pattern = patternCache.get(key);
+        if (pattern != null) {
+            return pattern;
+        }
+        String patternStr = StringUtils.getStringValue(translateRegExpConstructs(regExpValue));
+        pattern = Pattern.compile(patternStr, flags);
+        if (patternCache.size() >= MAX_CACHED_PATTERNS) {
+            // Patterns created from dynamic strings should not grow the cache unbounded.
+            patternCache.clear();
+        }
+        patternCache.put(key, pattern);
+        return pattern;
+    }
+
     private static RegExpDisjunction getNonCapturingGroupDisjunction() {
         // Create a disjunction for non-capturing group regex: (?:)
         RegExpFlagOnOff flagsOnOff = new RegExpFlagOnOff("");
@@ -238,4 +270,7 @@ public class RegExpFactory {
 
         return originalValue;
     }
+
+    private record PatternKey(String regExp, int flags) {
+    }
 }
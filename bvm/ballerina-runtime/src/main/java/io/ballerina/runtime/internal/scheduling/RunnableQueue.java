@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked up by the strand worker threads of a {@link Scheduler}.
+ *
+ * @since 2201.10.0
+ */
+interface RunnableQueue {
+
+    /**
+     * Registers the calling thread as the strand worker with the given id. Must be called by each worker thread
+     * before it starts taking groups from the queue.
+     *
+     * @param workerId id of the worker, in the range [0, number of workers)
+     */
+    void registerWorker(int workerId);
+
+    /**
+     * Adds a group that is ready for execution. Implementations may keep the group close to the calling worker.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed by the given worker, waiting if none is available.
+     *
+     * @param workerId id of the calling worker
+     * @return next group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take(int workerId) throws InterruptedException;
+
+    /**
+     * Adds one {@link ItemGroup#POISON_PILL} for each of the given number of workers, so that every worker exits.
+     *
+     * @param numWorkers number of workers to be stopped
+     */
+    void poison(int numWorkers);
+
+    boolean isEmpty();
+}
@@ -36,9 +36,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -55,6 +53,9 @@ import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
 public class Scheduler {
 
     private static final PrintStream err = System.err;
+    private static final String SCHEDULER_MODE_SHARED = "shared";
+    private static final String SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    private static final String SCHEDULER_MODE_VIRTUAL_THREADS = "virtual-threads";
 
     /**
      * Scheduler does not get killed if the immortal value is true. Specific to services.
@@ -64,7 +65,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
@@ -74,6 +75,13 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable.
+     * Default is a single runnable queue shared by all the strand workers.
+     * Supported modes are 'shared', 'work-stealing' and 'virtual-threads'.
+     */
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -100,8 +108,10 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
+        // Groups run on their own virtual threads, hence the calling thread is the only strand worker needed.
+        this.numThreads = runnableList instanceof VirtualThreadRunnableQueue ? 1 : numThreads;
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -269,9 +279,10 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -282,9 +293,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
@@ -293,12 +304,12 @@ public class Scheduler {
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
+        runnableList.registerWorker(workerId);
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = runnableList.take(workerId);
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -308,38 +319,57 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Executes the items of a group until there are no runnable items left in it.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        boolean isItemsEmpty = group.items.isEmpty();
+        while (!isItemsEmpty) {
+            Object result = null;
+            Throwable panic = null;
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+            item = group.get();
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
+            }
+            postProcess(item, result, panic);
+            group.lock();
+            if ((isItemsEmpty = group.items.empty())) {
+                group.scheduled.set(false);
             }
+            group.unlock();
+        }
+    }
+
+    /**
+     * Defensive programming to prevent unforeseen errors.
+     */
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
         }
     }
 
@@ -518,9 +548,7 @@ public class Scheduler {
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
-        }
+        runnableList.poison(numThreads);
     }
 
     public void setListenerDeclarationFound(boolean listenerDeclarationFound) {
@@ -551,6 +579,29 @@ public class Scheduler {
         return poolSize;
     }
 
+    private RunnableQueue createRunnableQueue(int numThreads) {
+        if (schedulerModeConf == null || SCHEDULER_MODE_SHARED.equals(schedulerModeConf)) {
+            return new SharedRunnableQueue();
+        }
+        if (SCHEDULER_MODE_WORK_STEALING.equals(schedulerModeConf)) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        if (SCHEDULER_MODE_VIRTUAL_THREADS.equals(schedulerModeConf)) {
+            if (VirtualThreadRunnableQueue.isSupported()) {
+                return new VirtualThreadRunnableQueue(this::runGroupSafely);
+            }
+            // Log and continue with default
+            err.println("ballerina: scheduler mode '" + SCHEDULER_MODE_VIRTUAL_THREADS + "' in system variable:" +
+                    RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + " requires Java 21 or later");
+            return new SharedRunnableQueue();
+        }
+        // Log and continue with default
+        err.println("ballerina: unsupported scheduler mode '" + schedulerModeConf + "' in system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", expected one of '" + SCHEDULER_MODE_SHARED +
+                "', '" + SCHEDULER_MODE_WORK_STEALING + "', '" + SCHEDULER_MODE_VIRTUAL_THREADS + "'");
+        return new SharedRunnableQueue();
+    }
+
     public void gracefulExit() {
         if (!this.immortal) {
             this.poison();
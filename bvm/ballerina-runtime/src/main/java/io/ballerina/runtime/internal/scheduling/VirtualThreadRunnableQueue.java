@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} that runs every group on its own JDK virtual thread instead of handing it to a fixed pool
+ * of strand workers. A strand that blocks inside a Java interop call then only parks its virtual thread, without
+ * holding up a platform thread.
+ * <p>
+ * A group is added only when it is not already scheduled, so its items still run one at a time. The strand workers
+ * of the {@link Scheduler} only wait on this queue for the poison pills.
+ * <p>
+ * The runtime is compiled for Java 17, hence the virtual thread factory is looked up reflectively. Use
+ * {@link #isSupported()} before creating an instance.
+ *
+ * @since 2201.10.0
+ */
+class VirtualThreadRunnableQueue implements RunnableQueue {
+
+    private static final String THREAD_NAME_PREFIX = "jbal-strand-vthread-";
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+    private final Consumer<ItemGroup> groupRunner;
+    private final BlockingQueue<ItemGroup> poisonPills = new LinkedBlockingQueue<>();
+
+    VirtualThreadRunnableQueue(Consumer<ItemGroup> groupRunner) {
+        this.groupRunner = groupRunner;
+    }
+
+    static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        // groups do not run on the strand workers
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        VIRTUAL_THREAD_FACTORY.newThread(() -> groupRunner.accept(group)).start();
+    }
+
+    @Override
+    public ItemGroup take(int workerId) throws InterruptedException {
+        return poisonPills.take();
+    }
+
+    @Override
+    public void poison(int numWorkers) {
+        for (int i = 0; i < numWorkers; i++) {
+            poisonPills.add(POISON_PILL);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return poisonPills.isEmpty();
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // Virtual threads are not available (before Java 21) or not enabled (preview in Java 19 and 20)
+            return null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} where each strand worker owns a deque of groups and steals from the other workers when its
+ * own deque runs dry.
+ * <p>
+ * Groups added from a worker thread are pushed to the head of that worker's deque, so that rescheduled strands and
+ * strands scheduled to the same group are picked up again by the same worker. Idle workers steal the oldest groups
+ * from the tail of the other deques. Groups added from non-worker threads (e.g. listener threads) and the poison
+ * pills go through a shared queue.
+ *
+ * @since 2201.10.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private final Deque<ItemGroup>[] workerQueues;
+    private final Queue<ItemGroup> sharedQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<ItemGroup>> localQueue = new ThreadLocal<>();
+
+    /**
+     * Number of workers that have found no work and are about to wait, or are waiting on {@code wakeUpSignal}.
+     */
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final Semaphore wakeUpSignal = new Semaphore(0);
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunnableQueue(int numWorkers) {
+        this.workerQueues = new Deque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        localQueue.set(workerQueues[workerId]);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Deque<ItemGroup> queue = localQueue.get();
+        if (queue == null) {
+            sharedQueue.add(group);
+        } else {
+            queue.addFirst(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take(int workerId) throws InterruptedException {
+        while (true) {
+            ItemGroup group = poll(workerId);
+            if (group != null) {
+                return group;
+            }
+            // Register as idle before the re-check, so that a concurrent add either becomes visible to the
+            // re-check or releases a permit for this worker.
+            idleWorkers.incrementAndGet();
+            try {
+                group = poll(workerId);
+                if (group != null) {
+                    return group;
+                }
+                wakeUpSignal.acquire();
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void poison(int numWorkers) {
+        for (int i = 0; i < numWorkers; i++) {
+            sharedQueue.add(POISON_PILL);
+        }
+        wakeUpSignal.release(numWorkers);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!sharedQueue.isEmpty()) {
+            return false;
+        }
+        for (Deque<ItemGroup> queue : workerQueues) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(int workerId) {
+        ItemGroup group = workerQueues[workerId].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = sharedQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(workerId);
+    }
+
+    private ItemGroup steal(int workerId) {
+        int numWorkers = workerQueues.length;
+        for (int i = 1; i < numWorkers; i++) {
+            ItemGroup group = workerQueues[(workerId + i) % numWorkers].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        // Avoid piling up permits when there are more adds than idle workers, which would only cause spurious
+        // wake-ups later.
+        if (wakeUpSignal.availablePermits() < idleWorkers.get()) {
+            wakeUpSignal.release();
+        }
+    }
+}
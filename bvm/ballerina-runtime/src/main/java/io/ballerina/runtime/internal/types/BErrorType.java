@@ -49,7 +49,13 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
+        boolean changed = !BTypeIdSet.hasSameIds(this.typeIdSet, typeIdSet);
         this.typeIdSet = typeIdSet;
+        // Error values set the type ids of their type on creation, which mostly sets the same type ids again,
+        // so the cached results are kept unless the type ids change
+        if (changed) {
+            TypeCheckCache.invalidateAll();
+        }
     }
 
     @Override
@@ -68,7 +74,11 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
+        if (this.detailType == detailType) {
+            return;
+        }
         this.detailType = detailType;
+        TypeCheckCache.invalidateAll();
     }
 
     @Override
@@ -147,6 +147,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        TypeCheckCache.invalidateAll();
     }
 
     public void setInitMethod(MethodType initMethod) {
@@ -213,7 +214,11 @@ public class BObjectType extends BStructureType implements ObjectType {
     }
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
+        boolean changed = !BTypeIdSet.hasSameIds(this.typeIdSet, typeIdSet);
         this.typeIdSet = typeIdSet;
+        if (changed) {
+            TypeCheckCache.invalidateAll();
+        }
     }
 
     public BObjectType duplicate() {
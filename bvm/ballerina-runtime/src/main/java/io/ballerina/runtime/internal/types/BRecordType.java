@@ -206,6 +206,11 @@ public class BRecordType extends BStructureType implements RecordType {
         return restFieldType;
     }
 
+    public void setRestFieldType(Type restFieldType) {
+        this.restFieldType = restFieldType;
+        TypeCheckCache.invalidateAll();
+    }
+
     public int getTypeFlags() {
         return typeFlags;
     }
@@ -44,6 +44,7 @@ public abstract class BType implements Type {
     private int hashCode;
     private Type cachedReferredType = null;
     private Type cachedImpliedType = null;
+    private TypeCheckCache typeCheckCache = null;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -212,4 +213,12 @@ public abstract class BType implements Type {
     public Type getCachedImpliedType() {
         return this.cachedImpliedType;
     }
+
+    public TypeCheckCache getTypeCheckCache() {
+        // Creating more than one cache in a race only loses some cached results.
+        if (this.typeCheckCache == null) {
+            this.typeCheckCache = new TypeCheckCache();
+        }
+        return this.typeCheckCache;
+    }
 }
@@ -69,6 +69,13 @@ public class BTypeIdSet implements TypeIdSet {
         return ids;
     }
 
+    static boolean hasSameIds(BTypeIdSet typeIdSet1, BTypeIdSet typeIdSet2) {
+        if (typeIdSet1 == typeIdSet2) {
+            return true;
+        }
+        return typeIdSet1 != null && typeIdSet2 != null && typeIdSet1.ids.equals(typeIdSet2.ids);
+    }
+
     /**
      * Represent Ballerina distinct type id.
      *
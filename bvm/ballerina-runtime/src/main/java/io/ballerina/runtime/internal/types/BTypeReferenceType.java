@@ -49,6 +49,7 @@ public class BTypeReferenceType extends BAnnotatableType implements Intersectabl
 
     public void setReferredType(Type referredType) {
         this.referredType = referredType;
+        TypeCheckCache.invalidateAll();
     }
 
     @Override
@@ -167,6 +167,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        TypeCheckCache.invalidateAll();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -233,12 +234,14 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         this.memberTypes.add(type);
         setFlagsBasedOnMembers();
         this.originalMemberTypes.add(type);
+        TypeCheckCache.invalidateAll();
     }
 
     public void addMembers(Type... types) {
         this.memberTypes.addAll(Arrays.asList(types));
         setFlagsBasedOnMembers();
         this.originalMemberTypes.addAll(Arrays.asList(types));
+        TypeCheckCache.invalidateAll();
     }
 
     private void setFlagsBasedOnMembers() {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded cache of the results of type checks where a given type is the source type. The entries are keyed on the
+ * identity of the target type and are direct mapped, so a lookup does not allocate.
+ * <p>
+ * Types are mutable while they are being defined (e.g., members of recursive types are set after the type is
+ * created), so a result computed before a type definition is completed may not hold afterwards. Any such change
+ * invalidates all the cached results, see {@link #invalidateAll()}.
+ *
+ * @since 2201.10.0
+ */
+public class TypeCheckCache {
+
+    private static final int CAPACITY = 16;
+    private static final AtomicInteger epoch = new AtomicInteger();
+
+    // Entries are immutable, so a racy read of a slot either sees a complete entry or a stale one.
+    private final Entry[] entries = new Entry[CAPACITY];
+
+    /**
+     * Returns the current epoch, which should be read before computing a result to be cached.
+     *
+     * @return the current epoch
+     */
+    public static int getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Invalidates the cached results of all the types. This should be called whenever a type is modified after it
+     * has been created.
+     */
+    public static void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * Returns the cached result of checking against the given target type.
+     *
+     * @param targetType target type
+     * @return the cached result, or null if there is no valid cached result
+     */
+    public Boolean get(Type targetType) {
+        Entry entry = entries[indexOf(targetType)];
+        if (entry == null || entry.targetType() != targetType || entry.epoch() != epoch.get()) {
+            return null;
+        }
+        return entry.result();
+    }
+
+    /**
+     * Caches the result of checking against the given target type.
+     *
+     * @param targetType target type
+     * @param result     result of the type check
+     * @param epoch      epoch read before computing the result
+     */
+    public void put(Type targetType, boolean result, int epoch) {
+        entries[indexOf(targetType)] = new Entry(targetType, result, epoch);
+    }
+
+    private static int indexOf(Type targetType) {
+        int hash = System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & (CAPACITY - 1);
+    }
+
+    private record Entry(Type targetType, boolean result, int epoch) {
+    }
+}
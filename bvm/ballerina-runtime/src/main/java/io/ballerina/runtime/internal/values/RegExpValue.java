@@ -20,10 +20,12 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 
@@ -40,6 +42,7 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    private volatile Pattern pattern;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -50,6 +53,21 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the java pattern for this regular expression, compiled with unicode character classes. The pattern is
+     * created on first use and reused afterwards, as regular expression values are immutable.
+     *
+     * @return compiled pattern
+     */
+    public Pattern getPattern() {
+        Pattern compiledPattern = this.pattern;
+        if (compiledPattern == null) {
+            compiledPattern = RegExpFactory.getPattern(this, Pattern.UNICODE_CHARACTER_CLASS);
+            this.pattern = compiledPattern;
+        }
+        return compiledPattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
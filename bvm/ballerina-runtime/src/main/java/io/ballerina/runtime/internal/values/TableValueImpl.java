@@ -53,16 +53,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.TreeMap;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -86,20 +81,28 @@ import static io.ballerina.runtime.internal.util.StringUtils.getStringVal;
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_INDEX_CAPACITY = 16;
+    private static final int MIN_REMOVED_ROWS_TO_PURGE = 16;
+    private static final Row<?, ?> REMOVED_SLOT = new Row<>(null, null, 0);
+
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private Map<Long, K> indexToKeyMap;
-    private Map<K, Long> keyToIndexMap;
-    private Map<K, V> keyValues;
-    private long noOfAddedEntries = 0;
+    // Rows are linked in insertion order, which is the iteration order of the table.
+    private Row<K, V> head;
+    private Row<K, V> tail;
+    private int rowCount = 0;
+    // Removed rows that are still linked, see Row.
+    private int removedRowCount = 0;
+
+    // Open addressing (linear probing) hash index over the rows of a keyed table, null for tables without a key.
+    private Row<K, V>[] keyIndex;
+    // Number of index slots holding either a row or REMOVED_SLOT.
+    private int usedIndexSlots = 0;
 
     private boolean nextKeySupported;
 
@@ -109,12 +112,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType tableType) {
         this.type = this.tableType = tableType;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new TreeMap<>();
         this.fieldNames = tableType.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (tableType.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
@@ -144,6 +142,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         if (this.fieldNames.length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.keyIndex = null;
             this.valueHolder = new ValueHolder();
         }
     }
@@ -250,19 +249,22 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(rowCount);
+        for (Row<K, V> row = head; row != null; row = row.next) {
+            if (!row.removed) {
+                entrySet.add(new AbstractMap.SimpleEntry<>(row.key, row.value));
+            }
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(rowCount);
+        for (Row<K, V> row = head; row != null; row = row.next) {
+            if (!row.removed) {
+                newValues.add(row.value);
+            }
         }
         return newValues;
     }
@@ -270,11 +272,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        // Mark the rows as removed, so that any ongoing iteration ends.
+        for (Row<K, V> row = head; row != null; row = row.next) {
+            row.markRemoved();
+        }
+        head = tail = null;
+        rowCount = 0;
+        removedRowCount = 0;
+        if (keyIndex != null) {
+            keyIndex = createKeyIndex(INITIAL_INDEX_CAPACITY);
+            usedIndexSlots = 0;
+        }
     }
 
     @Override
@@ -303,7 +311,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return indexToKeyMap.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rowCount == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -331,17 +339,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        Object[] keys = new Object[rowCount];
+        int i = 0;
+        for (Row<K, V> row = head; row != null; row = row.next) {
+            if (!row.removed) {
+                keys[i++] = row.key;
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return rowCount;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rowCount == 0;
     }
 
     @Override
@@ -369,8 +384,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -380,43 +394,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(getStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (int i = 0; i < keysList.length; i++) {
             keyJoiner.add(keysList[i]);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -505,37 +502,45 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator implements IteratorValue {
-        private long cursor;
+        // Last row returned by the iterator, null before the first row.
+        private Row<K, V> lastRow;
 
         TableIterator() {
-            this.cursor = 0;
+            this.lastRow = null;
         }
 
         @Override
         public Object next() {
-            if (indexToKeyMap.containsKey(cursor)) {
-                K key = indexToKeyMap.get(cursor);
-                V value = keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            Row<K, V> row = nextRow();
+            if (row == null) {
+                return null;
             }
+            lastRow = row;
+            K key = row.key;
+            V value = row.value;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries && values.size() != 0;
+            return nextRow() != null;
+        }
+
+        private Row<K, V> nextRow() {
+            Row<K, V> row = lastRow == null ? head : lastRow.next;
+            while (row != null && row.removed) {
+                row = row.next;
+            }
+            return row;
         }
     }
 
@@ -557,18 +562,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            // Rows of a table without a key are keyed by the value itself.
+            appendRow((K) data, data, 0);
             return data;
         }
 
@@ -593,6 +588,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public KeyHashValueHolder() {
             super();
+            keyIndex = createKeyIndex(INITIAL_INDEX_CAPACITY);
             if (fieldNames.length > 1) {
                 keyWrapper = new MultiKeyWrapper();
             } else {
@@ -604,46 +600,29 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
+            int hash = indexHash(TableUtils.hash(key, null));
 
-            if (containsKey((K) key)) {
+            if (findSlot(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (indexToKeyMap.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rowCount == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-
-            if (entries.containsKey(hash)) {
-                updateIndexKeyMappings(hash, key, data);
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                return;
-            }
-
-            putNewData(key, data, entry, hash);
+            appendRow(key, data, hash);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
+            int slot = findSlot(key, indexHash(TableUtils.hash(key, null)));
+            if (slot < 0) {
                 return null;
             }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            return keyIndex[slot].value;
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
             Long actualHash = TableUtils.hash(actualKey, null);
             Long hash = TableUtils.hash(key, null);
@@ -653,97 +632,38 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V putNewData(K key, V value, Map.Entry<K, V> entry, Long hash) {
-            List<V> data = new ArrayList<>();
-            data.add(value);
-            updateIndexKeyMappings(hash, key, value);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            values.put(hash, data);
-            return data.get(0);
+            return putRow(key, data, indexHash(hash));
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
+            return putRow(key, data, indexHash(TableUtils.hash(key, null)));
+        }
 
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
+        private V putRow(K key, V data, int hash) {
+            int slot = findSlot(key, hash);
+            if (slot < 0) {
+                return appendRow(key, data, hash);
             }
-            return putNewData((K) key, data, entry, hash);
-        }
-
-        private V updateExistingEntry(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            updateIndexKeyMappings(hash, key, data);
-            List<V> valueList = values.get(hash);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> extEntry: entryList) {
-                // Handle hash-collided entries
-                if (TypeChecker.isEqual(key, extEntry.getKey())) {
-                    entryList.remove(extEntry);
-                    valueList.remove(extEntry.getValue());
-                    break;
-                }
-            }
-            entryList.add(entry);
-            values.get(hash).add(data);
+            // Existing rows are updated in place and keep their position.
+            Row<K, V> row = keyIndex[slot];
+            row.key = key;
+            row.value = data;
             return data;
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            if (entryList != null) {
-                Long index = keyToIndexMap.remove(entryList.get(0).getKey());
-                indexToKeyMap.remove(index);
-                if (index != null && index == noOfAddedEntries - 1) {
-                    noOfAddedEntries--;
-                }
-            }
-            entries.remove(hash);
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
+            int slot = findSlot(key, indexHash(TableUtils.hash(key, null)));
+            if (slot < 0) {
                 return null;
             }
-            return removedValue.get(0);
+            return removeRow(slot);
         }
 
         public boolean containsKey(K key) {
-            if (entries.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return findSlot(key, indexHash(TableUtils.hash(key, null))) >= 0;
         }
 
         public Type getKeyType() {
@@ -794,25 +714,142 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash, K key, V value) {
-        if (entries.containsKey(hash)) {
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(entry.getKey(), key)) {
-                    long index = keyToIndexMap.remove(entry.getKey());
-                    keyToIndexMap.put(key, index);
-                    indexToKeyMap.put(index, key);
-                    keyValues.remove(entry.getKey());
-                    keyValues.put(key, value);
-                    return;
+    private V appendRow(K key, V value, int hash) {
+        Row<K, V> row = new Row<>(key, value, hash);
+        if (keyIndex != null) {
+            addToKeyIndex(row);
+        }
+        if (tail == null) {
+            head = row;
+        } else {
+            tail.next = row;
+        }
+        tail = row;
+        rowCount++;
+        return value;
+    }
+
+    private V removeRow(int slot) {
+        Row<K, V> row = keyIndex[slot];
+        V value = row.value;
+        keyIndex[slot] = (Row<K, V>) REMOVED_SLOT;
+        row.markRemoved();
+        rowCount--;
+        removedRowCount++;
+        if (removedRowCount >= MIN_REMOVED_ROWS_TO_PURGE && removedRowCount > rowCount) {
+            purgeRemovedRows();
+        }
+        return value;
+    }
+
+    // Unlinks the removed rows. The tail is kept even if removed, so that an iterator positioned on it still sees
+    // the rows added later. Removed rows keep their links, so that iterators positioned on them can continue.
+    private void purgeRemovedRows() {
+        Row<K, V> previous = null;
+        for (Row<K, V> row = head; row != null; row = row.next) {
+            if (row.removed && row != tail) {
+                if (previous == null) {
+                    head = row.next;
+                } else {
+                    previous.next = row.next;
                 }
+                removedRowCount--;
+            } else {
+                previous = row;
             }
         }
-        keyToIndexMap.put(key, noOfAddedEntries);
-        indexToKeyMap.put(noOfAddedEntries, key);
-        keyValues.put(key, value);
-        noOfAddedEntries++;
+    }
+
+    // Returns the slot of the row with the given key in the key index, or -1 if there is no such row.
+    private int findSlot(K key, int hash) {
+        Row<K, V>[] index = keyIndex;
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            Row<K, V> row = index[slot];
+            if (row == null) {
+                return -1;
+            }
+            if (row != REMOVED_SLOT && row.hash == hash && isEqual(key, row.key)) {
+                return slot;
+            }
+        }
+    }
+
+    // Adds a row, which is not linked yet and whose key is known to be absent, to the key index.
+    private void addToKeyIndex(Row<K, V> row) {
+        // Keep at least half of the slots empty, so that probe sequences stay short and always terminate.
+        if ((usedIndexSlots + 1) * 2 > keyIndex.length) {
+            rebuildKeyIndex();
+        }
+        Row<K, V>[] index = keyIndex;
+        int mask = index.length - 1;
+        int slot = row.hash & mask;
+        while (index[slot] != null && index[slot] != REMOVED_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        if (index[slot] == null) {
+            usedIndexSlots++;
+        }
+        index[slot] = row;
+    }
+
+    private void rebuildKeyIndex() {
+        int capacity = INITIAL_INDEX_CAPACITY;
+        while (capacity < (rowCount + 1) * 3) {
+            capacity <<= 1;
+        }
+        Row<K, V>[] index = createKeyIndex(capacity);
+        int mask = capacity - 1;
+        for (Row<K, V> row = head; row != null; row = row.next) {
+            if (row.removed) {
+                continue;
+            }
+            int slot = row.hash & mask;
+            while (index[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = row;
+        }
+        keyIndex = index;
+        usedIndexSlots = rowCount;
+    }
+
+    private static int indexHash(Long hash) {
+        long value = hash;
+        int h = (int) (value ^ (value >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Row<K, V>[] createKeyIndex(int capacity) {
+        return (Row<K, V>[]) new Row<?, ?>[capacity];
+    }
+
+    /**
+     * A row of the table. Rows are linked in insertion order. A removed row is only marked as removed and is unlinked
+     * later, keeping its own link, so that an iterator positioned on it can still move on to the following rows.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static final class Row<K, V> {
+        private K key;
+        private V value;
+        private final int hash;
+        private Row<K, V> next;
+        private boolean removed;
+
+        private Row(K key, V value, int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+
+        private void markRemoved() {
+            removed = true;
+            key = null;
+            value = null;
+        }
     }
 
     // This method checks for inherent table type violation
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON content.
+ *
+ * @since 2201.10.0
+ */
+public class JsonParserTests {
+
+    @Test
+    public void testParseBytes() {
+        byte[] bytes = "[1, 2, 3]".getBytes(StandardCharsets.UTF_8);
+        Object result = JsonParser.parse(bytes, PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(result.toString(), "[1,2,3]");
+    }
+
+    @Test
+    public void testParseByteBufferWithNonAsciiContent() {
+        ByteBuffer buffer = ByteBuffer.wrap("\"h\u00E9llo \uD83D\uDE00\"".getBytes(StandardCharsets.UTF_8));
+        Object result = JsonParser.parse(buffer, PredefinedTypes.TYPE_STRING);
+        Assert.assertEquals(result.toString(), "h\u00E9llo \uD83D\uDE00");
+    }
+
+    @Test
+    public void testParseMalformedBytes() {
+        // 0xC3 starts a two byte sequence, which is not completed by '"'
+        byte[] bytes = {'"', 'a', (byte) 0xC3, '"'};
+        try {
+            JsonParser.parse(bytes, PredefinedTypes.TYPE_STRING);
+            Assert.fail("expected an error for malformed UTF-8 input");
+        } catch (BError e) {
+            Assert.assertTrue(e.getMessage().startsWith("error in parsing input bytes: "), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BErrorType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BTypeIdSet;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the cached results of type checks.
+ *
+ * @since 2201.10.0
+ */
+public class TypeCheckCacheTests {
+
+    private static final Module module = new Module("myOrg", "test_module", "1.0.0");
+
+    @Test
+    public void testRepeatedTypeChecks() {
+        RecordType sourceType = createRecordType("Source", PredefinedTypes.TYPE_INT);
+        RecordType targetType = createRecordType("Target",
+                TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        UnionType unionType = TypeCreator.createUnionType(targetType, PredefinedTypes.TYPE_NULL);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+            Assert.assertTrue(TypeChecker.checkIsType(sourceType, unionType));
+            Assert.assertFalse(TypeChecker.checkIsType(targetType, sourceType));
+            Assert.assertFalse(TypeChecker.checkIsType(unionType, sourceType));
+        }
+    }
+
+    @Test
+    public void testTypeCheckAfterTypeIsDefined() {
+        RecordType sourceType = createRecordType("Source", PredefinedTypes.TYPE_INT);
+        RecordType targetType = TypeCreator.createRecordType("Target", module, 0, new LinkedHashMap<>(), null,
+                true, 0);
+        UnionType unionType = TypeCreator.createUnionType(targetType, PredefinedTypes.TYPE_NULL);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, unionType));
+
+        // Complete the definition of the target type, as done for recursive types.
+        targetType.setFields(createFields(PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, unionType));
+    }
+
+    @Test
+    public void testTypeCheckAfterRestFieldTypeIsSet() {
+        BRecordType sourceType = new BRecordType("Source", module, 0, createFields(PredefinedTypes.TYPE_INT),
+                PredefinedTypes.TYPE_STRING, false, 0);
+        RecordType targetType = TypeCreator.createRecordType("Target", module, 0,
+                createFields(PredefinedTypes.TYPE_INT), PredefinedTypes.TYPE_INT, false, 0);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+
+        sourceType.setRestFieldType(PredefinedTypes.TYPE_INT);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testTypeCheckAfterUnionMembersAreAdded() {
+        BUnionType sourceType = new BUnionType(new ArrayList<>(List.of(PredefinedTypes.TYPE_INT)));
+        UnionType targetType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+
+        sourceType.addMembers(PredefinedTypes.TYPE_STRING);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+
+        BUnionType otherType = new BUnionType(new ArrayList<>(List.of(PredefinedTypes.TYPE_NULL)));
+        BUnionType mergedType = new BUnionType(new ArrayList<>(List.of(PredefinedTypes.TYPE_INT)));
+        Assert.assertTrue(TypeChecker.checkIsType(mergedType, targetType));
+        mergedType.mergeUnionType(otherType);
+        mergedType.mergeUnionType(sourceType);
+        Assert.assertFalse(TypeChecker.checkIsType(mergedType, targetType));
+    }
+
+    @Test
+    public void testTypeCheckAfterTypeIdsAreSet() {
+        BErrorType sourceType = new BErrorType("SourceError", module, PredefinedTypes.TYPE_DETAIL);
+        BErrorType targetType = new BErrorType("TargetError", module, PredefinedTypes.TYPE_DETAIL);
+        targetType.setTypeIdSet(createTypeIdSet("TargetError"));
+        UnionType unionType = TypeCreator.createUnionType(targetType, PredefinedTypes.TYPE_NULL);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, unionType));
+
+        sourceType.setTypeIdSet(createTypeIdSet("TargetError"));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, unionType));
+
+        // Setting the same type ids again, as done when creating error values, keeps the result
+        sourceType.setTypeIdSet(createTypeIdSet("TargetError"));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, unionType));
+
+        sourceType.setTypeIdSet(createTypeIdSet("SourceError"));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, unionType));
+    }
+
+    private static BTypeIdSet createTypeIdSet(String typeIdName) {
+        BTypeIdSet typeIdSet = new BTypeIdSet();
+        typeIdSet.add(module, typeIdName, true);
+        return typeIdSet;
+    }
+
+    private static RecordType createRecordType(String name, Type fieldType) {
+        return TypeCreator.createRecordType(name, module, 0, createFields(fieldType), null, true, 0);
+    }
+
+    private static Map<String, Field> createFields(Type fieldType) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("a", TypeCreator.createField(fieldType, "a", SymbolFlags.REQUIRED));
+        return fields;
+    }
+}
@@ -198,6 +198,14 @@ public class BuildCommand implements BLauncherCmd {
             "generation")
     private String graalVMBuildOptions;
 
+    @CommandLine.Option(names = "--trim-executable", hidden = true, description = "remove the classes of the " +
+            "generated modules that are unreachable from the program entry points")
+    private Boolean trimExecutable;
+
+    @CommandLine.Option(names = "--cds-archive", hidden = true, description = "create a class data sharing " +
+            "archive of the executable to reduce its startup time")
+    private Boolean cdsArchive;
+
     public void execute() {
         long start = 0;
         if (this.helpFlag) {
@@ -316,7 +324,9 @@ public class BuildCommand implements BLauncherCmd {
                 .setNativeImage(nativeImage)
                 .disableSyntaxTreeCaching(disableSyntaxTreeCaching)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
-                .setShowDependencyDiagnostics(showDependencyDiagnostics);
+                .setShowDependencyDiagnostics(showDependencyDiagnostics)
+                .setTrimExecutable(trimExecutable)
+                .setCdsArchive(cdsArchive);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
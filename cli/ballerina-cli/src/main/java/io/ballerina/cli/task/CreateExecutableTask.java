@@ -20,6 +20,7 @@ package io.ballerina.cli.task;
 
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.cli.utils.BuildUtils;
+import io.ballerina.cli.utils.CdsArchiveUtils;
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.cli.utils.GraalVMCompatibilityUtils;
 import io.ballerina.projects.EmitResult;
@@ -120,18 +121,11 @@ public class CreateExecutableTask implements Task {
         }
 
         if (!project.buildOptions().nativeImage() && !isHideTaskOutput) {
-            Path relativePathToExecutable = currentDir.relativize(executablePath);
+            printArtifactPath(project, executablePath);
+        }
 
-            if (project.buildOptions().getTargetPath() != null) {
-                this.out.println("\t" + relativePathToExecutable);
-            } else {
-                if (relativePathToExecutable.toString().contains("..") ||
-                        relativePathToExecutable.toString().contains("." + File.separator)) {
-                    this.out.println("\t" + executablePath);
-                } else {
-                    this.out.println("\t" + relativePathToExecutable);
-                }
-            }
+        if (project.buildOptions().cdsArchive() && !project.buildOptions().nativeImage()) {
+            createCdsArchive(project, executablePath);
         }
 
         // notify plugin
@@ -139,6 +133,39 @@ public class CreateExecutableTask implements Task {
         BuildUtils.notifyPlugins(project, target);
     }
 
+    private void printArtifactPath(Project project, Path artifactPath) {
+        Path relativePathToArtifact = currentDir.relativize(artifactPath);
+
+        if (project.buildOptions().getTargetPath() != null) {
+            this.out.println("\t" + relativePathToArtifact);
+        } else {
+            if (relativePathToArtifact.toString().contains("..") ||
+                    relativePathToArtifact.toString().contains("." + File.separator)) {
+                this.out.println("\t" + artifactPath);
+            } else {
+                this.out.println("\t" + relativePathToArtifact);
+            }
+        }
+    }
+
+    private void createCdsArchive(Project project, Path executablePath) {
+        long start = 0;
+        if (project.buildOptions().dumpBuildTime()) {
+            start = System.currentTimeMillis();
+        }
+        try {
+            Path archivePath = CdsArchiveUtils.createArchive(executablePath);
+            if (!isHideTaskOutput) {
+                printArtifactPath(project, archivePath);
+            }
+        } catch (IOException e) {
+            this.out.println("\twarning: unable to create the class data sharing archive: " + e.getMessage());
+        }
+        if (project.buildOptions().dumpBuildTime()) {
+            BuildTime.getInstance().emitArtifactDuration += System.currentTimeMillis() - start;
+        }
+    }
+
     private Target getTarget(Project project) {
         Target target;
         try {
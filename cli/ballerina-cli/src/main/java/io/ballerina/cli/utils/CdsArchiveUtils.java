@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static io.ballerina.projects.util.ProjectConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Utilities to create and use class data sharing (CDS) archives of Ballerina executables.
+ * <p>
+ * The archive holds the parsed and verified classes of the executable jar, so that a JVM started with the archive
+ * maps them from the file instead of loading them from the jar.
+ *
+ * @since 2201.10.0
+ */
+public class CdsArchiveUtils {
+
+    private static final String CDS_ARCHIVE_EXT = ".jsa";
+    private static final String CLASS_LIST_EXT = ".classlist";
+    private static final String CLASS_EXT = ".class";
+    private static final String VERSIONED_ENTRIES_DIR = "META-INF/versions/";
+    private static final String JDK_CLASS_LIST = "classlist";
+
+    private CdsArchiveUtils() {
+    }
+
+    /**
+     * Returns the path of the CDS archive of the given executable, which is placed next to the jar.
+     *
+     * @param executablePath path of the executable jar
+     * @return path of the CDS archive
+     */
+    public static Path getArchivePath(Path executablePath) {
+        String fileName = executablePath.getFileName().toString();
+        if (fileName.endsWith(BLANG_COMPILED_JAR_EXT)) {
+            fileName = fileName.substring(0, fileName.length() - BLANG_COMPILED_JAR_EXT.length());
+        }
+        return executablePath.resolveSibling(fileName + CDS_ARCHIVE_EXT);
+    }
+
+    /**
+     * Checks whether the executable has a CDS archive created after the jar was last written. The JVM refuses to use
+     * an archive if the jar has been modified after the archive was created.
+     *
+     * @param executablePath path of the executable jar
+     * @return true if the archive can be used with the executable
+     */
+    public static boolean isArchiveUpToDate(Path executablePath) {
+        Path archivePath = getArchivePath(executablePath);
+        try {
+            return Files.exists(archivePath) && Files.getLastModifiedTime(archivePath)
+                    .compareTo(Files.getLastModifiedTime(executablePath)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the JVM arguments that run the executable with its CDS archive, if the archive is up-to-date.
+     *
+     * @param executablePath path of the executable jar
+     * @return JVM arguments, or an empty list if there is no usable archive
+     */
+    public static List<String> getArchiveArgs(Path executablePath) {
+        if (!isArchiveUpToDate(executablePath)) {
+            return List.of();
+        }
+        return List.of("-XX:SharedArchiveFile=" + getArchivePath(executablePath), "-Xshare:auto");
+    }
+
+    /**
+     * Creates a static CDS archive of the executable. All classes of the jar are dumped into the archive, classes
+     * that cannot be loaded or verified are skipped by the JVM. The archive replaces the default CDS archive of the
+     * JDK, so the JDK classes loaded at startup are included as well.
+     *
+     * @param executablePath path of the executable jar
+     * @return path of the created archive
+     * @throws IOException if the class list cannot be written or the JVM fails to create the archive
+     */
+    public static Path createArchive(Path executablePath) throws IOException {
+        Path archivePath = getArchivePath(executablePath);
+        Path classListPath = Files.createTempFile(executablePath.getFileName().toString(), CLASS_LIST_EXT);
+        try {
+            writeClassList(executablePath, classListPath);
+            Files.deleteIfExists(archivePath);
+            Process process = new ProcessBuilder(getJavaCommand(),
+                    "-Xshare:dump",
+                    "-XX:SharedClassListFile=" + classListPath,
+                    "-XX:SharedArchiveFile=" + archivePath,
+                    "-cp", executablePath.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            int exitValue = process.waitFor();
+            if (exitValue != 0 || !Files.exists(archivePath)) {
+                Files.deleteIfExists(archivePath);
+                throw new IOException("class data sharing archive dump exited with code " + exitValue);
+            }
+            return archivePath;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Files.deleteIfExists(archivePath);
+            throw new IOException("interrupted while creating the class data sharing archive", e);
+        } finally {
+            Files.deleteIfExists(classListPath);
+        }
+    }
+
+    // The archive can only be used by the JVM that created it, which is the one used to run the executable.
+    private static String getJavaCommand() {
+        String javaCommand = System.getProperty("java.command");
+        if (javaCommand != null) {
+            return javaCommand;
+        }
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static void writeClassList(Path executablePath, Path classListPath) throws IOException {
+        try (JarFile jarFile = new JarFile(executablePath.toFile());
+             Writer writer = Files.newBufferedWriter(classListPath, StandardCharsets.UTF_8)) {
+            Path jdkClassListPath = Path.of(System.getProperty("java.home"), "lib", JDK_CLASS_LIST);
+            if (Files.exists(jdkClassListPath)) {
+                for (String line : Files.readAllLines(jdkClassListPath, StandardCharsets.UTF_8)) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (!entryName.endsWith(CLASS_EXT) || entryName.startsWith(VERSIONED_ENTRIES_DIR)
+                        || entryName.endsWith("module-info" + CLASS_EXT)
+                        || entryName.endsWith("package-info" + CLASS_EXT)) {
+                    continue;
+                }
+                writer.write(entryName, 0, entryName.length() - CLASS_EXT.length());
+                writer.write('\n');
+            }
+        }
+    }
+}
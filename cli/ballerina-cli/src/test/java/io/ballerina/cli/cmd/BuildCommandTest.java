@@ -20,6 +20,7 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.CdsArchiveUtils;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.SemanticVersion;
 import io.ballerina.projects.environment.Environment;
@@ -121,6 +122,28 @@ public class BuildCommandTest extends BaseCommandTest {
                 .resolve("hello_world.jar"));
     }
 
+    @Test(description = "Build a valid ballerina file with a class data sharing archive")
+    public void testBuildBalFileWithCdsArchive() throws IOException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file").resolve("hello_world.bal");
+
+        System.setProperty(USER_DIR_PROPERTY, this.testResources.resolve("valid-bal-file").toString());
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false,
+                "hello_cds.jar");
+        new CommandLine(buildCommand).parseArgs("--cds-archive", "-o", "hello_cds.jar", validBalFilePath.toString());
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Path executablePath = this.testResources.resolve("valid-bal-file").resolve("hello_cds.jar");
+        Path archivePath = this.testResources.resolve("valid-bal-file").resolve("hello_cds.jsa");
+        Assert.assertTrue(buildLog.contains("hello_cds.jsa"), buildLog);
+        Assert.assertTrue(Files.exists(executablePath));
+        Assert.assertTrue(Files.exists(archivePath));
+        Assert.assertTrue(CdsArchiveUtils.isArchiveUpToDate(executablePath));
+
+        Files.delete(executablePath);
+        Files.delete(archivePath);
+    }
+
     @Test(description = "Build a valid ballerina file with output flag")
     public void testBuildBalFileWithOutputFlag() throws IOException {
         Path validBalFilePath = this.testResources.resolve("valid-bal-file").resolve("hello_world.bal");
@@ -35,11 +35,13 @@ public class BuildOptions {
     private Boolean nativeImage;
     private Boolean exportComponentModel;
     private String graalVMBuildOptions;
+    private Boolean trimExecutable;
+    private Boolean cdsArchive;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
                  CompilationOptions compilationOptions, String targetPath, Boolean enableCache,
                  Boolean nativeImage, Boolean exportComponentModel, String graalVMBuildOptions,
-                 Boolean showDependencyDiagnostics) {
+                 Boolean showDependencyDiagnostics, Boolean trimExecutable, Boolean cdsArchive) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
@@ -51,7 +53,8 @@ public class BuildOptions {
         this.exportComponentModel = exportComponentModel;
         this.graalVMBuildOptions = graalVMBuildOptions;
         this.showDependencyDiagnostics = showDependencyDiagnostics;
-
+        this.trimExecutable = trimExecutable;
+        this.cdsArchive = cdsArchive;
     }
 
     public boolean testReport() {
@@ -110,6 +113,14 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    public boolean lazyBirSymbolLoading() {
+        return this.compilationOptions.lazyBirSymbolLoading();
+    }
+
+    public int birOptimizationLevel() {
+        return this.compilationOptions.birOptimizationLevel();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -138,6 +149,14 @@ public class BuildOptions {
         return toBooleanDefaultIfNull(this.showDependencyDiagnostics);
     }
 
+    public boolean trimExecutable() {
+        return toBooleanDefaultIfNull(this.trimExecutable);
+    }
+
+    public boolean cdsArchive() {
+        return toBooleanDefaultIfNull(this.cdsArchive);
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -196,6 +215,16 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setShowDependencyDiagnostics(this.showDependencyDiagnostics);
         }
+        if (theirOptions.trimExecutable != null) {
+            buildOptionsBuilder.setTrimExecutable(theirOptions.trimExecutable);
+        } else {
+            buildOptionsBuilder.setTrimExecutable(this.trimExecutable);
+        }
+        if (theirOptions.cdsArchive != null) {
+            buildOptionsBuilder.setCdsArchive(theirOptions.cdsArchive);
+        } else {
+            buildOptionsBuilder.setCdsArchive(this.cdsArchive);
+        }
 
         CompilationOptions compilationOptions = this.compilationOptions.acceptTheirs(theirOptions.compilationOptions());
         buildOptionsBuilder.setOffline(compilationOptions.offlineBuild);
@@ -212,6 +241,8 @@ public class BuildOptions {
         buildOptionsBuilder.setExportComponentModel(compilationOptions.exportComponentModel);
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
+        buildOptionsBuilder.setLazyBirSymbolLoading(compilationOptions.lazyBirSymbolLoading);
+        buildOptionsBuilder.setBirOptimizationLevel(compilationOptions.birOptimizationLevel);
 
         return buildOptionsBuilder.build();
     }
@@ -250,7 +281,9 @@ public class BuildOptions {
         NATIVE_IMAGE("graalvm"),
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
-        SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics");
+        SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
+        TRIM_EXECUTABLE("trimExecutable"),
+        CDS_ARCHIVE("cdsArchive");
 
         private final String name;
 
@@ -282,7 +315,8 @@ public class BuildOptions {
         private Boolean exportComponentModel;
         private String graalVMBuildOptions;
         private Boolean showDependencyDiagnostics;
-
+        private Boolean trimExecutable;
+        private Boolean cdsArchive;
 
         private BuildOptionsBuilder() {
             compilationOptionsBuilder = CompilationOptions.builder();
@@ -411,16 +445,36 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setLazyBirSymbolLoading(Boolean value) {
+            compilationOptionsBuilder.setLazyBirSymbolLoading(value);
+            return this;
+        }
+
+        public BuildOptionsBuilder setBirOptimizationLevel(Integer value) {
+            compilationOptionsBuilder.setBirOptimizationLevel(value);
+            return this;
+        }
+
         public BuildOptionsBuilder setShowDependencyDiagnostics(Boolean value) {
             showDependencyDiagnostics = value;
             return this;
         }
 
+        public BuildOptionsBuilder setTrimExecutable(Boolean value) {
+            trimExecutable = value;
+            return this;
+        }
+
+        public BuildOptionsBuilder setCdsArchive(Boolean value) {
+            cdsArchive = value;
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
                     targetPath, enableCache, nativeImage, exportComponentModel, graalVMBuildOptions,
-                    showDependencyDiagnostics);
+                    showDependencyDiagnostics, trimExecutable, cdsArchive);
         }
     }
 }
@@ -59,7 +59,10 @@ class CodeAnalyzerManager {
     List<Diagnostic> runCodeAnalyzerTasks() {
         List<Diagnostic> reportedDiagnostics = new ArrayList<>();
         runSyntaxNodeAnalysisTasks(reportedDiagnostics);
-        runCompilationAnalysisTasks(reportedDiagnostics);
+        List<Diagnostic> packageDiagnostics = new ArrayList<>();
+        runCompilationAnalysisTasks(packageDiagnostics);
+        compilation.setPackageAnalyzerDiagnostics(packageDiagnostics);
+        reportedDiagnostics.addAll(packageDiagnostics);
 
         // Returning the reported the diagnostics for now.
         // We need to return AnalyzerTaskResult later
@@ -97,12 +100,8 @@ class CodeAnalyzerManager {
     }
 
     private void runSyntaxNodeAnalysisTasks(List<Diagnostic> reportedDiagnostics) {
+        // The runner is used even without syntax node analyzers, as it records the diagnostics of each module
         Map<SyntaxKind, List<SyntaxNodeAnalysisTask>> syntaxNodeAnalysisTaskMap = populateSyntaxNodeTaskMap();
-        if (syntaxNodeAnalysisTaskMap.isEmpty()) {
-            // There are no syntax node analyzers to run
-            return;
-        }
-
         SyntaxNodeAnalysisTaskRunner taskRunner = new SyntaxNodeAnalysisTaskRunner(syntaxNodeAnalysisTaskMap,
                 currentPackage, compilation);
         reportedDiagnostics.addAll(taskRunner.runTasks());
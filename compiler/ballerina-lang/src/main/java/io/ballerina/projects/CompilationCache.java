@@ -17,8 +17,11 @@
  */
 package io.ballerina.projects;
 
+import io.ballerina.tools.diagnostics.Diagnostic;
+
 import java.io.ByteArrayOutputStream;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -37,6 +40,77 @@ public abstract class CompilationCache {
 
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
+    /**
+     * Returns whether the BIR of the given module is cached, without reading it.
+     *
+     * @param moduleName module name
+     * @return true if the module is cached
+     */
+    public boolean hasBir(ModuleName moduleName) {
+        return getBir(moduleName).length != 0;
+    }
+
+    /**
+     * Returns the fingerprint of the sources and dependencies the cached BIR and library of the given module were
+     * generated from.
+     *
+     * @param moduleName module name
+     * @return fingerprint, which is blank if the module was cached without one, or empty if the cache does not keep
+     * fingerprints
+     */
+    public Optional<String> getModuleFingerprint(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the fingerprint of the cached BIR and library of the given module.
+     *
+     * @param moduleName  module name
+     * @param fingerprint fingerprint of the module
+     */
+    public void cacheModuleFingerprint(ModuleName moduleName, String fingerprint) {
+    }
+
+    /**
+     * Returns the diagnostics which the syntax node analysis tasks of compiler plugins reported for the given module,
+     * when the cached BIR and library of the module were generated.
+     *
+     * @param moduleName module name
+     * @return diagnostics of the module, or empty if they were not cached along with the module
+     */
+    public Optional<List<Diagnostic>> getAnalyzerDiagnostics(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the diagnostics which the syntax node analysis tasks of compiler plugins reported for the given module,
+     * so that they can be reported again when the module is loaded from the cache.
+     *
+     * @param moduleName  module name
+     * @param diagnostics diagnostics of the module
+     */
+    public void cacheAnalyzerDiagnostics(ModuleName moduleName, List<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * Returns the diagnostics which the compilation analysis tasks of compiler plugins reported for the package, when
+     * the modules of the package were last compiled.
+     *
+     * @return diagnostics of the package, or empty if they were not cached
+     */
+    public Optional<List<Diagnostic>> getPackageAnalyzerDiagnostics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the diagnostics which the compilation analysis tasks of compiler plugins reported for the package, so
+     * that they can be reported again when all the modules of the package are loaded from the cache.
+     *
+     * @param diagnostics diagnostics of the package
+     */
+    public void cachePackageAnalyzerDiagnostics(List<Diagnostic> diagnostics) {
+    }
+
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
 
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
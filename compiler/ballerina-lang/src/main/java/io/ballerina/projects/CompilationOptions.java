@@ -40,13 +40,16 @@ public class CompilationOptions {
     Boolean enableCache;
     Boolean disableSyntaxTree;
     Boolean remoteManagement;
+    Boolean lazyBirSymbolLoading;
+    Integer birOptimizationLevel;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement) {
+                       Boolean remoteManagement, Boolean lazyBirSymbolLoading,
+                       Integer birOptimizationLevel) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -64,6 +67,8 @@ public class CompilationOptions {
         this.enableCache = enableCache;
         this.disableSyntaxTree = disableSyntaxTree;
         this.remoteManagement = remoteManagement;
+        this.lazyBirSymbolLoading = lazyBirSymbolLoading;
+        this.birOptimizationLevel = birOptimizationLevel;
     }
 
     public boolean offlineBuild() {
@@ -130,6 +135,14 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.remoteManagement);
     }
 
+    boolean lazyBirSymbolLoading() {
+        return toBooleanDefaultIfNull(this.lazyBirSymbolLoading);
+    }
+
+    int birOptimizationLevel() {
+        return this.birOptimizationLevel == null ? 0 : this.birOptimizationLevel;
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -218,6 +231,16 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setRemoteManagement(this.remoteManagement);
         }
+        if (theirOptions.lazyBirSymbolLoading != null) {
+            compilationOptionsBuilder.setLazyBirSymbolLoading(theirOptions.lazyBirSymbolLoading);
+        } else {
+            compilationOptionsBuilder.setLazyBirSymbolLoading(this.lazyBirSymbolLoading);
+        }
+        if (theirOptions.birOptimizationLevel != null) {
+            compilationOptionsBuilder.setBirOptimizationLevel(theirOptions.birOptimizationLevel);
+        } else {
+            compilationOptionsBuilder.setBirOptimizationLevel(this.birOptimizationLevel);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -273,6 +296,8 @@ public class CompilationOptions {
         private Boolean enableCache;
         private Boolean disableSyntaxTree;
         private Boolean remoteManagement;
+        private Boolean lazyBirSymbolLoading;
+        private Integer birOptimizationLevel;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -359,11 +384,22 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setLazyBirSymbolLoading(Boolean value) {
+            lazyBirSymbolLoading = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setBirOptimizationLevel(Integer value) {
+            birOptimizationLevel = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
-                    exportComponentModel, enableCache, disableSyntaxTree, remoteManagement);
+                    exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
+                    lazyBirSymbolLoading, birOptimizationLevel);
         }
     }
 }
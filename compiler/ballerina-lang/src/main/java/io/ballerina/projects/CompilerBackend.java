@@ -87,6 +87,16 @@ public abstract class CompilerBackend {
 
     public abstract String libraryFileExtension();
 
+    /**
+     * Runs the given action once the platform libraries generated so far are cached. Backends that cache the
+     * libraries asynchronously defer the action until then.
+     *
+     * @param action action that depends on the cached platform libraries
+     */
+    void afterPlatformLibrariesCached(Runnable action) {
+        action.run();
+    }
+
     /**
      * Represent the unique name of a supported compiler backed target.
      *
@@ -126,7 +126,8 @@ public class ConfigReader {
     }
 
     private static void populateConfigVars(BPackageSymbol pkgSymbol, Set<BVarSymbol> configVars) {
-        for (Scope.ScopeEntry entry : pkgSymbol.scope.entries.values()) {
+        // Configurable variables and type definitions are never lazily defined, unlike the functions of a package.
+        for (Scope.ScopeEntry entry : pkgSymbol.scope.definedEntries()) {
             BSymbol symbol = entry.symbol;
             if (symbol != null) {
                 if (symbol.tag == SymTag.TYPE_DEF) {
@@ -19,6 +19,8 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -72,6 +74,7 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private TextDocument textDocument;
         private String name;
         private DocumentId documentId;
         private Module oldModule;
@@ -79,7 +82,7 @@ public class Document {
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
-            this.content = oldDocument.textDocument().toString();
+            this.textDocument = oldDocument.textDocument();
             this.oldModule = oldDocument.module();
         }
 
@@ -91,6 +94,40 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.textDocument = null;
+            return this;
+        }
+
+        /**
+         * Sets the change to be applied on the current content.
+         * <p>
+         * Unlike {@link #withContent(String)}, this does not copy the whole content, and the line information of the
+         * document is updated incrementally.
+         *
+         * @param textDocumentChange change to be applied
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withTextDocumentChange(TextDocumentChange textDocumentChange) {
+            if (this.textDocument == null) {
+                this.textDocument = TextDocuments.from(this.content);
+                this.content = null;
+            }
+            this.textDocument = this.textDocument.apply(textDocumentChange);
+            return this;
+        }
+
+        /**
+         * Sets the text document to be changed with.
+         * <p>
+         * This is meant for a text document derived from the current one by applying changes, which shares the
+         * content and the line information that are not changed.
+         *
+         * @param textDocument text document to change with
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withTextDocument(TextDocument textDocument) {
+            this.textDocument = textDocument;
+            this.content = null;
             return this;
         }
 
@@ -100,9 +137,13 @@ public class Document {
          * @return document with updated content
          */
         public Document apply() {
-            DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
-                    this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig, false);
+            DocumentContext documentContext;
+            if (this.textDocument != null) {
+                documentContext = DocumentContext.from(this.documentId, this.name, this.textDocument);
+            } else {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content, this.name);
+                documentContext = DocumentContext.from(documentConfig, false);
+            }
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
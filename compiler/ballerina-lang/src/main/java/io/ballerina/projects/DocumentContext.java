@@ -73,6 +73,13 @@ class DocumentContext {
                 disableSyntaxTree);
     }
 
+    static DocumentContext from(DocumentId documentId, String name, TextDocument textDocument) {
+        // The text document is used as it is, hence the content is not materialized as a string
+        DocumentContext documentContext = new DocumentContext(documentId, name, null, false);
+        documentContext.textDocument = textDocument;
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
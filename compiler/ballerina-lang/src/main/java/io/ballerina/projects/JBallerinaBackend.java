@@ -22,6 +22,7 @@ import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.projects.internal.ProjectDiagnosticErrorCode;
+import io.ballerina.projects.internal.jballerina.ClassReachabilityAnalyzer;
 import io.ballerina.projects.internal.jballerina.JarWriter;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.util.ProjectConstants;
@@ -69,6 +70,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -108,6 +110,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    private final JarWritePipeline jarWritePipeline = new JarWritePipeline();
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         return from(packageCompilation, jdkVersion, true);
@@ -158,6 +161,8 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        // Modules share the compiler context, so code is generated for one module at a time in topological order.
+        // Only writing the jars of a module runs in the background, see JarWritePipeline.
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
                 if (packageCompilation.diagnosticResult().hasErrors()) {
@@ -187,7 +192,10 @@ public class JBallerinaBackend extends CompilerBackend {
             if (moduleContext.project().kind() == ProjectKind.BALA_PROJECT) {
                 moduleContext.cleanBLangPackage();
             }
+            jarWritePipeline.completeWritten();
         }
+        jarWritePipeline.completeAll();
+        cacheModuleFingerprints();
         // add compilation diagnostics
         diagnostics.addAll(moduleDiagnostics);
         // add plugin diagnostics
@@ -197,6 +205,30 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    private void cacheModuleFingerprints() {
+        // Fingerprints are recorded only after the libraries of the modules are cached
+        Project project = this.packageContext.project();
+        if (project.kind() != ProjectKind.BUILD_PROJECT || !project.buildOptions().enableCache()) {
+            return;
+        }
+        CompilerPluginManager compilerPluginManager = this.packageCompilation.compilerPluginManager();
+        boolean tracked = compilerPluginManager.engagedCodeGeneratorCount() == 0
+                && compilerPluginManager.engagedCodeModifierCount() == 0;
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            if (moduleContext.moduleId().packageId().equals(packageContext.packageId())
+                    && moduleContext.compilationState() == ModuleCompilationState.PLATFORM_LIBRARY_GENERATED
+                    && !Diagnostics.hasErrors(moduleContext.diagnostics())
+                    && moduleContext.compilationCache().hasBir(moduleContext.moduleName())) {
+                // The analyzer diagnostics are recorded first, since the fingerprint is not valid without them
+                moduleContext.cacheAnalyzerDiagnostics();
+                moduleContext.cacheFingerprint(tracked);
+            }
+        }
+        // Compilation analysis tasks analyze the whole package, hence their diagnostics are recorded whenever they run
+        this.packageCompilation.packageAnalyzerDiagnostics().ifPresent(
+                this.packageContext.defaultModuleContext().compilationCache()::cachePackageAnalyzerDiagnostics);
+    }
+
     private boolean hasErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -369,12 +401,8 @@ public class JBallerinaBackend extends CompilerBackend {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        writeJar(compiledJarFile, getResources(moduleContext), compilationCache, jarFileName,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName());
         // skip generation of the test jar if --with-tests option is not provided
         if (moduleContext.project().buildOptions().skipTests()) {
             return;
@@ -387,12 +415,20 @@ public class JBallerinaBackend extends CompilerBackend {
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0),
                 isRemoteMgtEnabled);
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
-        }
+        writeJar(compiledTestJarFile, getAllResources(moduleContext), compilationCache, testJarFileName,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName());
+    }
+
+    private void writeJar(CompiledJarFile compiledJarFile, Map<String, byte[]> resources,
+                          CompilationCache compilationCache, String jarFileName, String errorMessage) {
+        jarWritePipeline.write(() -> JarWriter.write(compiledJarFile, resources),
+                jarContent -> compilationCache.cachePlatformSpecificLibrary(this, jarFileName, jarContent),
+                errorMessage);
+    }
+
+    @Override
+    void afterPlatformLibrariesCached(Runnable action) {
+        jarWritePipeline.then(action);
     }
 
     @Override
@@ -439,13 +475,42 @@ public class JBallerinaBackend extends CompilerBackend {
             writeManifest(manifest, outStream);
 
             // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
+            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries,
+                    findUnreachableClassEntries(manifest, jarLibraries));
 
             // Copy merged spi services.
             copyMergedSpiServices(serviceEntries, outStream);
         }
     }
 
+    /**
+     * Finds the classes of the generated module jars that are unreachable from the entry points of the executable.
+     * Returns an empty set unless trimming of the executable is enabled in the build options.
+     *
+     * @param manifest     manifest of the executable
+     * @param jarLibraries jar libraries copied into the executable
+     * @return names of the class entries that can be left out of the executable
+     * @throws IOException if a jar cannot be read
+     */
+    private Set<String> findUnreachableClassEntries(Manifest manifest, Collection<JarLibrary> jarLibraries)
+            throws IOException {
+        if (!packageContext.project().buildOptions().trimExecutable()) {
+            return Collections.emptySet();
+        }
+
+        Set<Path> generatedJarPaths = jarResolver.getCodeGeneratedJarPathsRequiredForExecution();
+        ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+        for (JarLibrary library : jarLibraries) {
+            if (generatedJarPaths.contains(library.path())) {
+                analyzer.addCandidateJar(library.path());
+            } else {
+                analyzer.addRootJar(library.path());
+            }
+        }
+        analyzer.addRootClass((String) manifest.getMainAttributes().get(Attributes.Name.MAIN_CLASS));
+        return analyzer.findUnreachableClassEntries();
+    }
+
     private void assembleTestExecutableJar(Path executableFilePath,
                                            Manifest manifest,
                                            Collection<JarLibrary> jarLibraries,
@@ -464,7 +529,7 @@ public class JBallerinaBackend extends CompilerBackend {
             writeManifest(manifest, outStream);
 
             // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
+            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries, Collections.emptySet());
 
             // Copy merged spi services.
             copyMergedSpiServices(serviceEntries, outStream);
@@ -499,7 +564,8 @@ public class JBallerinaBackend extends CompilerBackend {
 
     private void sortAndCopyJars(Collection<JarLibrary> jarLibraries, ZipArchiveOutputStream outStream,
                                  HashMap<String, JarLibrary> copiedEntries,
-                                 HashMap<String, StringBuilder> serviceEntries) throws IOException {
+                                 HashMap<String, StringBuilder> serviceEntries,
+                                 Set<String> excludedEntries) throws IOException {
 
         List<JarLibrary> sortedJarLibraries = jarLibraries.stream()
                 .sorted(Comparator.comparing(jarLibrary -> jarLibrary.path().getFileName()))
@@ -507,7 +573,7 @@ public class JBallerinaBackend extends CompilerBackend {
 
         // Copy all the jars
         for (JarLibrary library : sortedJarLibraries) {
-            copyJar(outStream, library, copiedEntries, serviceEntries);
+            copyJar(outStream, library, copiedEntries, serviceEntries, excludedEntries);
         }
     }
 
@@ -555,11 +621,12 @@ public class JBallerinaBackend extends CompilerBackend {
      * @param jarLibrary    jar library.
      * @param copiedEntries Entries set will be used to ignore duplicate files.
      * @param services      Services will be used to temporary hold merged spi files.
+     * @param excludedEntries Entries that should not be copied, e.g. unreachable classes of generated modules.
      * @throws IOException If jar file copying is failed.
      */
     private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
                          HashMap<String, JarLibrary> copiedEntries, HashMap<String,
-            StringBuilder> services) throws IOException {
+            StringBuilder> services, Set<String> excludedEntries) throws IOException {
 
         ZipFile zipFile = new ZipFile(jarLibrary.path().toFile());
         ZipArchiveEntryPredicate predicate = entry -> {
@@ -601,7 +668,7 @@ public class JBallerinaBackend extends CompilerBackend {
                 addConflictedJars(jarLibrary, copiedEntries, entryName);
                 return false;
             }
-            if (isExcludedEntry(entryName)) {
+            if (isExcludedEntry(entryName) || excludedEntries.contains(entryName)) {
                 return false;
             }
             // SPIs will be merged first and then put into jar separately.
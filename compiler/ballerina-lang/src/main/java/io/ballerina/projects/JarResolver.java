@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerUtils;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -38,6 +39,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.ballerina.identifier.Utils.encodeNonFunctionIdentifier;
 import static io.ballerina.projects.util.ProjectConstants.ANON_ORG;
@@ -118,6 +120,24 @@ public class JarResolver {
         return jarFiles;
     }
 
+    /**
+     * Returns the code generated module jars among the jars required for execution.
+     *
+     * @return paths of the generated jars of the root package and its non-test dependencies
+     */
+    Set<Path> getCodeGeneratedJarPathsRequiredForExecution() {
+        Set<JarLibrary> jarFiles = new HashSet<>();
+        addCodeGeneratedLibraryPaths(rootPackageContext, PlatformLibraryScope.DEFAULT, jarFiles);
+        pkgResolution.allDependencies()
+                .stream()
+                .filter(pkgDep -> pkgDep.scope() != PackageDependencyScope.TEST_ONLY)
+                .filter(pkgDep -> !pkgDep.packageInstance().descriptor().isLangLibPackage())
+                .map(pkgDep -> pkgDep.packageInstance().packageContext())
+                .forEach(pkgContext -> addCodeGeneratedLibraryPaths(pkgContext, PlatformLibraryScope.DEFAULT,
+                        jarFiles));
+        return jarFiles.stream().map(JarLibrary::path).collect(Collectors.toSet());
+    }
+
     private void addCodeGeneratedLibraryPaths(PackageContext packageContext, PlatformLibraryScope scope,
                                               Set<JarLibrary> libraryPaths) {
         for (ModuleId moduleId : packageContext.moduleIds()) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.projects;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Writes the jars of modules on background threads, so that compressing the jar of a module overlaps with the code
+ * generation of the next module. The written jars are handed over on the compiling thread, in the order they were
+ * submitted.
+ * <p>
+ * Actions that depend on the jars submitted so far, e.g. caching the BIR of a module, are run in the same order. If
+ * writing a jar fails, the jars and actions submitted after it are discarded, so that a module is never cached
+ * without its jar.
+ *
+ * @since 2201.10.0
+ */
+class JarWritePipeline {
+
+    private static final ExecutorService JAR_WRITER_POOL = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, 4)), runnable -> {
+                Thread thread = new Thread(runnable, "ballerina-jar-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Deque<PendingStep> pendingSteps = new ArrayDeque<>();
+
+    /**
+     * Writes a jar on a background thread.
+     *
+     * @param jarWriter    writes the jar content
+     * @param jarConsumer  consumes the written jar content on the compiling thread
+     * @param errorMessage message of the exception thrown if the jar cannot be written
+     */
+    void write(Callable<ByteArrayOutputStream> jarWriter, Consumer<ByteArrayOutputStream> jarConsumer,
+               String errorMessage) {
+        pendingSteps.add(new PendingStep(JAR_WRITER_POOL.submit(jarWriter), jarConsumer, errorMessage));
+    }
+
+    /**
+     * Runs the given action once all the jars submitted so far are handed over.
+     *
+     * @param action action to run
+     */
+    void then(Runnable action) {
+        if (pendingSteps.isEmpty()) {
+            action.run();
+            return;
+        }
+        pendingSteps.add(new PendingStep(CompletableFuture.completedFuture(null), content -> action.run(), null));
+    }
+
+    /**
+     * Hands over the jars that are already written and runs the actions that depend on them, without waiting for
+     * the rest.
+     */
+    void completeWritten() {
+        complete(false);
+    }
+
+    /**
+     * Waits for all the submitted jars to be written, hands them over and runs the pending actions.
+     */
+    void completeAll() {
+        complete(true);
+    }
+
+    private void complete(boolean waitForAll) {
+        try {
+            while (!pendingSteps.isEmpty() && (waitForAll || pendingSteps.peek().content().isDone())) {
+                PendingStep pendingStep = pendingSteps.poll();
+                pendingStep.consumer().accept(getContent(pendingStep));
+            }
+        } catch (RuntimeException e) {
+            discardPendingSteps();
+            throw e;
+        }
+    }
+
+    private static ByteArrayOutputStream getContent(PendingStep pendingStep) {
+        try {
+            return pendingStep.content().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException(pendingStep.errorMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new ProjectException(pendingStep.errorMessage());
+            }
+            throw new ProjectException(pendingStep.errorMessage(), e.getCause());
+        }
+    }
+
+    private void discardPendingSteps() {
+        for (PendingStep pendingStep : pendingSteps) {
+            pendingStep.content().cancel(true);
+        }
+        pendingSteps.clear();
+    }
+
+    private record PendingStep(Future<ByteArrayOutputStream> content, Consumer<ByteArrayOutputStream> consumer,
+                               String errorMessage) {
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.projects.internal.ModuleContextDataHolder;
+import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
@@ -83,6 +84,11 @@ class ModuleContext {
     private final List<ModuleDescriptor> moduleDescDependencies;
 
     private Set<ModuleDependency> moduleDependencies;
+    private Set<ModuleContext> resolvedModuleDependencies = Collections.emptySet();
+    private String sourceDigest;
+    private String birDigest;
+    // Diagnostics reported by the syntax node analysis tasks of compiler plugins, once the module is analyzed
+    private List<Diagnostic> analyzerDiagnostics;
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
@@ -211,6 +217,29 @@ class ModuleContext {
         return moduleDependencies;
     }
 
+    Collection<ModuleContext> resolvedModuleDependencies() {
+        return resolvedModuleDependencies;
+    }
+
+    CompilationCache compilationCache() {
+        return compilationCache;
+    }
+
+    String sourceDigest() {
+        if (sourceDigest == null) {
+            sourceDigest = ModuleFingerprint.sourceDigest(this);
+        }
+        return sourceDigest;
+    }
+
+    Optional<String> birDigest() {
+        if (birDigest == null) {
+            // The digest is not remembered until the BIR is cached, since it may get cached later in the build
+            birDigest = ModuleFingerprint.birDigest(this).orElse(null);
+        }
+        return Optional.ofNullable(birDigest);
+    }
+
     List<ModuleDescriptor> moduleDescDependencies() {
         return moduleDescDependencies;
     }
@@ -296,11 +325,16 @@ class ModuleContext {
             return moduleCompState;
         }
 
+        if (this.project.kind() == ProjectKind.BUILD_PROJECT && this.project.buildOptions().enableCache()) {
+            // Digest the sources before they are shrunk, so that the module can be fingerprinted once cached
+            sourceDigest();
+        }
+
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
+        if (!compilationCache.hasBir(moduleDescriptor.name())) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+                && (!this.project.buildOptions().enableCache() || !isCachedFingerprintValid())) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
@@ -308,18 +342,53 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    private boolean isCachedFingerprintValid() {
+        Optional<String> cachedFingerprint = compilationCache.getModuleFingerprint(moduleDescriptor.name());
+        if (cachedFingerprint.isEmpty()
+                || cachedFingerprint.get().equals(ProjectConstants.UNTRACKED_MODULE_FINGERPRINT)) {
+            // Such caches are cleared whenever the package is modified, hence the module is reused as is
+            return true;
+        }
+        // The analyzer diagnostics are reported again for a module loaded from the cache, hence the module is
+        // compiled again if they were not cached
+        return cachedFingerprint.get().equals(ModuleFingerprint.compute(this))
+                && compilationCache.getAnalyzerDiagnostics(moduleDescriptor.name()).isPresent();
+    }
+
+    void cacheFingerprint(boolean tracked) {
+        // Code generators and modifiers change the sources in memory, hence the fingerprint of a module compiled
+        // with them cannot be compared with the sources of a later build
+        compilationCache.cacheModuleFingerprint(moduleDescriptor.name(),
+                tracked ? ModuleFingerprint.compute(this) : ProjectConstants.UNTRACKED_MODULE_FINGERPRINT);
+    }
+
+    List<Diagnostic> cachedAnalyzerDiagnostics() {
+        return compilationCache.getAnalyzerDiagnostics(moduleDescriptor.name()).orElse(Collections.emptyList());
+    }
+
+    void setAnalyzerDiagnostics(List<Diagnostic> analyzerDiagnostics) {
+        this.analyzerDiagnostics = analyzerDiagnostics;
+    }
+
+    void cacheAnalyzerDiagnostics() {
+        if (analyzerDiagnostics != null) {
+            compilationCache.cacheAnalyzerDiagnostics(moduleDescriptor.name(), analyzerDiagnostics);
+        }
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
 
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
+        Set<ModuleContext> resolvedModuleDependencies = new HashSet<>();
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
             for (ModuleDescriptor dependencyModDesc : moduleDescDependencies) {
                 // Dependencies loaded from cache should not contain test dependencies
                 addModuleDependency(dependencyModDesc.org(), dependencyModDesc.packageName(),
                         dependencyModDesc.name(), PackageDependencyScope.DEFAULT,
-                        moduleDependencies, dependencyResolution);
+                        moduleDependencies, resolvedModuleDependencies, dependencyResolution);
             }
         } else {
             Set<ModuleLoadRequest> moduleLoadRequests = new OverwritableLinkedHashSet();
@@ -337,18 +406,20 @@ class ModuleContext {
                     packageOrg = modLoadRequest.orgName().get();
                 }
 
-                addModuleDependency(packageOrg, modLoadRequest.moduleName(),
-                        modLoadRequest.scope(), moduleDependencies, dependencyResolution);
+                addModuleDependency(packageOrg, modLoadRequest.moduleName(), modLoadRequest.scope(),
+                        moduleDependencies, resolvedModuleDependencies, dependencyResolution);
             }
         }
 
         this.moduleDependencies = Collections.unmodifiableSet(moduleDependencies);
+        this.resolvedModuleDependencies = Collections.unmodifiableSet(resolvedModuleDependencies);
     }
 
     private void addModuleDependency(PackageOrg org,
                                      String moduleName,
                                      PackageDependencyScope scope,
                                      Set<ModuleDependency> moduleDependencies,
+                                     Set<ModuleContext> resolvedModuleDependencies,
                                      DependencyResolution dependencyResolution) {
         Optional<ModuleContext> resolvedModuleOptional = dependencyResolution.getModule(org, moduleName);
         if (resolvedModuleOptional.isEmpty()) {
@@ -359,6 +430,7 @@ class ModuleContext {
         ModuleDependency moduleDependency = new ModuleDependency(
                 new PackageDependency(resolvedModule.moduleId().packageId(), scope), resolvedModule.descriptor());
         moduleDependencies.add(moduleDependency);
+        resolvedModuleDependencies.add(resolvedModule);
     }
 
     private void addModuleDependency(PackageOrg org,
@@ -366,6 +438,7 @@ class ModuleContext {
                                      ModuleName moduleName,
                                      PackageDependencyScope scope,
                                      Set<ModuleDependency> moduleDependencies,
+                                     Set<ModuleContext> resolvedModuleDependencies,
                                      DependencyResolution dependencyResolution) {
         Optional<Module> resolvedModuleOptional = dependencyResolution.getModule(org, packageName, moduleName);
         if (resolvedModuleOptional.isEmpty()) {
@@ -377,6 +450,7 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.packageInstance().packageId(), scope),
                 resolvedModule.descriptor());
         moduleDependencies.add(moduleDependency);
+        resolvedModuleDependencies.add(resolvedModule.moduleContext());
     }
 
     void compile(CompilerContext compilerContext) {
@@ -491,7 +565,8 @@ class ModuleContext {
         // Write the bir to the file system
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
-        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        compilerBackend.afterPlatformLibrariesCached(
+                () -> moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent));
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
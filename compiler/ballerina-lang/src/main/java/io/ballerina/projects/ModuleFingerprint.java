@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Computes the fingerprints used to decide whether the cached BIR and jar of a module are up-to-date.
+ * <p>
+ * The fingerprint of a module of the root package covers its sources, test sources and resources, the resolved
+ * dependencies, the compiler version and the build options that affect the generated code. A dependency from
+ * the same package contributes its own fingerprint, whereas a dependency from another package contributes the
+ * hash of its BIR, or of its sources if the BIR is not cached yet.
+ *
+ * @since 2201.10.0
+ */
+final class ModuleFingerprint {
+
+    private ModuleFingerprint() {
+    }
+
+    static String sourceDigest(ModuleContext moduleContext) {
+        MessageDigest digest = newDigest();
+        updateDescriptor(digest, moduleContext.descriptor());
+        update(digest, String.valueOf(moduleContext.isExported()));
+        updateDocuments(digest, moduleContext, moduleContext.srcDocumentIds());
+        updateDocuments(digest, moduleContext, moduleContext.testSrcDocumentIds());
+        updateResources(digest, moduleContext, moduleContext.resourceIds());
+        updateResources(digest, moduleContext, moduleContext.testResourceIds());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static Optional<String> birDigest(ModuleContext moduleContext) {
+        byte[] birContent = moduleContext.compilationCache().getBir(moduleContext.moduleName());
+        if (birContent.length == 0) {
+            return Optional.empty();
+        }
+        MessageDigest digest = newDigest();
+        digest.update(birContent);
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    static String compute(ModuleContext moduleContext) {
+        return compute(moduleContext, new HashMap<>());
+    }
+
+    private static String compute(ModuleContext moduleContext, Map<ModuleContext, String> dependencyDigests) {
+        MessageDigest digest = newDigest();
+        update(digest, RepoUtils.getBallerinaVersion());
+        BuildOptions buildOptions = moduleContext.project().buildOptions();
+        update(digest, String.valueOf(buildOptions.observabilityIncluded()));
+        update(digest, String.valueOf(buildOptions.cloud()));
+        update(digest, String.valueOf(buildOptions.remoteManagement()));
+        update(digest, String.valueOf(buildOptions.codeCoverage()));
+        update(digest, buildOptions.birOptimizationLevel());
+        update(digest, moduleContext.sourceDigest());
+        updateDependencies(digest, moduleContext, moduleContext.project(), dependencyDigests);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String dependencyDigest(ModuleContext moduleContext, Project rootProject,
+                                           Map<ModuleContext, String> dependencyDigests) {
+        String dependencyDigest = dependencyDigests.get(moduleContext);
+        if (dependencyDigest != null) {
+            return dependencyDigest;
+        }
+        if (moduleContext.project() == rootProject) {
+            dependencyDigest = compute(moduleContext, dependencyDigests);
+        } else {
+            dependencyDigest = externalDependencyDigest(moduleContext, rootProject, dependencyDigests);
+        }
+        dependencyDigests.put(moduleContext, dependencyDigest);
+        return dependencyDigest;
+    }
+
+    private static String externalDependencyDigest(ModuleContext moduleContext, Project rootProject,
+                                                   Map<ModuleContext, String> dependencyDigests) {
+        MessageDigest digest = newDigest();
+        updateDescriptor(digest, moduleContext.descriptor());
+        update(digest, moduleContext.birDigest().orElseGet(moduleContext::sourceDigest));
+        updateDependencies(digest, moduleContext, rootProject, dependencyDigests);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void updateDependencies(MessageDigest digest, ModuleContext moduleContext, Project rootProject,
+                                           Map<ModuleContext, String> dependencyDigests) {
+        List<ModuleContext> dependencies = new ArrayList<>(moduleContext.resolvedModuleDependencies());
+        dependencies.sort(Comparator.comparing(ModuleContext::descriptor));
+        for (ModuleContext dependency : dependencies) {
+            update(digest, dependencyDigest(dependency, rootProject, dependencyDigests));
+        }
+    }
+
+    private static void updateDescriptor(MessageDigest digest, ModuleDescriptor descriptor) {
+        update(digest, descriptor.org().value());
+        update(digest, descriptor.packageName().value());
+        update(digest, descriptor.version().toString());
+        update(digest, descriptor.name().toString());
+    }
+
+    private static void updateDocuments(MessageDigest digest, ModuleContext moduleContext,
+                                        Collection<DocumentId> documentIds) {
+        List<DocumentContext> documents = new ArrayList<>(documentIds.size());
+        for (DocumentId documentId : documentIds) {
+            documents.add(moduleContext.documentContext(documentId));
+        }
+        documents.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext document : documents) {
+            update(digest, document.name());
+            update(digest, document.textDocument().toString());
+        }
+    }
+
+    private static void updateResources(MessageDigest digest, ModuleContext moduleContext,
+                                        Collection<DocumentId> resourceIds) {
+        List<ResourceContext> resources = new ArrayList<>(resourceIds.size());
+        for (DocumentId resourceId : resourceIds) {
+            resources.add(moduleContext.resourceContext(resourceId));
+        }
+        resources.sort(Comparator.comparing(ResourceContext::name));
+        for (ResourceContext resource : resources) {
+            update(digest, resource.name());
+            byte[] content = resource.content();
+            update(digest, content.length);
+            digest.update(content);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Length prefixes keep the boundaries between values unambiguous
+        update(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, int value) {
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -35,12 +35,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 
+import static org.ballerinalang.compiler.CompilerOptionName.BIR_OPTIMIZATION_LEVEL;
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.LAZY_BIR_SYMBOL_LOADING;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
@@ -58,6 +61,8 @@ public class PackageCompilation {
     private CompilerContext compilerContext;
     private Map<TargetPlatform, CompilerBackend> compilerBackends;
     private List<Diagnostic> pluginDiagnostics;
+    // Diagnostics reported by the compilation analysis tasks of compiler plugins, once the package is analyzed
+    private List<Diagnostic> packageAnalyzerDiagnostics;
 
     private DiagnosticResult diagnosticResult;
     private volatile boolean compiled;
@@ -90,6 +95,8 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        options.put(LAZY_BIR_SYMBOL_LOADING, Boolean.toString(compilationOptions.lazyBirSymbolLoading()));
+        options.put(BIR_OPTIMIZATION_LEVEL, Integer.toString(compilationOptions.birOptimizationLevel()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
@@ -105,7 +112,9 @@ public class PackageCompilation {
         compilation.setCompilerPluginManager(compilerPluginManager);
 
         // Run code analyzers, if project has updated only
-        if (compilation.packageContext().defaultModuleContext().compilationState() != ModuleCompilationState.COMPILED) {
+        if (!compilation.hasModulesCompiledFromSources()) {
+            // The diagnostics reported when the cached modules were analyzed are reported again
+            addCompilerPluginDiagnostics(compilation, compilation.getCachedAnalyzerDiagnostics());
             return compilation;
         }
         // Do not run code analyzers, if the code generators or code modifiers are enabled.
@@ -197,6 +206,26 @@ public class PackageCompilation {
         }
     }
 
+    private boolean hasModulesCompiledFromSources() {
+        // Modules that are up-to-date are loaded from the cache, while the rest are compiled from sources
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            if (rootPackageContext.moduleContext(moduleId).compilationState() == ModuleCompilationState.COMPILED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Diagnostic> getCachedAnalyzerDiagnostics() {
+        List<Diagnostic> cachedDiagnostics = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            cachedDiagnostics.addAll(rootPackageContext.moduleContext(moduleId).cachedAnalyzerDiagnostics());
+        }
+        CompilationCache compilationCache = rootPackageContext.defaultModuleContext().compilationCache();
+        compilationCache.getPackageAnalyzerDiagnostics().ifPresent(cachedDiagnostics::addAll);
+        return cachedDiagnostics;
+    }
+
     private void compileModulesInternal() {
         List<Diagnostic> diagnostics = new ArrayList<>();
         // add resolution diagnostics
@@ -243,6 +272,14 @@ public class PackageCompilation {
         return pluginDiagnostics;
     }
 
+    Optional<List<Diagnostic>> packageAnalyzerDiagnostics() {
+        return Optional.ofNullable(packageAnalyzerDiagnostics);
+    }
+
+    void setPackageAnalyzerDiagnostics(List<Diagnostic> packageAnalyzerDiagnostics) {
+        this.packageAnalyzerDiagnostics = packageAnalyzerDiagnostics;
+    }
+
     private static void addCompilerPluginDiagnostics(PackageCompilation compilation,
                                                      List<Diagnostic> reportedDiagnostics) {
         List<Diagnostic> allDiagnostics = new ArrayList<>(compilation.diagnosticResult.diagnostics());
@@ -239,6 +239,8 @@ class PackageContext {
                 .setConfigSchemaGen(this.compilationOptions.configSchemaGen())
                 .setEnableCache(this.compilationOptions.enableCache())
                 .setRemoteManagement(this.compilationOptions.remoteManagement())
+                .setLazyBirSymbolLoading(this.compilationOptions.lazyBirSymbolLoading())
+                .setBirOptimizationLevel(this.compilationOptions.birOptimizationLevel())
                 .build();
         CompilationOptions mergedOptions = options.acceptTheirs(compilationOptions);
         return PackageCompilation.from(this, mergedOptions);
@@ -48,12 +48,27 @@ class SyntaxNodeAnalysisTaskRunner {
         List<Diagnostic> reportedDiagnostics = new ArrayList<>();
         PackageContext packageContext = this.currentPackage.packageContext();
         for (ModuleId moduleId : packageContext.moduleIds()) {
-            runTasks(packageContext.moduleContext(moduleId), reportedDiagnostics);
+            ModuleContext moduleContext = packageContext.moduleContext(moduleId);
+            // Modules loaded from the cache have no semantic model, hence the diagnostics reported for them in the
+            // build that cached them are reported again
+            if (moduleContext.compilationState() != ModuleCompilationState.COMPILED
+                    && moduleContext.compilationState() != ModuleCompilationState.PLATFORM_LIBRARY_GENERATED) {
+                reportedDiagnostics.addAll(moduleContext.cachedAnalyzerDiagnostics());
+                continue;
+            }
+            List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+            runTasks(moduleContext, moduleDiagnostics);
+            moduleContext.setAnalyzerDiagnostics(moduleDiagnostics);
+            reportedDiagnostics.addAll(moduleDiagnostics);
         }
         return reportedDiagnostics;
     }
 
     private void runTasks(ModuleContext moduleContext, List<Diagnostic> reportedDiagnostics) {
+        if (syntaxNodeAnalysisTaskMap.isEmpty()) {
+            // There are no syntax node analyzers to run
+            return;
+        }
         for (DocumentId srcDocumentId : moduleContext.srcDocumentIds()) {
             DocumentContext documentContext = moduleContext.documentContext(srcDocumentId);
             runTasks(documentContext.syntaxTree(), moduleContext.moduleId(),
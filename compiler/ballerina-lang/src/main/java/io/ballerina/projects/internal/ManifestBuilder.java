@@ -695,6 +695,10 @@ public class ManifestBuilder {
                 CompilerOptionName.REMOTE_MANAGEMENT.toString());
         Boolean showDependencyDiagnostics = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
+        Boolean trimExecutable = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.TRIM_EXECUTABLE.toString());
+        Boolean cdsArchive = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.CDS_ARCHIVE.toString());
 
         buildOptionsBuilder
                 .setOffline(offline)
@@ -710,7 +714,9 @@ public class ManifestBuilder {
                 .setExportComponentModel(exportComponentModel)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setRemoteManagement(remoteManagement)
-                .setShowDependencyDiagnostics(showDependencyDiagnostics);
+                .setShowDependencyDiagnostics(showDependencyDiagnostics)
+                .setTrimExecutable(trimExecutable)
+                .setCdsArchive(cdsArchive);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir);
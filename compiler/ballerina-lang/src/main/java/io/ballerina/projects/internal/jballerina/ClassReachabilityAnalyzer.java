@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.internal.jballerina;
+
+import org.objectweb.asm.ClassReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURATION_CLASS_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
+
+/**
+ * Finds the classes of the code generated module jars that cannot be reached from the entry points of an executable.
+ * <p>
+ * A class is reachable if its name appears in the constant pool of a reachable class, either as a class reference,
+ * inside a type descriptor or as a string constant naming the class. The main class, the classes of the other jars
+ * (runtime and platform libraries, which are kept as a whole) and service providers are the roots. A module whose
+ * class is reachable gets initialized, hence its init and configuration classes, which the runtime loads by name, are
+ * reachable as well. Working on constant pools keeps the analysis conservative: everything the JVM can link to, or
+ * the code can load using a literal class name, is retained.
+ *
+ * @since 2201.10.0
+ */
+public class ClassReachabilityAnalyzer {
+
+    private static final String SERVICES_DIR = "META-INF/services/";
+    private static final int CONSTANT_UTF8_TAG = 1;
+
+    // Module classes loaded reflectively by the runtime, e.g. when a module is initialized through the runtime API.
+    private static final Set<String> REFLECTIVELY_LOADED_CLASSES = Set.of(MODULE_INIT_CLASS_NAME,
+            CONFIGURATION_CLASS_NAME);
+
+    private final Map<String, byte[]> candidateClasses = new HashMap<>();
+    private final Set<String> reachableClasses = new HashSet<>();
+    private final Deque<String> pendingClasses = new ArrayDeque<>();
+    private final Set<String> rootClasses = new HashSet<>();
+    private final Set<String> rootJars = new HashSet<>();
+
+    /**
+     * Adds a jar whose classes may be removed if they are unreachable.
+     *
+     * @param jarPath path of the code generated module jar
+     * @throws IOException if the jar cannot be read
+     */
+    public void addCandidateJar(Path jarPath) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (isServiceEntry(entry)) {
+                    addServiceProviders(readEntry(zipFile, entry));
+                } else if (isClassEntry(entryName)) {
+                    String className = entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length());
+                    candidateClasses.putIfAbsent(className, readEntry(zipFile, entry));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a jar that is copied as a whole. Its classes and service providers are roots of the analysis.
+     *
+     * @param jarPath path of the runtime or platform library jar
+     */
+    public void addRootJar(Path jarPath) {
+        rootJars.add(jarPath.toString());
+    }
+
+    /**
+     * Marks the given class as an entry point.
+     *
+     * @param className binary or internal name of the class
+     */
+    public void addRootClass(String className) {
+        rootClasses.add(className.replace('.', '/'));
+    }
+
+    /**
+     * Computes the class entries of the candidate jars that are not reachable from any root.
+     *
+     * @return set of unreachable jar entry names
+     * @throws IOException if one of the root jars cannot be read
+     */
+    public Set<String> findUnreachableClassEntries() throws IOException {
+        for (String rootJar : rootJars) {
+            scanRootJar(Path.of(rootJar));
+        }
+        for (String className : rootClasses) {
+            markReachable(className);
+        }
+
+        while (!pendingClasses.isEmpty()) {
+            scanConstantPool(candidateClasses.get(pendingClasses.pop()));
+        }
+
+        Set<String> unreachableEntries = new TreeSet<>();
+        for (String className : candidateClasses.keySet()) {
+            if (!reachableClasses.contains(className)) {
+                unreachableEntries.add(className + CLASS_FILE_SUFFIX);
+            }
+        }
+        return unreachableEntries;
+    }
+
+    private void scanRootJar(Path jarPath) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (isServiceEntry(entry)) {
+                    addServiceProviders(readEntry(zipFile, entry));
+                } else if (isClassEntry(entryName)) {
+                    scanConstantPool(readEntry(zipFile, entry));
+                }
+            }
+        }
+    }
+
+    private void addServiceProviders(byte[] content) {
+        for (String line : new String(content, StandardCharsets.UTF_8).split("\n")) {
+            int commentStart = line.indexOf('#');
+            String provider = (commentStart < 0 ? line : line.substring(0, commentStart)).trim();
+            if (!provider.isEmpty()) {
+                addRootClass(provider);
+            }
+        }
+    }
+
+    private void scanConstantPool(byte[] classBytes) {
+        ClassReader classReader = new ClassReader(classBytes);
+        for (int i = 1; i < classReader.getItemCount(); i++) {
+            int offset = classReader.getItem(i);
+            // Second slots of long and double constants do not have an offset.
+            if (offset == 0 || classReader.readByte(offset - 1) != CONSTANT_UTF8_TAG) {
+                continue;
+            }
+            int length = classReader.readUnsignedShort(offset);
+            byte[] bytes = new byte[length];
+            for (int j = 0; j < length; j++) {
+                bytes[j] = (byte) classReader.readByte(offset + 2 + j);
+            }
+            markReferencedClasses(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void markReferencedClasses(String value) {
+        // Class references and string constants naming a class.
+        markReachable(value);
+        if (value.indexOf('.') >= 0 && value.indexOf('/') < 0) {
+            markReachable(value.replace('.', '/'));
+        }
+
+        // Field, method and generic signature descriptors.
+        int start = value.indexOf('L');
+        while (start >= 0) {
+            int end = value.indexOf(';', start);
+            if (end < 0) {
+                return;
+            }
+            String className = value.substring(start + 1, end);
+            int typeArgsStart = className.indexOf('<');
+            markReachable(typeArgsStart < 0 ? className : className.substring(0, typeArgsStart));
+            start = value.indexOf('L', start + 1);
+        }
+    }
+
+    private void markReachable(String className) {
+        if (!candidateClasses.containsKey(className) || !reachableClasses.add(className)) {
+            return;
+        }
+        pendingClasses.push(className);
+        // The classes of a module are in the same package
+        String packagePrefix = className.substring(0, className.lastIndexOf('/') + 1);
+        for (String moduleClassName : REFLECTIVELY_LOADED_CLASSES) {
+            markReachable(packagePrefix + moduleClassName);
+        }
+    }
+
+    private static boolean isServiceEntry(ZipEntry entry) {
+        return entry.getName().startsWith(SERVICES_DIR) && !entry.isDirectory();
+    }
+
+    private static boolean isClassEntry(String entryName) {
+        return entryName.endsWith(CLASS_FILE_SUFFIX) && !entryName.endsWith("module-info" + CLASS_FILE_SUFFIX);
+    }
+
+    private static byte[] readEntry(ZipFile zipFile, ZipEntry entry) throws IOException {
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
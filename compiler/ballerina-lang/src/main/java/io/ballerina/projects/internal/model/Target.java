@@ -24,8 +24,14 @@ import io.ballerina.projects.util.ProjectUtils;
 import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents the target directory model.
@@ -33,6 +39,8 @@ import java.nio.file.Path;
  * @since 2.0.0
  */
 public class Target {
+    private static final String OBSERVE_DIR_NAME = "observe";
+
     private final Path targetPath;
     private Path outputPath = null;
     private Path cache;
@@ -238,9 +246,16 @@ public class Target {
      * Clean any files that created from the build.
      */
     public void clean(boolean isModified, boolean cacheEnabled) throws IOException {
-        if (isModified || !cacheEnabled) {
+        if (!cacheEnabled || (isModified && !hasTrackedModuleFingerprints())) {
             // Remove from cache
             ProjectUtils.deleteDirectory(this.cache);
+        } else if (isModified) {
+            // Modules are compiled again based on their fingerprints, hence only the package level artifacts
+            // are removed from cache
+            ProjectUtils.deleteDirectory(this.testsCachePath);
+            for (Path observeDir : findInCache(OBSERVE_DIR_NAME)) {
+                ProjectUtils.deleteDirectory(observeDir);
+            }
         }
 
         // Remove any generated bala
@@ -250,6 +265,31 @@ public class Target {
         ProjectUtils.deleteDirectory(this.reportPath);
     }
 
+    private boolean hasTrackedModuleFingerprints() throws IOException {
+        List<Path> fingerprintFiles = findInCache("*" + ProjectConstants.MODULE_FINGERPRINT_EXT);
+        if (fingerprintFiles.isEmpty()) {
+            return false;
+        }
+        for (Path fingerprintFile : fingerprintFiles) {
+            if (Files.readString(fingerprintFile).trim().equals(ProjectConstants.UNTRACKED_MODULE_FINGERPRINT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Path> findInCache(String fileNamePattern) throws IOException {
+        if (!Files.isDirectory(this.cache)) {
+            return Collections.emptyList();
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + fileNamePattern);
+        // cache/org/package-name/version/bir/module.fingerprint
+        try (Stream<Path> paths = Files.find(this.cache, 5, (path, attributes) -> path.getFileName() != null
+                && matcher.matches(path.getFileName()))) {
+            return paths.collect(Collectors.toList());
+        }
+    }
+
     /**
      * Clean cache files that created from the build.
      */
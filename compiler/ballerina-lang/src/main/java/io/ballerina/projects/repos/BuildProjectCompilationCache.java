@@ -17,16 +17,31 @@
  */
 package io.ballerina.projects.repos;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LineRange;
 import org.apache.commons.io.FileUtils;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnostic;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
 
@@ -38,6 +53,7 @@ import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
 public class BuildProjectCompilationCache extends FileSystemCache {
     private Path birPath;
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final Gson GSON = new Gson();
 
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
         super(project, cacheDirPath.resolve(CACHES_DIR_NAME));
@@ -62,6 +78,139 @@ public class BuildProjectCompilationCache extends FileSystemCache {
         return new byte[0];
     }
 
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            // The module is compiled again only if its fingerprint changed, hence the cached bir is replaced and
+            // the fingerprint is recorded once the module library is cached as well. The analyzer diagnostics of the
+            // module and the package are recorded again once the compiler plugins have analyzed the new sources.
+            Files.deleteIfExists(getBirPath().resolve(moduleName.toString()
+                    + ProjectConstants.MODULE_FINGERPRINT_EXT));
+            Files.deleteIfExists(getAnalyzerDiagnosticsPath(moduleName));
+            Files.deleteIfExists(getBirPath().resolve(ProjectConstants.PACKAGE_ANALYZER_DIAGNOSTICS_FILE_NAME));
+            writeAtomically(birFilePath, birContent.toByteArray());
+        } catch (IOException e) {
+            throw new ProjectException("Failed to cache the BIR of module '" + moduleName + "': " + e.getMessage(),
+                    e);
+        }
+    }
+
+    @Override
+    public Optional<String> getModuleFingerprint(ModuleName moduleName) {
+        Path fingerprintFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.MODULE_FINGERPRINT_EXT);
+        try {
+            return Optional.of(Files.readString(fingerprintFilePath, StandardCharsets.US_ASCII).trim());
+        } catch (IOException e) {
+            // A missing or unreadable fingerprint never matches, hence the module is compiled again
+            return Optional.of("");
+        }
+    }
+
+    @Override
+    public void cacheModuleFingerprint(ModuleName moduleName, String fingerprint) {
+        Path fingerprintFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.MODULE_FINGERPRINT_EXT);
+        try {
+            writeAtomically(fingerprintFilePath, fingerprint.getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            // The cached BIR and library are still valid. Without a fingerprint, the module is compiled again in the
+            // next build, hence a stale fingerprint must not be left behind.
+            try {
+                Files.deleteIfExists(fingerprintFilePath);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+                throw new ProjectException("Failed to cache the fingerprint of module '" + moduleName + "': " +
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public Optional<List<Diagnostic>> getAnalyzerDiagnostics(ModuleName moduleName) {
+        return readDiagnostics(getAnalyzerDiagnosticsPath(moduleName));
+    }
+
+    @Override
+    public void cacheAnalyzerDiagnostics(ModuleName moduleName, List<Diagnostic> diagnostics) {
+        try {
+            writeDiagnostics(getAnalyzerDiagnosticsPath(moduleName), diagnostics);
+        } catch (IOException e) {
+            throw new ProjectException("Failed to cache the analyzer diagnostics of module '" + moduleName + "': " +
+                    e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<List<Diagnostic>> getPackageAnalyzerDiagnostics() {
+        return readDiagnostics(getBirPath().resolve(ProjectConstants.PACKAGE_ANALYZER_DIAGNOSTICS_FILE_NAME));
+    }
+
+    @Override
+    public void cachePackageAnalyzerDiagnostics(List<Diagnostic> diagnostics) {
+        try {
+            writeDiagnostics(getBirPath().resolve(ProjectConstants.PACKAGE_ANALYZER_DIAGNOSTICS_FILE_NAME),
+                    diagnostics);
+        } catch (IOException e) {
+            throw new ProjectException("Failed to cache the analyzer diagnostics of package '" +
+                    project.currentPackage().packageName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    private Path getAnalyzerDiagnosticsPath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + ProjectConstants.ANALYZER_DIAGNOSTICS_EXT);
+    }
+
+    private static Optional<List<Diagnostic>> readDiagnostics(Path diagnosticsFilePath) {
+        CachedDiagnostic[] cachedDiagnostics;
+        try {
+            cachedDiagnostics = GSON.fromJson(Files.readString(diagnosticsFilePath, StandardCharsets.UTF_8),
+                    CachedDiagnostic[].class);
+        } catch (IOException | JsonParseException e) {
+            // Missing or unreadable diagnostics are treated as not cached
+            return Optional.empty();
+        }
+        if (cachedDiagnostics == null) {
+            return Optional.empty();
+        }
+        List<Diagnostic> diagnostics = new ArrayList<>(cachedDiagnostics.length);
+        for (CachedDiagnostic cachedDiagnostic : cachedDiagnostics) {
+            diagnostics.add(cachedDiagnostic.toDiagnostic());
+        }
+        return Optional.of(diagnostics);
+    }
+
+    private void writeDiagnostics(Path diagnosticsFilePath, List<Diagnostic> diagnostics) throws IOException {
+        List<CachedDiagnostic> cachedDiagnostics = new ArrayList<>(diagnostics.size());
+        for (Diagnostic diagnostic : diagnostics) {
+            cachedDiagnostics.add(CachedDiagnostic.from(diagnostic));
+        }
+        try {
+            writeAtomically(diagnosticsFilePath, GSON.toJson(cachedDiagnostics).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Diagnostics which are not cached are never reported for a cached module, hence stale ones must not be
+            // left behind
+            try {
+                Files.deleteIfExists(diagnosticsFilePath);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    private void writeAtomically(Path filePath, byte[] content) throws IOException {
+        Files.createDirectories(birPath);
+        Path tempFilePath = Files.createTempFile(birPath, filePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFilePath, content);
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -75,4 +224,45 @@ public class BuildProjectCompilationCache extends FileSystemCache {
                 .resolve(ProjectConstants.REPO_BIR_CACHE_NAME);
         return birPath;
     }
+
+    /**
+     * Serialized form of a diagnostic reported by a compiler plugin. The properties of the diagnostic are not kept.
+     */
+    private static class CachedDiagnostic {
+        private String code;
+        private String messageFormat;
+        private DiagnosticSeverity severity;
+        private String message;
+        private String filePath;
+        private int startLine;
+        private int startColumn;
+        private int endLine;
+        private int endColumn;
+        private int startOffset;
+        private int length;
+
+        static CachedDiagnostic from(Diagnostic diagnostic) {
+            CachedDiagnostic cachedDiagnostic = new CachedDiagnostic();
+            DiagnosticInfo diagnosticInfo = diagnostic.diagnosticInfo();
+            cachedDiagnostic.code = diagnosticInfo.code();
+            cachedDiagnostic.messageFormat = diagnosticInfo.messageFormat();
+            cachedDiagnostic.severity = diagnosticInfo.severity();
+            cachedDiagnostic.message = diagnostic.message();
+            LineRange lineRange = diagnostic.location().lineRange();
+            cachedDiagnostic.filePath = lineRange.fileName();
+            cachedDiagnostic.startLine = lineRange.startLine().line();
+            cachedDiagnostic.startColumn = lineRange.startLine().offset();
+            cachedDiagnostic.endLine = lineRange.endLine().line();
+            cachedDiagnostic.endColumn = lineRange.endLine().offset();
+            cachedDiagnostic.startOffset = diagnostic.location().textRange().startOffset();
+            cachedDiagnostic.length = diagnostic.location().textRange().length();
+            return cachedDiagnostic;
+        }
+
+        Diagnostic toDiagnostic() {
+            BLangDiagnosticLocation location = new BLangDiagnosticLocation(filePath, startLine, endLine, startColumn,
+                    endColumn, startOffset, length);
+            return new BLangDiagnostic(location, message, new DiagnosticInfo(code, messageFormat, severity), null);
+        }
+    }
 }
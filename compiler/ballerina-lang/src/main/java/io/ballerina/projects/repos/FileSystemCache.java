@@ -28,10 +28,12 @@ import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 /**
@@ -62,8 +64,7 @@ public class FileSystemCache extends CompilationCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        Path birFilePath = getBirPath().resolve(moduleName.toString()
-                + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        Path birFilePath = getBirFilePath(moduleName);
         if (Files.exists(birFilePath)) {
             try {
                 return FileUtils.readFileToByteArray(birFilePath.toFile());
@@ -75,15 +76,25 @@ public class FileSystemCache extends CompilationCache {
         return new byte[0];
     }
 
+    @Override
+    public boolean hasBir(ModuleName moduleName) {
+        return Files.exists(getBirFilePath(moduleName));
+    }
+
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
-        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        Path birFilePath = getBirFilePath(moduleName);
         if (!Files.exists(birFilePath)) {
             try {
-                File tempBirFile = birPath.resolve(".tmp").toFile();
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(tempBirFile, birContent.toByteArray());
-                FileUtils.moveFile(tempBirFile, birFilePath.toFile());
+                createDirectories(birPath);
+                // Use a unique temporary file since other processes may be caching the same package
+                Path tempBirFile = Files.createTempFile(birPath, moduleName.toString(), ".tmp");
+                try {
+                    Files.write(tempBirFile, birContent.toByteArray());
+                    moveAtomically(tempBirFile, birFilePath);
+                } finally {
+                    Files.deleteIfExists(tempBirFile);
+                }
             } catch (IOException e) {
                 // TODO proper error handling
                 throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
@@ -91,6 +102,24 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    private Path getBirFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(source, target);
+            } catch (FileAlreadyExistsException ignore) {
+                // Another process cached the same bir in the meantime
+            }
+        } catch (FileAlreadyExistsException ignore) {
+            // Another process cached the same bir in the meantime
+        }
+    }
+
     @Override
     public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
         String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
@@ -109,9 +138,15 @@ public class FileSystemCache extends CompilationCache {
         createDirectories(targetPlatformCacheDirPath);
         Path jarFilePath = targetPlatformCacheDirPath.resolve(libraryFileName);
 
-        // TODO Can we improve this logic
         try {
-            FileUtils.writeByteArrayToFile(jarFilePath.toFile(), libraryContent.toByteArray());
+            // The library is moved in place once it is fully written, so a failed write never leaves a partial jar
+            Path tempJarFile = Files.createTempFile(targetPlatformCacheDirPath, libraryName, ".tmp");
+            try {
+                Files.write(tempJarFile, libraryContent.toByteArray());
+                Files.move(tempJarFile, jarFilePath, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempJarFile);
+            }
         } catch (IOException e) {
             // TODO improve the error handling
             throw new RuntimeException("Failed to write library: " + jarFilePath, e);
@@ -89,6 +89,10 @@ public class ProjectConstants {
 
     public static final String BLANG_COMPILED_PKG_BINARY_EXT = ".bala";
     public static final String BLANG_COMPILED_PKG_BIR_EXT = ".bir";
+    public static final String MODULE_FINGERPRINT_EXT = ".fingerprint";
+    public static final String UNTRACKED_MODULE_FINGERPRINT = "untracked";
+    public static final String ANALYZER_DIAGNOSTICS_EXT = ".diagnostics";
+    public static final String PACKAGE_ANALYZER_DIAGNOSTICS_FILE_NAME = "package-analyzers" + ANALYZER_DIAGNOSTICS_EXT;
     public static final String BLANG_COMPILED_JAR_EXT = ".jar";
     public static final String RESOURCE_DIR_NAME = "resources";
 
@@ -64,6 +64,8 @@ public enum CompilerOptionName {
 
     ENABLE_CACHE("enableCache"),
     REMOTE_MANAGEMENT("remoteManagement"),
+    LAZY_BIR_SYMBOL_LOADING("lazyBirSymbolLoading"),
+    BIR_OPTIMIZATION_LEVEL("birOptimizationLevel"),
 
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
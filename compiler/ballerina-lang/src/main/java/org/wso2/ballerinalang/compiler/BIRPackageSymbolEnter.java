@@ -19,6 +19,7 @@ package org.wso2.ballerinalang.compiler;
 
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.AttachPoint;
 import org.ballerinalang.model.elements.Flag;
@@ -93,6 +94,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangTypeDefinition;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
 import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -104,7 +106,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -139,6 +140,7 @@ public class BIRPackageSymbolEnter {
     private final Names names;
     private final TypeParamAnalyzer typeParamAnalyzer;
     private final Types types;
+    private final CompilerOptions compilerOptions;
     private BIRTypeReader typeReader;
 
     private BIRPackageSymbolEnv env;
@@ -171,10 +173,12 @@ public class BIRPackageSymbolEnter {
         this.names = Names.getInstance(context);
         this.typeParamAnalyzer = TypeParamAnalyzer.getInstance(context);
         this.types = Types.getInstance(context);
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
-    public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+    public synchronized BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
+        BPackageSymbol pkgSymbol = definePackage(packageId, packageBinaryContent,
+                Boolean.parseBoolean(compilerOptions.get(CompilerOptionName.LAZY_BIR_SYMBOL_LOADING)));
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -186,12 +190,20 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent,
+                                         boolean lazySymbolLoading) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
-        try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(packageBinaryContent))) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            if (lazySymbolLoading) {
+                // Functions are read back from the binary content when they are looked up.
+                this.env.packageBinaryContent = packageBinaryContent;
+                this.env.globalVarMap = new HashMap<>();
+            } else {
+                this.env.globalVarMap = this.globalVarMap;
+            }
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -253,7 +265,11 @@ public class BIRPackageSymbolEnter {
         readTypeDefBodies(dataInStream);
 
         // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        if (this.env.packageBinaryContent != null) {
+            defineFunctionsLazily(dataInStream);
+        } else {
+            defineSymbols(dataInStream, rethrow(this::defineFunction));
+        }
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -391,6 +407,85 @@ public class BIRPackageSymbolEnter {
         this.env.pkgSymbol.imports.add(importPackageSymbol);
     }
 
+    /**
+     * Indexes the offsets of the module level functions, and defines each of them only when it is looked up in the
+     * package scope. Only the module level functions are defined lazily. Type definitions, constants, global
+     * variables, annotations and the attached functions of classes are still defined eagerly, as the type reader
+     * resolves type references against them while the package is being read.
+     */
+    private void defineFunctionsLazily(DataInputStream dataInStream) throws IOException {
+        BIRPackageSymbolEnv pkgEnv = this.env;
+        int functionCount = dataInStream.readInt();
+        for (int i = 0; i < functionCount; i++) {
+            int offset = pkgEnv.packageBinaryContent.length - dataInStream.available();
+            String funcName = skipFunction(dataInStream);
+            pkgEnv.pkgSymbol.scope.defineLazily(names.fromString(funcName),
+                    () -> defineLazyFunction(pkgEnv, funcName, offset));
+        }
+    }
+
+    /**
+     * Skips a function record and returns the name of the function. This needs to be kept in sync with
+     * {@code BIRBinaryWriter#writeFunction} and {@link #defineFunction(DataInputStream)}. A mismatch is detected when
+     * the function is defined, as the record at the indexed offset would not be of the same function.
+     */
+    private String skipFunction(DataInputStream dataInStream) throws IOException {
+        dataInStream.skipBytes(20); // position
+        String funcName = getStringCPEntryValue(dataInStream);
+        dataInStream.skipBytes(21); // original name, worker name, flags, origin and type
+        dataInStream.readBoolean(); // resource path info is only present for attached functions
+        dataInStream.skip(dataInStream.readLong()); // annotations
+        dataInStream.skip(dataInStream.readLong()); // return type annotations
+
+        int requiredParamCount = dataInStream.readInt();
+        for (int i = 0; i < requiredParamCount; i++) {
+            dataInStream.skipBytes(12); // name and flags
+            dataInStream.skip(dataInStream.readLong());
+        }
+        if (dataInStream.readBoolean()) { // rest param
+            dataInStream.skipBytes(4);
+            dataInStream.skip(dataInStream.readLong());
+        }
+        if (dataInStream.readBoolean()) { // receiver
+            dataInStream.skipBytes(9);
+        }
+
+        dataInStream.skipBytes(dataInStream.readInt()); // markdown documentation
+        dataInStream.skipBytes(dataInStream.readInt() * 4); // global variable dependencies
+        dataInStream.skip(dataInStream.readLong()); // scope table info
+        dataInStream.skip(dataInStream.readLong()); // method body
+        return funcName;
+    }
+
+    private synchronized void defineLazyFunction(BIRPackageSymbolEnv pkgEnv, String funcName, int offset) {
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        LinkedList<Object> prevCompositeStack = this.compositeStack;
+        this.env = pkgEnv;
+        this.currentStructure = null;
+        this.compositeStack = new LinkedList<>();
+        byte[] content = pkgEnv.packageBinaryContent;
+        try (DataInputStream dataInStream =
+                     new DataInputStream(new ByteArrayInputStream(content, offset, content.length - offset))) {
+            dataInStream.mark(content.length);
+            dataInStream.skipBytes(20); // position
+            String recordFuncName = getStringCPEntryValue(dataInStream);
+            if (!funcName.equals(recordFuncName)) {
+                throw new IllegalStateException("expected the function '" + funcName + "' at offset " + offset +
+                        ", found '" + recordFuncName + "'");
+            }
+            dataInStream.reset();
+            defineFunction(dataInStream);
+        } catch (Throwable e) {
+            throw new BLangCompilerException("failed to load a function of the module '" + pkgEnv.pkgSymbol.pkgID +
+                    "' from its BIR" + (e.getMessage() != null ? (" due to: " + e.getMessage()) : ""), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+            this.compositeStack = prevCompositeStack;
+        }
+    }
+
     private void defineFunction(DataInputStream dataInStream) throws IOException {
         Location pos = readPosition(dataInStream);
 
@@ -525,7 +620,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -901,7 +996,7 @@ public class BIRPackageSymbolEnter {
         }
         varSymbol.pos = pos;
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
         defineAnnotAttachmentSymbols(dataInStream, varSymbol);
@@ -1117,6 +1212,8 @@ public class BIRPackageSymbolEnter {
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
+        Map<String, BVarSymbol> globalVarMap;
+        byte[] packageBinaryContent;
 
         BIRPackageSymbolEnv() {
             this.unresolvedTypes = new ArrayList<>();
@@ -1855,10 +1952,11 @@ public class BIRPackageSymbolEnter {
                 }
             }
         } else {
-            for (Map.Entry<Name, Scope.ScopeEntry> value : pkgEnv.scope.entries.entrySet()) {
-                BSymbol symbol = value.getValue().symbol;
+            // Only the type definitions are looked up, hence the lazily defined functions are not loaded here.
+            for (Scope.ScopeEntry entry : pkgEnv.scope.definedEntries()) {
+                BSymbol symbol = entry.symbol;
 
-                if (value.getKey().value.contains(ANON_PREFIX)) {
+                if (symbol.name.value.contains(ANON_PREFIX)) {
                     BType anonType = symbol.type;
 
                     if (types.isSameBIRShape(readShape, anonType)) {
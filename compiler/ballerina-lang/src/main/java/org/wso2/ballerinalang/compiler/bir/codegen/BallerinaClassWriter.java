@@ -19,6 +19,7 @@
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.objectweb.asm.ClassWriter;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.ClassHierarchyCache;
 
 /**
  * Class Writer for generating ballerina classes.
@@ -27,7 +28,8 @@ import org.objectweb.asm.ClassWriter;
  */
 public class BallerinaClassWriter extends ClassWriter {
 
-    private static final String OBJECT_CLASS = "java/lang/Object";
+    private static final ClassHierarchyCache CLASS_HIERARCHY_CACHE =
+            new ClassHierarchyCache(BallerinaClassWriter.class.getClassLoader());
 
     public BallerinaClassWriter(int flags) {
         super(flags);
@@ -40,36 +42,6 @@ public class BallerinaClassWriter extends ClassWriter {
      */
     @Override
     protected String getCommonSuperClass(String type1, String type2) {
-
-        ClassLoader classLoader = getClassLoader();
-        Class<?> class1;
-
-        try {
-            class1 = Class.forName(type1.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
-            return OBJECT_CLASS;
-        }
-
-        Class<?> class2;
-        try {
-            class2 = Class.forName(type2.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
-            return OBJECT_CLASS;
-        }
-
-        if (class1.isAssignableFrom(class2)) {
-            return type1;
-        } else if (class2.isAssignableFrom(class1)) {
-            return type2;
-        } else if (class1.isInterface() || class2.isInterface()) {
-            return OBJECT_CLASS;
-        }
-
-        class1 = class1.getSuperclass();
-        while (!class1.isAssignableFrom(class2)) {
-            class1 = class1.getSuperclass();
-        }
-
-        return class1.getName().replace('.', '/');
+        return CLASS_HIERARCHY_CACHE.getCommonSuperClass(type1, type2);
     }
 }
@@ -32,6 +32,7 @@ import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JavaClass;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.NonYieldingFunctionAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInteropException;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.ConfigMethodGen;
@@ -150,6 +151,7 @@ public class JvmPackageGen {
     private final BLangDiagnosticLog dlog;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
+    private NonYieldingFunctionAnalyzer nonYieldingFunctionAnalyzer;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog, Types types,
                   boolean isRemoteMgtEnabled) {
@@ -650,6 +652,11 @@ public class JvmPackageGen {
         birFunctionMap.clear();
         globalVarClassMap.clear();
         dependentModules.clear();
+        nonYieldingFunctionAnalyzer = null;
+    }
+
+    public NonYieldingFunctionAnalyzer getNonYieldingFunctionAnalyzer() {
+        return this.nonYieldingFunctionAnalyzer;
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -760,13 +767,16 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // find the functions which can be generated without the frame save and restore code
+        nonYieldingFunctionAnalyzer = new NonYieldingFunctionAnalyzer(module);
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor, types);
         JvmCastGen jvmCastGen = new JvmCastGen(symbolTable, jvmTypeGen, types);
         valueGen.generateValueClasses(jarEntries, jvmConstantsGen, jvmTypeGen);
 
         // generate frame classes
-        frameClassGen.generateFrameClasses(module, jarEntries);
+        frameClassGen.generateFrameClasses(module, jarEntries, nonYieldingFunctionAnalyzer);
 
         // generate module classes
         generateModuleClasses(module, jarEntries, moduleInitClass, typesClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
@@ -816,7 +826,8 @@ public class JvmPackageGen {
 
     private boolean listenerDeclarationFound(BPackageSymbol packageSymbol) {
         if (packageSymbol.bir == null) {
-            for (Scope.ScopeEntry entry : packageSymbol.scope.entries.values()) {
+            // Listeners are module level variables, hence lazily defined functions need not be loaded here.
+            for (Scope.ScopeEntry entry : packageSymbol.scope.definedEntries()) {
                 BSymbol symbol = entry.symbol;
                 if (symbol != null && Symbols.isFlagOn(symbol.flags, Flags.LISTENER)) {
                     return true;
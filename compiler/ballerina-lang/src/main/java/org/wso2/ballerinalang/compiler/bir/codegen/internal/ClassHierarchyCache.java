@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import org.objectweb.asm.ClassReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.objectweb.asm.Opcodes.ACC_INTERFACE;
+
+/**
+ * Type hierarchy of the classes visible to the compiler, used to resolve common super classes while computing
+ * stack map frames. Class headers are read with ASM from the class loader resources instead of loading the classes,
+ * and both the hierarchy and the resolved super classes are memoized.
+ * <p>
+ * Only classes found on the class loader are memoized. Generated classes are looked up again on each call, so that
+ * the cache stays bounded by the classes of the compiler's class path in long-running processes.
+ *
+ * @since 2201.10.0
+ */
+public class ClassHierarchyCache {
+
+    private static final String OBJECT_CLASS = "java/lang/Object";
+
+    private final ClassLoader classLoader;
+    private final Map<String, ClassInfo> classInfoMap = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> superTypesMap = new ConcurrentHashMap<>();
+    private final Map<String, String> commonSuperClassMap = new ConcurrentHashMap<>();
+
+    public ClassHierarchyCache(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns the common super class of the two given internal class names. If any of the classes or their super
+     * types are not found, they are assumed to be generated or to-be generated classes and {@link Object} is returned.
+     *
+     * @param type1 internal name of the first class
+     * @param type2 internal name of the second class
+     * @return internal name of the common super class
+     */
+    public String getCommonSuperClass(String type1, String type2) {
+        if (type1.startsWith("[") && type1.equals(type2)) {
+            return type1;
+        }
+        String key = type1 + ";" + type2;
+        String commonSuperClass = commonSuperClassMap.get(key);
+        if (commonSuperClass != null) {
+            return commonSuperClass;
+        }
+
+        Set<String> superTypes1 = getSuperTypes(type1);
+        Set<String> superTypes2 = getSuperTypes(type2);
+        if (superTypes1 == null || superTypes2 == null) {
+            return OBJECT_CLASS;
+        }
+        commonSuperClass = resolveCommonSuperClass(type1, type2, superTypes1, superTypes2);
+        commonSuperClassMap.put(key, commonSuperClass);
+        return commonSuperClass;
+    }
+
+    private String resolveCommonSuperClass(String type1, String type2, Set<String> superTypes1,
+                                           Set<String> superTypes2) {
+        if (superTypes2.contains(type1)) {
+            return type1;
+        } else if (superTypes1.contains(type2)) {
+            return type2;
+        } else if (getClassInfo(type1).isInterface() || getClassInfo(type2).isInterface()) {
+            return OBJECT_CLASS;
+        }
+
+        String superClass = getClassInfo(type1).superName();
+        while (!superTypes2.contains(superClass)) {
+            superClass = getClassInfo(superClass).superName();
+        }
+        return superClass;
+    }
+
+    /**
+     * Returns the given class together with all of its super classes and interfaces, or null if any of them cannot
+     * be found.
+     */
+    private Set<String> getSuperTypes(String type) {
+        Set<String> superTypes = superTypesMap.get(type);
+        if (superTypes != null) {
+            return superTypes;
+        }
+
+        ClassInfo classInfo = getClassInfo(type);
+        superTypes = new HashSet<>();
+        if (classInfo == null || !collectSuperTypes(type, classInfo, superTypes)) {
+            return null;
+        }
+        superTypesMap.put(type, superTypes);
+        return superTypes;
+    }
+
+    private boolean collectSuperTypes(String type, ClassInfo classInfo, Set<String> superTypes) {
+        superTypes.add(type);
+        if (classInfo.superName() != null && !addSuperTypes(classInfo.superName(), superTypes)) {
+            return false;
+        }
+        for (String anInterface : classInfo.interfaces()) {
+            if (!addSuperTypes(anInterface, superTypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean addSuperTypes(String type, Set<String> superTypes) {
+        if (superTypes.contains(type)) {
+            return true;
+        }
+        Set<String> typeSuperTypes = getSuperTypes(type);
+        if (typeSuperTypes == null) {
+            return false;
+        }
+        superTypes.addAll(typeSuperTypes);
+        return true;
+    }
+
+    /**
+     * Returns the header of the given class, or null if the class is not found on the class loader.
+     */
+    private ClassInfo getClassInfo(String type) {
+        ClassInfo classInfo = classInfoMap.get(type);
+        if (classInfo == null) {
+            classInfo = readClassInfo(type);
+            if (classInfo != null) {
+                classInfoMap.put(type, classInfo);
+            }
+        }
+        return classInfo;
+    }
+
+    private ClassInfo readClassInfo(String type) {
+        if (classLoader == null || type.startsWith("[")) {
+            return null;
+        }
+        try (InputStream inputStream = classLoader.getResourceAsStream(type + ".class")) {
+            if (inputStream == null) {
+                return null;
+            }
+            ClassReader classReader = new ClassReader(inputStream);
+            return new ClassInfo(classReader.getSuperName(), classReader.getInterfaces(),
+                    (classReader.getAccess() & ACC_INTERFACE) != 0);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private record ClassInfo(String superName, String[] interfaces, boolean isInterface) {
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Finds the module level functions of a module which can never yield the strand they run on.
+ * <p>
+ * A function cannot yield if it does not interact with workers, does not wait, lock or flush, and only makes
+ * direct calls to functions of the same module which cannot yield either. Calls to external functions, function
+ * pointers, object methods and functions of other modules are assumed to yield. Such functions are generated
+ * without the code to save and restore their frame, and the callers skip the yield check after calling them.
+ *
+ * @since 2201.10.0
+ */
+public class NonYieldingFunctionAnalyzer {
+
+    private final PackageID packageID;
+    private final Map<String, BIRFunction> nonYieldingFunctions = new HashMap<>();
+
+    public NonYieldingFunctionAnalyzer(BIRPackage module) {
+        this.packageID = module.packageID;
+        for (BIRFunction function : module.functions) {
+            if (hasOnlyNonYieldingTerminators(function)) {
+                nonYieldingFunctions.put(function.name.value, function);
+            }
+        }
+        // Functions which call a function that may yield may yield themselves, until there are no more changes.
+        // Recursive calls among the remaining functions cannot yield.
+        boolean changed;
+        do {
+            changed = false;
+            Iterator<BIRFunction> iterator = nonYieldingFunctions.values().iterator();
+            while (iterator.hasNext()) {
+                if (callsYieldingFunction(iterator.next())) {
+                    iterator.remove();
+                    changed = true;
+                }
+            }
+        } while (changed);
+    }
+
+    /**
+     * Returns whether the given function is a module level function which can never yield.
+     *
+     * @param function function to check
+     * @return true if the function can never yield
+     */
+    public boolean isNonYielding(BIRFunction function) {
+        return nonYieldingFunctions.get(function.name.value) == function;
+    }
+
+    /**
+     * Returns whether the strand may have yielded after executing the given terminator, in which case the caller
+     * must check the strand state before continuing.
+     *
+     * @param terminator terminator to check
+     * @return false if the terminator is a call to a function which can never yield
+     */
+    public boolean mayYield(BIRTerminator terminator) {
+        return !isNonYieldingCall(terminator);
+    }
+
+    private boolean hasOnlyNonYieldingTerminators(BIRFunction function) {
+        if (JvmCodeGenUtil.isExternFunc(function) || Symbols.isFlagOn(function.flags, Flags.WORKER)
+                || (function.workerChannels != null && function.workerChannels.length > 0)
+                || function.basicBlocks.isEmpty()) {
+            return false;
+        }
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null) {
+                return false;
+            }
+            switch (terminator.kind) {
+                case GOTO, BRANCH, RETURN, PANIC:
+                    break;
+                case CALL:
+                    BIRTerminator.Call call = (BIRTerminator.Call) terminator;
+                    if (call.isVirtual || !JvmCodeGenUtil.isSameModule(packageID, call.calleePkg)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callsYieldingFunction(BIRFunction function) {
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator.kind == InstructionKind.CALL && !isNonYieldingCall(basicBlock.terminator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNonYieldingCall(BIRTerminator terminator) {
+        if (terminator.kind != InstructionKind.CALL) {
+            return false;
+        }
+        BIRTerminator.Call call = (BIRTerminator.Call) terminator;
+        return !call.isVirtual && nonYieldingFunctions.containsKey(call.name.value)
+                && JvmCodeGenUtil.isSameModule(packageID, call.calleePkg);
+    }
+}
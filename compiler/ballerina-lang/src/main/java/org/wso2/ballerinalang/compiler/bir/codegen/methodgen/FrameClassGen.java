@@ -24,6 +24,7 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.NonYieldingFunctionAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -46,9 +47,14 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.ST
  */
 public class FrameClassGen {
 
-    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries) {
-        pkg.functions.forEach(
-                func -> generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null));
+    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries,
+                                     NonYieldingFunctionAnalyzer nonYieldingFunctionAnalyzer) {
+        for (BIRNode.BIRFunction func : pkg.functions) {
+            // Functions which can never yield never save their frame
+            if (!nonYieldingFunctionAnalyzer.isNonYielding(func)) {
+                generateFrameClassForFunction(pkg.packageID, func, pkgEntries, null);
+            }
+        }
 
         for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
             List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
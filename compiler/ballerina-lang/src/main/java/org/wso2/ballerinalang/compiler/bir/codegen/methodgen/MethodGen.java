@@ -37,6 +37,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.FunctionParamComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.LabelGenerator;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.NonYieldingFunctionAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
@@ -294,12 +295,18 @@ public class MethodGen {
         int yieldStatusVarIndex = getFrameStringVarIndex(indexMap, mv, YIELD_STATUS);
         int invocationVarIndex = getIntVarIndex(FUNCTION_INVOCATION, indexMap, mv, ICONST_0);
 
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
+        // A function which can never yield is never resumed, hence it does not need to restore or save its frame
+        NonYieldingFunctionAnalyzer nonYieldingFunctionAnalyzer = jvmPackageGen.getNonYieldingFunctionAnalyzer();
+        boolean isNonYielding = attachedType == null && !isObjectMethodSplit && nonYieldingFunctionAnalyzer != null
+                && nonYieldingFunctionAnalyzer.isNonYielding(func);
 
         LabelGenerator labelGen = new LabelGenerator();
-        Label resumeLabel = labelGen.getLabel(funcName + "resume");
-        mv.visitJumpInsn(IFGT, resumeLabel);
+        if (!isNonYielding) {
+            mv.visitVarInsn(ALOAD, localVarOffset);
+            mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
+            Label resumeLabel = labelGen.getLabel(funcName + "resume");
+            mv.visitJumpInsn(IFGT, resumeLabel);
+        }
 
         // set function invocation variable
         setFunctionInvocationVar(localVarOffset, mv, invocationVarIndex, invocationCountArgVarIndex);
@@ -341,7 +348,34 @@ public class MethodGen {
         generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, stateVarIndex,
                 yieldLocationVarIndex, yieldStatusVarIndex, loopVarIndex, invocationVarIndex, localVarOffset, module,
                 attachedType, moduleClassName, loopLabel);
-        mv.visitLabel(resumeLabel);
+        if (isNonYielding) {
+            mv.visitLabel(yieldLabel);
+            mv.visitJumpInsn(GOTO, loopLabel);
+        } else {
+            genFrameRestoreAndSave(func, mv, module, attachedType, indexMap, labelGen, funcName, localVarOffset,
+                    stateVarIndex, yieldLocationVarIndex, yieldStatusVarIndex, invocationVarIndex, varInitLabel,
+                    yieldLabel, loopLabel);
+        }
+        mv.visitLabel(loopConditionLabel);
+
+        Label methodEndLabel = new Label();
+        mv.visitLabel(methodEndLabel);
+        termGen.genReturnTerm(returnVarRefIndex, func, invocationVarIndex, localVarOffset);
+
+        // Create Local Variable Table
+        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel,
+                isObjectMethodSplit);
+
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, funcName, moduleClassName);
+        mv.visitEnd();
+    }
+
+    private void genFrameRestoreAndSave(BIRFunction func, MethodVisitor mv, BIRPackage module, BType attachedType,
+                                        BIRVarToJVMIndexMap indexMap, LabelGenerator labelGen, String funcName,
+                                        int localVarOffset, int stateVarIndex, int yieldLocationVarIndex,
+                                        int yieldStatusVarIndex, int invocationVarIndex, Label varInitLabel,
+                                        Label yieldLabel, Label loopLabel) {
+        mv.visitLabel(labelGen.getLabel(funcName + "resume"));
         String frameName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(module.packageID), funcName,
                 attachedType);
         genGetFrameOnResumeIndex(localVarOffset, mv, frameName);
@@ -372,18 +406,6 @@ public class MethodGen {
 
         generateGetFrame(indexMap, localVarOffset, mv);
         mv.visitJumpInsn(GOTO, loopLabel);
-        mv.visitLabel(loopConditionLabel);
-
-        Label methodEndLabel = new Label();
-        mv.visitLabel(methodEndLabel);
-        termGen.genReturnTerm(returnVarRefIndex, func, invocationVarIndex, localVarOffset);
-
-        // Create Local Variable Table
-        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel,
-                isObjectMethodSplit);
-
-        JvmCodeGenUtil.visitMaxStackForMethod(mv, funcName, moduleClassName);
-        mv.visitEnd();
     }
 
     private void setFunctionInvocationVar(int localVarOffset, MethodVisitor mv, int invocationVarIndex,
@@ -644,7 +666,10 @@ public class MethodGen {
             String yieldStatus = getYieldStatusByTerminator(terminator);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB != null && !mayYield(terminator)) {
+                // The strand cannot have yielded, hence continue with the next basic block directly
+                mv.visitJumpInsn(GOTO, labelGen.getLabel(funcName + thenBB.id.value));
+            } else if (thenBB != null) {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset,
                         yieldLocationVarIndex, terminator.pos, fullyQualifiedFuncName, yieldStatus,
                         yieldStatusVarIndex);
@@ -652,6 +677,11 @@ public class MethodGen {
         }
     }
 
+    private boolean mayYield(BIRTerminator terminator) {
+        NonYieldingFunctionAnalyzer nonYieldingFunctionAnalyzer = jvmPackageGen.getNonYieldingFunctionAnalyzer();
+        return nonYieldingFunctionAnalyzer == null || nonYieldingFunctionAnalyzer.mayYield(terminator);
+    }
+
     private String getFullyQualifiedFuncName(BTypeSymbol funcTypeSymbol, String funcName) {
         if (funcTypeSymbol != null) {
             PackageID funcTSymbolPkgID = funcTypeSymbol.pkgID;
@@ -407,11 +407,7 @@ public class JvmRecordGen {
             splitEntrySetMethod(cw, fields, className, jvmCastGen);
         }
         // Add all from super.entrySet() to the current entry set.
-        mv.visitVarInsn(ALOAD, entrySetVarIndex);
-        mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", RECORD_SET, false);
-        mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", ADD_COLLECTION, true);
-        mv.visitInsn(POP);
+        addAllFromSuper(mv, entrySetVarIndex, LINKED_HASH_MAP, "entrySet", RECORD_SET, SET);
 
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitInsn(ARETURN);
@@ -419,6 +415,26 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
+    /**
+     * Adds the entries held by the backing map to the given collection. Only rest fields and keys that are not
+     * declared in the record type end up in the backing map, so the map views are not created when it is empty.
+     * The size of the backing map is read through {@code MapValueImpl#size}, since {@code isEmpty} and the
+     * generated {@code size} method also count the declared fields.
+     */
+    private void addAllFromSuper(MethodVisitor mv, int collectionVarIndex, String owner, String methodName,
+                                 String methodDesc, String collectionClass) {
+        Label superIsEmpty = new Label();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "size", "()I", false);
+        mv.visitJumpInsn(IFEQ, superIsEmpty);
+        mv.visitVarInsn(ALOAD, collectionVarIndex);
+        mv.visitVarInsn(ALOAD, 0); // this
+        mv.visitMethodInsn(INVOKESPECIAL, owner, methodName, methodDesc, false);
+        mv.visitMethodInsn(INVOKEINTERFACE, collectionClass, "addAll", ADD_COLLECTION, true);
+        mv.visitInsn(POP);
+        mv.visitLabel(superIsEmpty);
+    }
+
     private void splitEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                      JvmCastGen jvmCastGen) {
 
@@ -609,11 +625,7 @@ public class JvmRecordGen {
                     false);
             splitGetValuesMethod(cw, fields, className, jvmCastGen);
         }
-        mv.visitVarInsn(ALOAD, valuesVarIndex);
-        mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "values", MAP_VALUES, false);
-        mv.visitMethodInsn(INVOKEINTERFACE, LIST, "addAll", ADD_COLLECTION, true);
-        mv.visitInsn(POP);
+        addAllFromSuper(mv, valuesVarIndex, MAP_VALUE_IMPL, "values", MAP_VALUES, LIST);
 
         mv.visitVarInsn(ALOAD, 1);
         mv.visitInsn(ARETURN);
@@ -820,11 +832,7 @@ public class JvmRecordGen {
                     false);
             splitGetKeysMethod(cw, fields, className);
         }
-        mv.visitVarInsn(ALOAD, keysVarIndex);
-        mv.visitVarInsn(ALOAD, selfIndex); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", RECORD_SET, false);
-        mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", ADD_COLLECTION, true);
-        mv.visitInsn(POP);
+        addAllFromSuper(mv, keysVarIndex, LINKED_HASH_MAP, "keySet", RECORD_SET, SET);
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitInsn(DUP);
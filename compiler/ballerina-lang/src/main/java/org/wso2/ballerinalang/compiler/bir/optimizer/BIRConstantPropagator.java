@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Propagate constants within basic blocks and remove the code which becomes dead as a result.
+ * <p>
+ * Only temporary variables are tracked, since they are not visible to the debugger and cannot be captured by
+ * closures. Integer arithmetic is folded only when it cannot overflow, so that the runtime still reports the
+ * same errors. Branches on constant conditions are replaced with jumps, and the basic blocks which are no longer
+ * reachable are removed along with the temporary variables which are no longer used. The instruction offsets of
+ * local variables are shifted along with the removed instructions, so that the debug information of their scopes
+ * stays intact.
+ *
+ * @since 2201.10.0
+ */
+public class BIRConstantPropagator extends BIRVisitor {
+
+    private final Map<BIRVariableDcl, ConstantLoad> constants = new HashMap<>();
+
+    public void optimizeNode(BIRPackage birPackage) {
+        birPackage.accept(this);
+    }
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        if (birFunction.basicBlocks.isEmpty()) {
+            return;
+        }
+        birFunction.basicBlocks.forEach(bb -> bb.accept(this));
+        removeUnreachableBasicBlocks(birFunction);
+        // Removing an instruction may leave the definitions of its operands unused
+        boolean removed;
+        do {
+            removed = removeDeadInstructions(birFunction);
+        } while (removed);
+        removeUnusedTempVars(birFunction);
+    }
+
+    @Override
+    public void visit(BIRBasicBlock basicBlock) {
+        List<BIRNonTerminator> instructions = basicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator instruction = instructions.get(i);
+            ConstantLoad folded = fold(instruction);
+            if (folded != null) {
+                folded.scope = instruction.scope;
+                instructions.set(i, folded);
+                instruction = folded;
+            }
+            if (instruction.lhsOp == null) {
+                continue;
+            }
+            BIRVariableDcl lhsVar = instruction.lhsOp.variableDcl;
+            if (instruction.kind == InstructionKind.CONST_LOAD && lhsVar.kind == VarKind.TEMP) {
+                constants.put(lhsVar, (ConstantLoad) instruction);
+            } else {
+                constants.remove(lhsVar);
+            }
+        }
+
+        BIRTerminator terminator = basicBlock.terminator;
+        if (terminator != null && terminator.kind == InstructionKind.BRANCH) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+            Boolean condition = getBooleanValue(branch.op);
+            if (condition != null) {
+                basicBlock.terminator = new BIRTerminator.GOTO(branch.pos, condition ? branch.trueBB : branch.falseBB,
+                        branch.scope);
+            }
+        }
+        constants.clear();
+    }
+
+    private ConstantLoad fold(BIRNonTerminator instruction) {
+        switch (instruction.kind) {
+            case MOVE:
+                ConstantLoad constant = constants.get(((Move) instruction).rhsOp.variableDcl);
+                if (constant == null || !hasTypeTag(instruction.lhsOp, getTypeTag(constant.type))) {
+                    return null;
+                }
+                return new ConstantLoad(instruction.pos, constant.value, constant.type, instruction.lhsOp);
+            case NOT:
+                Boolean value = getBooleanValue(((UnaryOP) instruction).rhsOp);
+                if (value == null || !hasTypeTag(instruction.lhsOp, TypeTags.BOOLEAN)) {
+                    return null;
+                }
+                return new ConstantLoad(instruction.pos, !value, instruction.lhsOp.variableDcl.type,
+                        instruction.lhsOp);
+            case ADD:
+            case SUB:
+            case MUL:
+            case EQUAL:
+            case NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+                return foldIntBinaryOp((BinaryOp) instruction);
+            default:
+                return null;
+        }
+    }
+
+    private ConstantLoad foldIntBinaryOp(BinaryOp binaryOp) {
+        Long lhsValue = getIntValue(binaryOp.rhsOp1);
+        Long rhsValue = getIntValue(binaryOp.rhsOp2);
+        if (lhsValue == null || rhsValue == null) {
+            return null;
+        }
+        long lhs = lhsValue;
+        long rhs = rhsValue;
+        Object result;
+        try {
+            result = switch (binaryOp.kind) {
+                case ADD -> Math.addExact(lhs, rhs);
+                case SUB -> Math.subtractExact(lhs, rhs);
+                case MUL -> Math.multiplyExact(lhs, rhs);
+                case EQUAL -> lhs == rhs;
+                case NOT_EQUAL -> lhs != rhs;
+                case GREATER_THAN -> lhs > rhs;
+                case GREATER_EQUAL -> lhs >= rhs;
+                case LESS_THAN -> lhs < rhs;
+                default -> lhs <= rhs;
+            };
+        } catch (ArithmeticException e) {
+            // Leave the overflow to be reported at runtime
+            return null;
+        }
+        if (!hasTypeTag(binaryOp.lhsOp, result instanceof Long ? TypeTags.INT : TypeTags.BOOLEAN)) {
+            return null;
+        }
+        return new ConstantLoad(binaryOp.pos, result, binaryOp.lhsOp.variableDcl.type, binaryOp.lhsOp);
+    }
+
+    private Long getIntValue(BIROperand operand) {
+        ConstantLoad constant = constants.get(operand.variableDcl);
+        if (constant == null || getTypeTag(constant.type) != TypeTags.INT) {
+            return null;
+        }
+        Object value = constant.value;
+        return value instanceof Long ? (Long) value : Long.parseLong(String.valueOf(value));
+    }
+
+    private Boolean getBooleanValue(BIROperand operand) {
+        ConstantLoad constant = constants.get(operand.variableDcl);
+        if (constant == null || getTypeTag(constant.type) != TypeTags.BOOLEAN) {
+            return null;
+        }
+        Object value = constant.value;
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(String.valueOf(value));
+    }
+
+    private static boolean hasTypeTag(BIROperand operand, int typeTag) {
+        return getTypeTag(operand.variableDcl.type) == typeTag;
+    }
+
+    private static int getTypeTag(BType type) {
+        return Types.getImpliedType(type).tag;
+    }
+
+    private void removeUnreachableBasicBlocks(BIRFunction birFunction) {
+        if (!birFunction.errorTable.isEmpty()) {
+            // Error entries cover a range of basic blocks, which must be kept intact
+            return;
+        }
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            InstructionKind kind = basicBlock.terminator == null ? null : basicBlock.terminator.kind;
+            if (kind == InstructionKind.LOCK || kind == InstructionKind.FIELD_LOCK
+                    || kind == InstructionKind.UNLOCK) {
+                // The lock optimizer relates the lock and unlock terminators across basic blocks
+                return;
+            }
+        }
+
+        Set<BIRBasicBlock> referencedBBs = new HashSet<>();
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.add(birFunction.basicBlocks.get(0));
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            // Debug information of local variables refers to the basic blocks of their scope
+            addIfNotNull(worklist, localVar.startBB);
+            addIfNotNull(worklist, localVar.endBB);
+        }
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock basicBlock = worklist.poll();
+            if (!referencedBBs.add(basicBlock) || basicBlock.terminator == null) {
+                continue;
+            }
+            for (BIRBasicBlock nextBB : basicBlock.terminator.getNextBasicBlocks()) {
+                addIfNotNull(worklist, nextBB);
+            }
+        }
+        birFunction.basicBlocks.removeIf(basicBlock -> !referencedBBs.contains(basicBlock));
+    }
+
+    private static void addIfNotNull(Deque<BIRBasicBlock> worklist, BIRBasicBlock basicBlock) {
+        if (basicBlock != null) {
+            worklist.add(basicBlock);
+        }
+    }
+
+    private boolean removeDeadInstructions(BIRFunction birFunction) {
+        Set<BIRVariableDcl> usedVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                addUsedVars(usedVars, instruction);
+            }
+            if (basicBlock.terminator != null) {
+                addUsedVars(usedVars, basicBlock.terminator);
+            }
+        }
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            usedVars.add(errorEntry.errorOp.variableDcl);
+        }
+
+        boolean removed = false;
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            List<BIRNonTerminator> liveInstructions = new ArrayList<>(instructions.size());
+            // Number of instructions removed before each position of the basic block
+            int[] removedBefore = new int[instructions.size() + 1];
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator instruction = instructions.get(i);
+                removedBefore[i + 1] = removedBefore[i];
+                if (isSideEffectFree(instruction) && instruction.lhsOp.variableDcl.kind == VarKind.TEMP
+                        && !usedVars.contains(instruction.lhsOp.variableDcl)) {
+                    removedBefore[i + 1]++;
+                } else {
+                    liveInstructions.add(instruction);
+                }
+            }
+            if (liveInstructions.size() == instructions.size()) {
+                continue;
+            }
+            basicBlock.instructions = liveInstructions;
+            shiftInsOffsets(birFunction, basicBlock, removedBefore);
+            removed = true;
+        }
+        return removed;
+    }
+
+    /**
+     * Moves the scope start of the local variables declared in the given basic block back by the number of
+     * instructions removed before it, so that it still refers to the instruction which declares the variable.
+     */
+    private static void shiftInsOffsets(BIRFunction birFunction, BIRBasicBlock basicBlock, int[] removedBefore) {
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.startBB == basicBlock) {
+                localVar.insOffset -= removedBefore[Math.min(localVar.insOffset, removedBefore.length - 1)];
+            }
+        }
+    }
+
+    private static void addUsedVars(Set<BIRVariableDcl> usedVars, BIRAbstractInstruction instruction) {
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (operand != null) {
+                usedVars.add(operand.variableDcl);
+            }
+        }
+        // The LHS of instructions such as field stores is read as well
+        if (instruction.lhsOp != null && !isSideEffectFree(instruction)) {
+            usedVars.add(instruction.lhsOp.variableDcl);
+        }
+    }
+
+    private static boolean isSideEffectFree(BIRAbstractInstruction instruction) {
+        return instruction.kind == InstructionKind.CONST_LOAD || instruction.kind == InstructionKind.MOVE;
+    }
+
+    private void removeUnusedTempVars(BIRFunction birFunction) {
+        Set<BIRVariableDcl> referencedVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                addReferencedVars(referencedVars, instruction);
+            }
+            if (basicBlock.terminator != null) {
+                addReferencedVars(referencedVars, basicBlock.terminator);
+            }
+        }
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            referencedVars.add(errorEntry.errorOp.variableDcl);
+        }
+        List<BIRVariableDcl> localVars = new ArrayList<>(birFunction.localVars.size());
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.kind != VarKind.TEMP || referencedVars.contains(localVar)) {
+                localVars.add(localVar);
+            }
+        }
+        birFunction.localVars = localVars;
+    }
+
+    private static void addReferencedVars(Set<BIRVariableDcl> referencedVars, BIRAbstractInstruction instruction) {
+        addUsedVars(referencedVars, instruction);
+        if (instruction.lhsOp != null) {
+            referencedVars.add(instruction.lhsOp.variableDcl);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inline calls to small, non-yielding module level functions of the same module.
+ * <p>
+ * A function is inlined only if its body is a straight line of instructions that can neither yield nor panic,
+ * such as constant loads, moves, comparisons and widening casts, and it only refers to its own parameters and
+ * local variables. Such a call is replaced with a copy of the callee body which writes to fresh temporary variables
+ * of the caller, so the strand-aware call sequence, including the yield check and the frame save and restore, is
+ * not generated for it.
+ *
+ * @since 2201.10.0
+ */
+public class BIRFunctionInliner extends BIRVisitor {
+
+    private static final int MAX_INLINED_INSTRUCTIONS = 8;
+
+    private final Map<Name, BIRFunction> moduleFunctions = new HashMap<>();
+    private final Map<BIRFunction, Boolean> inlinableFunctions = new HashMap<>();
+    private BIRPackage currentPackage;
+    private BIRFunction currentFunction;
+    private Set<Name> localVarNames;
+    private int inlinedVarCount;
+
+    public void optimizeNode(BIRPackage birPackage) {
+        birPackage.accept(this);
+    }
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        currentPackage = birPackage;
+        for (BIRFunction function : birPackage.functions) {
+            moduleFunctions.put(function.name, function);
+        }
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+        moduleFunctions.clear();
+        inlinableFunctions.clear();
+        currentPackage = null;
+    }
+
+    @Override
+    public void visit(BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        currentFunction = birFunction;
+        localVarNames = null;
+        inlinedVarCount = 0;
+        birFunction.basicBlocks.forEach(bb -> bb.accept(this));
+        currentFunction = null;
+    }
+
+    @Override
+    public void visit(BIRBasicBlock basicBlock) {
+        if (basicBlock.terminator == null || basicBlock.terminator.kind != InstructionKind.CALL) {
+            return;
+        }
+        BIRTerminator.Call call = (BIRTerminator.Call) basicBlock.terminator;
+        BIRFunction callee = getInlinableCallee(call);
+        if (callee == null) {
+            return;
+        }
+
+        Map<BIRVariableDcl, BIROperand> operandMap = new HashMap<>();
+        for (int i = 0; i < callee.parameters.size(); i++) {
+            BIROperand arg = call.args.get(i);
+            if (!isSameType(arg.variableDcl.type, callee.parameters.get(i).type)) {
+                return;
+            }
+            operandMap.put(callee.parameters.get(i), arg);
+        }
+        if (call.lhsOp != null && !isSameType(call.lhsOp.variableDcl.type, callee.returnVariable.type)) {
+            return;
+        }
+
+        List<BIRNonTerminator> inlinedInstructions = new ArrayList<>();
+        for (BIRBasicBlock calleeBB : getStraightLineBlocks(callee)) {
+            for (BIRNonTerminator instruction : calleeBB.instructions) {
+                BIRNonTerminator copy = copyInstruction(instruction, call, operandMap);
+                copy.scope = call.scope;
+                inlinedInstructions.add(copy);
+            }
+        }
+        if (call.lhsOp != null) {
+            Move returnMove = new Move(call.pos, operandMap.get(callee.returnVariable), call.lhsOp);
+            returnMove.scope = call.scope;
+            inlinedInstructions.add(returnMove);
+        }
+
+        basicBlock.instructions.addAll(inlinedInstructions);
+        basicBlock.terminator = new BIRTerminator.GOTO(call.pos, call.thenBB, call.scope);
+    }
+
+    private BIRFunction getInlinableCallee(BIRTerminator.Call call) {
+        if (call.isVirtual || !currentPackage.packageID.equals(call.calleePkg)) {
+            return null;
+        }
+        BIRFunction callee = moduleFunctions.get(call.name);
+        if (callee == null || callee == currentFunction || call.args.size() != callee.parameters.size()) {
+            return null;
+        }
+        return inlinableFunctions.computeIfAbsent(callee, this::isInlinable) ? callee : null;
+    }
+
+    private boolean isInlinable(BIRFunction function) {
+        if ((function.flags & Flags.NATIVE) == Flags.NATIVE || function.basicBlocks.isEmpty()
+                || !function.errorTable.isEmpty() || function.restParam != null || function.receiver != null
+                || function.returnVariable == null
+                || (function.workerChannels != null && function.workerChannels.length > 0)
+                || (function.annotAttachments != null && !function.annotAttachments.isEmpty())) {
+            return false;
+        }
+        List<BIRBasicBlock> blocks = getStraightLineBlocks(function);
+        if (blocks.isEmpty()) {
+            return false;
+        }
+        int instructionCount = 0;
+        boolean assignsReturnValue = false;
+        for (BIRBasicBlock bb : blocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (++instructionCount > MAX_INLINED_INSTRUCTIONS || !isInlinable(instruction)) {
+                    return false;
+                }
+                assignsReturnValue |= instruction.lhsOp.variableDcl.equals(function.returnVariable);
+            }
+        }
+        return assignsReturnValue;
+    }
+
+    private boolean isInlinable(BIRNonTerminator instruction) {
+        // Parameters are shared with the caller, so the callee must not assign to them
+        if (!isLocalOperand(instruction.lhsOp) || instruction.lhsOp.variableDcl.kind == VarKind.ARG) {
+            return false;
+        }
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (!isLocalOperand(operand)) {
+                return false;
+            }
+        }
+        return switch (instruction.kind) {
+            case CONST_LOAD, MOVE, NOT, TYPE_TEST, EQUAL, NOT_EQUAL, REF_EQUAL, REF_NOT_EQUAL, GREATER_THAN,
+                 GREATER_EQUAL, LESS_THAN, LESS_EQUAL, BITWISE_AND, BITWISE_OR, BITWISE_XOR -> true;
+            case TYPE_CAST -> !((TypeCast) instruction).checkTypes;
+            default -> false;
+        };
+    }
+
+    private static boolean isLocalOperand(BIROperand operand) {
+        return operand != null && operand.variableDcl.scope == VarScope.FUNCTION;
+    }
+
+    /**
+     * Returns the basic blocks of a function whose body is a chain of GOTOs ending with a return.
+     *
+     * @param function function to check
+     * @return basic blocks in execution order, or an empty list if the body is not a straight line
+     */
+    private static List<BIRBasicBlock> getStraightLineBlocks(BIRFunction function) {
+        List<BIRBasicBlock> blocks = new ArrayList<>();
+        Set<BIRBasicBlock> visited = new HashSet<>();
+        BIRBasicBlock bb = function.basicBlocks.get(0);
+        while (visited.add(bb)) {
+            blocks.add(bb);
+            if (bb.terminator == null) {
+                return List.of();
+            }
+            if (bb.terminator.kind == InstructionKind.RETURN) {
+                return blocks;
+            }
+            if (bb.terminator.kind != InstructionKind.GOTO) {
+                return List.of();
+            }
+            bb = ((BIRTerminator.GOTO) bb.terminator).targetBB;
+        }
+        return List.of();
+    }
+
+    private BIRNonTerminator copyInstruction(BIRNonTerminator instruction, BIRTerminator.Call call,
+                                             Map<BIRVariableDcl, BIROperand> operandMap) {
+        BIROperand[] rhsOperands = instruction.getRhsOperands();
+        BIROperand[] newRhsOperands = new BIROperand[rhsOperands.length];
+        for (int i = 0; i < rhsOperands.length; i++) {
+            newRhsOperands[i] = getInlinedOperand(rhsOperands[i], operandMap);
+        }
+        BIROperand lhsOp = getInlinedOperand(instruction.lhsOp, operandMap);
+        return switch (instruction.kind) {
+            case CONST_LOAD -> {
+                ConstantLoad constantLoad = (ConstantLoad) instruction;
+                yield new ConstantLoad(call.pos, constantLoad.value, constantLoad.type, lhsOp);
+            }
+            case MOVE -> new Move(call.pos, newRhsOperands[0], lhsOp);
+            case NOT -> new UnaryOP(call.pos, instruction.kind, lhsOp, newRhsOperands[0]);
+            case TYPE_TEST -> new TypeTest(call.pos, ((TypeTest) instruction).type, lhsOp, newRhsOperands[0]);
+            case TYPE_CAST -> new TypeCast(call.pos, lhsOp, newRhsOperands[0], ((TypeCast) instruction).type, false);
+            default -> new BinaryOp(call.pos, instruction.kind, lhsOp.variableDcl.type, lhsOp, newRhsOperands[0],
+                    newRhsOperands[1]);
+        };
+    }
+
+    private BIROperand getInlinedOperand(BIROperand operand, Map<BIRVariableDcl, BIROperand> operandMap) {
+        BIRVariableDcl variableDcl = operand.variableDcl;
+        BIROperand inlinedOperand = operandMap.get(variableDcl);
+        if (inlinedOperand != null) {
+            return inlinedOperand;
+        }
+        BIRVariableDcl tempVar = new BIRVariableDcl(null, variableDcl.type, getInlinedVarName(variableDcl),
+                VarScope.FUNCTION, VarKind.TEMP, null);
+        currentFunction.localVars.add(tempVar);
+        inlinedOperand = new BIROperand(tempVar);
+        operandMap.put(variableDcl, inlinedOperand);
+        return inlinedOperand;
+    }
+
+    private Name getInlinedVarName(BIRVariableDcl variableDcl) {
+        if (localVarNames == null) {
+            localVarNames = new HashSet<>();
+            for (BIRVariableDcl localVar : currentFunction.localVars) {
+                localVarNames.add(localVar.name);
+            }
+        }
+        Name name;
+        do {
+            name = new Name("%inl" + inlinedVarCount++ + "_" + variableDcl.name.value.replace("%", ""));
+        } while (!localVarNames.add(name));
+        return name;
+    }
+
+    private static boolean isSameType(BType source, BType target) {
+        if (source == target) {
+            return true;
+        }
+        BType sourceType = Types.getImpliedType(source);
+        BType targetType = Types.getImpliedType(target);
+        if (sourceType.tag != targetType.tag) {
+            return false;
+        }
+        return switch (sourceType.tag) {
+            case TypeTags.INT, TypeTags.BYTE, TypeTags.FLOAT, TypeTags.DECIMAL, TypeTags.STRING, TypeTags.BOOLEAN,
+                 TypeTags.NIL -> true;
+            default -> false;
+        };
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JLargeArrayInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JLargeMapInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JMethodCallInstruction;
@@ -39,6 +40,7 @@ import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Lists;
 
@@ -65,6 +67,7 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
     private final LargeMethodOptimizer largeMethodOptimizer;
+    private final CompilerOptions compilerOptions;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -82,9 +85,16 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
         this.largeMethodOptimizer = new LargeMethodOptimizer(SymbolTable.getInstance(context));
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        if (getOptimizationLevel() > 0) {
+            // Inline small non-yielding functions and fold the constants exposed by inlining
+            new BIRFunctionInliner().optimizeNode(pkg);
+            new BIRConstantPropagator().optimizeNode(pkg);
+        }
+
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
         // Split large BIR functions into smaller methods based on maps and arrays
@@ -103,6 +113,18 @@ public class BIROptimizer {
         recordValueOptimizer.optimizeNode(pkg);
     }
 
+    private int getOptimizationLevel() {
+        String optimizationLevel = compilerOptions.get(CompilerOptionName.BIR_OPTIMIZATION_LEVEL);
+        if (optimizationLevel == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(optimizationLevel);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     /**
      * This class is to optimize away unwanted temporary variables in right hand side of statements.
      */
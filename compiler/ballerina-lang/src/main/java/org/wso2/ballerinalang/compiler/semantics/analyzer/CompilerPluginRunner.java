@@ -310,7 +310,8 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
         }
         SymbolEnv pkgEnv = symTable.pkgEnvMap.get(symbol);
         if (pkgEnv != null) {
-            symbol.scope.entries.forEach((name, scope) -> {
+            // Annotations are never lazily defined, unlike the functions of a package.
+            symbol.scope.definedEntries().forEach(scope -> {
                 if (SymTag.ANNOTATION == scope.symbol.tag) {
                     annotationSymbols.add((BAnnotationSymbol) scope.symbol);
                 }
@@ -2596,7 +2596,8 @@ public class SymbolResolver extends BLangNodeTransformer<SymbolResolver.Analyzer
     }
 
     private void populateConfigurableVars(BPackageSymbol pkgSymbol, Set<BVarSymbol> configVars) {
-        for (Scope.ScopeEntry entry : pkgSymbol.scope.entries.values()) {
+        // Configurable variables and type definitions are never lazily defined, unlike the functions of a package.
+        for (Scope.ScopeEntry entry : pkgSymbol.scope.definedEntries()) {
             BSymbol symbol = entry.symbol;
             if (symbol != null) {
                 if (symbol.tag == SymTag.TYPE_DEF) {
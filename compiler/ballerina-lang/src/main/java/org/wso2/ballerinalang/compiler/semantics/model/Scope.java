@@ -20,8 +20,15 @@ package org.wso2.ballerinalang.compiler.semantics.model;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.util.Name;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @since 0.94
@@ -65,6 +72,34 @@ public class Scope implements org.ballerinalang.model.Scope {
         return entry;
     }
 
+    /**
+     * Defines a symbol which is created only when it is first looked up, or when the entries of the scope are
+     * iterated. The given definer should define the symbol against the same name in this scope. The entry keeps the
+     * position it would have had, if the symbol was defined at this point.
+     *
+     * @param name    name of the symbol
+     * @param definer defines the symbol in this scope
+     */
+    public void defineLazily(Name name, Runnable definer) {
+        if (!(entries instanceof LazyEntryMap)) {
+            entries = new LazyEntryMap(entries);
+        }
+        ((LazyEntryMap) entries).addLazyEntry(name, definer);
+    }
+
+    /**
+     * Returns the entries of this scope without defining the symbols which are still pending in a lazily defined
+     * scope.
+     *
+     * @return the defined entries of this scope
+     */
+    public Collection<ScopeEntry> definedEntries() {
+        if (!(entries instanceof LazyEntryMap lazyEntryMap)) {
+            return entries.values();
+        }
+        return lazyEntryMap.definedValues();
+    }
+
     /**
      * @since 0.94
      */
@@ -78,4 +113,196 @@ public class Scope implements org.ballerinalang.model.Scope {
             this.next = next;
         }
     }
+
+    /**
+     * Entry map of a scope with lazily defined symbols. A pending symbol is defined before any operation which reads
+     * or replaces its entry, and all of them are defined before the entries are iterated.
+     */
+    private static class LazyEntryMap extends LinkedHashMap<Name, ScopeEntry> {
+
+        private static final ScopeEntry PENDING_ENTRY = new ScopeEntry(null, null);
+
+        private final Map<Name, Runnable> pendingDefiners = new LinkedHashMap<>();
+
+        LazyEntryMap(Map<Name, ScopeEntry> entries) {
+            super(entries);
+        }
+
+        void addLazyEntry(Name name, Runnable definer) {
+            define(name);
+            if (super.get(name) != null) {
+                // Keep the chaining of symbols with the same name as is.
+                definer.run();
+                return;
+            }
+            super.put(name, PENDING_ENTRY);
+            pendingDefiners.put(name, definer);
+        }
+
+        Collection<ScopeEntry> definedValues() {
+            List<ScopeEntry> definedValues = new ArrayList<>(size());
+            for (ScopeEntry entry : super.values()) {
+                if (entry != PENDING_ENTRY) {
+                    definedValues.add(entry);
+                }
+            }
+            return definedValues;
+        }
+
+        private void define(Object name) {
+            if (pendingDefiners.isEmpty()) {
+                return;
+            }
+            Runnable definer = pendingDefiners.remove(name);
+            if (definer == null) {
+                return;
+            }
+            // The definer chains the symbol on to this entry, same as when defining a new name.
+            super.put((Name) name, NOT_FOUND_ENTRY);
+            definer.run();
+        }
+
+        private void defineAll() {
+            while (!pendingDefiners.isEmpty()) {
+                define(pendingDefiners.keySet().iterator().next());
+            }
+        }
+
+        @Override
+        public ScopeEntry get(Object key) {
+            define(key);
+            return super.get(key);
+        }
+
+        @Override
+        public ScopeEntry getOrDefault(Object key, ScopeEntry defaultValue) {
+            define(key);
+            return super.getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public ScopeEntry put(Name key, ScopeEntry value) {
+            define(key);
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends Name, ? extends ScopeEntry> map) {
+            for (Name name : map.keySet()) {
+                define(name);
+            }
+            super.putAll(map);
+        }
+
+        @Override
+        public ScopeEntry putIfAbsent(Name key, ScopeEntry value) {
+            define(key);
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public ScopeEntry remove(Object key) {
+            define(key);
+            return super.remove(key);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            define(key);
+            return super.remove(key, value);
+        }
+
+        @Override
+        public ScopeEntry replace(Name key, ScopeEntry value) {
+            define(key);
+            return super.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(Name key, ScopeEntry oldValue, ScopeEntry newValue) {
+            define(key);
+            return super.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public ScopeEntry computeIfAbsent(Name key, Function<? super Name, ? extends ScopeEntry> mappingFunction) {
+            define(key);
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public ScopeEntry computeIfPresent(Name key,
+                                          BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+            define(key);
+            return super.computeIfPresent(key, function);
+        }
+
+        @Override
+        public ScopeEntry compute(Name key,
+                                  BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+            define(key);
+            return super.compute(key, function);
+        }
+
+        @Override
+        public ScopeEntry merge(Name key, ScopeEntry value,
+                                BiFunction<? super ScopeEntry, ? super ScopeEntry, ? extends ScopeEntry> function) {
+            define(key);
+            return super.merge(key, value, function);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            defineAll();
+            return super.containsValue(value);
+        }
+
+        @Override
+        public Set<Name> keySet() {
+            defineAll();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<ScopeEntry> values() {
+            defineAll();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<Name, ScopeEntry>> entrySet() {
+            defineAll();
+            return super.entrySet();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Name, ? super ScopeEntry> action) {
+            defineAll();
+            super.forEach(action);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+            defineAll();
+            super.replaceAll(function);
+        }
+
+        @Override
+        public void clear() {
+            pendingDefiners.clear();
+            super.clear();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            defineAll();
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            defineAll();
+            return super.hashCode();
+        }
+    }
 }
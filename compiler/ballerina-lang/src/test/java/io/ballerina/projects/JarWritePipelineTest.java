@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.projects;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests writing module jars in the background.
+ *
+ * @since 2201.10.0
+ */
+public class JarWritePipelineTest {
+
+    @Test
+    public void testJarsAreHandedOverInOrder() {
+        JarWritePipeline pipeline = new JarWritePipeline();
+        List<String> handedOver = new ArrayList<>();
+        CountDownLatch firstJarLatch = new CountDownLatch(1);
+        pipeline.write(() -> {
+            // The first jar is written after the second one
+            firstJarLatch.await(10, TimeUnit.SECONDS);
+            return jarContent("a");
+        }, content -> handedOver.add(content.toString(StandardCharsets.UTF_8)), "Failed to write a");
+        pipeline.then(() -> handedOver.add("bir a"));
+        pipeline.write(() -> jarContent("b"), content -> handedOver.add(content.toString(StandardCharsets.UTF_8)),
+                "Failed to write b");
+        pipeline.then(() -> handedOver.add("bir b"));
+
+        pipeline.completeWritten();
+        Assert.assertEquals(handedOver, List.of());
+        firstJarLatch.countDown();
+        pipeline.completeAll();
+        Assert.assertEquals(handedOver, List.of("a", "bir a", "b", "bir b"));
+    }
+
+    @Test
+    public void testActionWithoutPendingJars() {
+        JarWritePipeline pipeline = new JarWritePipeline();
+        List<String> handedOver = new ArrayList<>();
+        pipeline.then(() -> handedOver.add("bir"));
+        Assert.assertEquals(handedOver, List.of("bir"));
+    }
+
+    @Test
+    public void testWriteFailure() {
+        JarWritePipeline pipeline = new JarWritePipeline();
+        List<String> handedOver = new ArrayList<>();
+        pipeline.write(() -> jarContent("a"), content -> handedOver.add(content.toString(StandardCharsets.UTF_8)),
+                "Failed to write a");
+        pipeline.then(() -> handedOver.add("bir a"));
+        pipeline.write(() -> {
+            throw new IOException("disk full");
+        }, content -> handedOver.add(content.toString(StandardCharsets.UTF_8)), "Failed to write b");
+        pipeline.then(() -> handedOver.add("bir b"));
+        pipeline.write(() -> jarContent("c"), content -> handedOver.add(content.toString(StandardCharsets.UTF_8)),
+                "Failed to write c");
+
+        ProjectException exception = Assert.expectThrows(ProjectException.class, pipeline::completeAll);
+        Assert.assertEquals(exception.getMessage(), "Failed to write b");
+        // Nothing submitted after the failed jar is handed over, so a module is not cached without its jar
+        Assert.assertEquals(handedOver, List.of("a", "bir a"));
+        pipeline.completeAll();
+        Assert.assertEquals(handedOver, List.of("a", "bir a"));
+    }
+
+    @Test
+    public void testHandOverFailure() {
+        JarWritePipeline pipeline = new JarWritePipeline();
+        List<String> handedOver = new ArrayList<>();
+        pipeline.write(() -> jarContent("a"), content -> {
+            throw new ProjectException("Failed to cache a");
+        }, "Failed to write a");
+        pipeline.then(() -> handedOver.add("bir a"));
+
+        ProjectException exception = Assert.expectThrows(ProjectException.class, pipeline::completeAll);
+        Assert.assertEquals(exception.getMessage(), "Failed to cache a");
+        Assert.assertEquals(handedOver, List.of());
+    }
+
+    private static ByteArrayOutputStream jarContent(String content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        return outputStream;
+    }
+}
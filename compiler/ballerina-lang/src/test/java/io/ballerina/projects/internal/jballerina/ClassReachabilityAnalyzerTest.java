@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.internal.jballerina;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V17;
+
+/**
+ * Tests the reachability analysis used to trim executable jars.
+ */
+public class ClassReachabilityAnalyzerTest {
+
+    private Path tempDir;
+    private Path moduleJar;
+    private Path libraryJar;
+    private Path utilModuleJar;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("ballerina-test-" + System.nanoTime());
+
+        Map<String, byte[]> moduleEntries = new LinkedHashMap<>();
+        moduleEntries.put("org/foo/main/$_init.class", createClass("org/foo/main/$_init", null, null, null));
+        moduleEntries.put("org/foo/main/main.class",
+                createClass("org/foo/main/main", "org/foo/main/helper", null, null));
+        moduleEntries.put("org/foo/main/helper.class",
+                createClass("org/foo/main/helper", null, "Lorg/foo/main/FieldType;", null));
+        moduleEntries.put("org/foo/main/FieldType.class", createClass("org/foo/main/FieldType", null, null, null));
+        moduleEntries.put("org/foo/main/LoadedByName.class",
+                createClass("org/foo/main/LoadedByName", null, null, null));
+        moduleEntries.put("org/foo/main/Provider.class", createClass("org/foo/main/Provider", null, null, null));
+        moduleEntries.put("org/foo/main/unused.class",
+                createClass("org/foo/main/unused", "org/foo/main/unusedHelper", null, null));
+        moduleEntries.put("org/foo/main/unusedHelper.class",
+                createClass("org/foo/main/unusedHelper", null, null, null));
+        moduleEntries.put("META-INF/services/org.foo.Service",
+                "# providers\norg.foo.main.Provider\n".getBytes(StandardCharsets.UTF_8));
+        moduleEntries.put("resources/config.json", "{}".getBytes(StandardCharsets.UTF_8));
+        moduleJar = createJar("foo-main-0.1.0.jar", moduleEntries);
+
+        Map<String, byte[]> libraryEntries = new LinkedHashMap<>();
+        libraryEntries.put("org/lib/Loader.class",
+                createClass("org/lib/Loader", null, null, "org.foo.main.LoadedByName"));
+        libraryJar = createJar("lib-1.0.0.jar", libraryEntries);
+
+        Map<String, byte[]> utilModuleEntries = new LinkedHashMap<>();
+        utilModuleEntries.put("org/foo/util/$_init.class", createClass("org/foo/util/$_init", null, null, null));
+        utilModuleEntries.put("org/foo/util/$configurationMapper.class",
+                createClass("org/foo/util/$configurationMapper", null, null, null));
+        utilModuleEntries.put("org/foo/util/util.class", createClass("org/foo/util/util", null, null, null));
+        utilModuleJar = createJar("foo-util-0.1.0.jar", utilModuleEntries);
+    }
+
+    @Test
+    public void testUnreachableClassesOfGeneratedJars() throws IOException {
+        ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+        analyzer.addCandidateJar(moduleJar);
+        analyzer.addRootJar(libraryJar);
+        analyzer.addRootClass("org.foo.main.main");
+
+        Set<String> unreachableEntries = analyzer.findUnreachableClassEntries();
+        Assert.assertEquals(unreachableEntries, Set.of("org/foo/main/unused.class",
+                "org/foo/main/unusedHelper.class"));
+    }
+
+    @Test
+    public void testClassesAreUnreachableWithoutRoots() throws IOException {
+        ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+        analyzer.addCandidateJar(moduleJar);
+
+        // Only the service provider and the init class of its module are kept.
+        Set<String> unreachableEntries = analyzer.findUnreachableClassEntries();
+        Assert.assertEquals(unreachableEntries, Set.of("org/foo/main/main.class", "org/foo/main/helper.class",
+                "org/foo/main/FieldType.class", "org/foo/main/LoadedByName.class", "org/foo/main/unused.class",
+                "org/foo/main/unusedHelper.class"));
+    }
+
+    @Test
+    public void testClassesOfUnreachableModules() throws IOException {
+        ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+        analyzer.addCandidateJar(moduleJar);
+        analyzer.addCandidateJar(utilModuleJar);
+        analyzer.addRootJar(libraryJar);
+        analyzer.addRootClass("org.foo.main.main");
+
+        // No class of the util module is reachable, hence it is not initialized either.
+        Set<String> unreachableEntries = analyzer.findUnreachableClassEntries();
+        Assert.assertEquals(unreachableEntries, Set.of("org/foo/main/unused.class",
+                "org/foo/main/unusedHelper.class", "org/foo/util/$_init.class",
+                "org/foo/util/$configurationMapper.class", "org/foo/util/util.class"));
+    }
+
+    @Test
+    public void testModuleClassesLoadedByNameAreReachable() throws IOException {
+        ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+        analyzer.addCandidateJar(utilModuleJar);
+        analyzer.addRootClass("org.foo.util.util");
+
+        Assert.assertTrue(analyzer.findUnreachableClassEntries().isEmpty());
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path createJar(String name, Map<String, byte[]> entries) throws IOException {
+        Path jarPath = tempDir.resolve(name);
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+                jarOutputStream.write(entry.getValue());
+                jarOutputStream.closeEntry();
+            }
+        }
+        return jarPath;
+    }
+
+    private static byte[] createClass(String name, String calledClass, String fieldDescriptor,
+                                      String loadedClassName) {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(V17, ACC_PUBLIC, name, null, "java/lang/Object", null);
+        if (fieldDescriptor != null) {
+            classWriter.visitField(ACC_PRIVATE, "value", fieldDescriptor, null, null).visitEnd();
+        }
+        MethodVisitor methodVisitor = classWriter.visitMethod(ACC_PUBLIC | ACC_STATIC, "run", "()V", null, null);
+        methodVisitor.visitCode();
+        if (calledClass != null) {
+            methodVisitor.visitMethodInsn(INVOKESTATIC, calledClass, "run", "()V", false);
+        }
+        if (loadedClassName != null) {
+            methodVisitor.visitLdcInsn(loadedClassName);
+            methodVisitor.visitInsn(POP);
+        }
+        methodVisitor.visitInsn(RETURN);
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+}
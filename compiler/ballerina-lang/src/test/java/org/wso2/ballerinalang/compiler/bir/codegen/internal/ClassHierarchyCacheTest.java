@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import org.objectweb.asm.ClassWriter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.net.URL;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test cases for resolving common super classes from the cached class hierarchy.
+ *
+ * @since 2201.10.0
+ */
+public class ClassHierarchyCacheTest {
+
+    private static final String OBJECT_CLASS = "java/lang/Object";
+
+    private final ClassHierarchyCache classHierarchyCache =
+            new ClassHierarchyCache(ClassHierarchyCacheTest.class.getClassLoader());
+    private final ReflectiveClassWriter reflectiveClassWriter = new ReflectiveClassWriter();
+
+    @Test(dataProvider = "classPairs")
+    public void testMatchesReflectiveCommonSuperClass(String type1, String type2) {
+        String expected = reflectiveClassWriter.getCommonSuperClass(type1, type2);
+        // The second call is answered from the cache.
+        Assert.assertEquals(classHierarchyCache.getCommonSuperClass(type1, type2), expected);
+        Assert.assertEquals(classHierarchyCache.getCommonSuperClass(type1, type2), expected);
+    }
+
+    @DataProvider
+    public Object[][] classPairs() {
+        return new Object[][]{
+                {"java/lang/Integer", "java/lang/Long"},
+                {"java/lang/Long", "java/lang/Integer"},
+                {"java/util/ArrayList", "java/util/LinkedList"},
+                {"java/util/ArrayList", "java/util/ArrayList"},
+                {"java/lang/String", "java/lang/Integer"},
+                {"java/util/List", "java/util/ArrayList"},
+                {"java/util/ArrayList", "java/util/List"},
+                {"java/util/List", "java/util/Set"},
+                {"java/lang/Runnable", "java/lang/Thread"},
+                {"java/lang/IllegalArgumentException", "java/lang/IllegalStateException"},
+                {"java/lang/NumberFormatException", "java/lang/ArithmeticException"},
+                {"java/lang/Object", "java/lang/String"},
+                {"org/objectweb/asm/ClassWriter", "org/objectweb/asm/ClassVisitor"},
+                {"org/wso2/ballerinalang/compiler/bir/codegen/BallerinaClassWriter", "org/objectweb/asm/ClassWriter"},
+        };
+    }
+
+    @Test
+    public void testMissingClasses() {
+        Assert.assertEquals(classHierarchyCache.getCommonSuperClass("generated/$value$Foo", "java/lang/String"),
+                OBJECT_CLASS);
+        Assert.assertEquals(classHierarchyCache.getCommonSuperClass("java/lang/String", "generated/$value$Foo"),
+                OBJECT_CLASS);
+        Assert.assertEquals(classHierarchyCache.getCommonSuperClass("generated/$value$Foo", "generated/$value$Bar"),
+                OBJECT_CLASS);
+    }
+
+    @Test
+    public void testMissingClassesAreNotMemoized() {
+        HidingClassLoader classLoader = new HidingClassLoader(ClassHierarchyCacheTest.class.getClassLoader());
+        ClassHierarchyCache cache = new ClassHierarchyCache(classLoader);
+
+        classLoader.hide("java/util/ArrayList.class");
+        Assert.assertEquals(cache.getCommonSuperClass("java/util/ArrayList", "java/util/LinkedList"), OBJECT_CLASS);
+
+        // Once the class can be found, the pair is resolved instead of being answered from a memoized result.
+        classLoader.reveal("java/util/ArrayList.class");
+        Assert.assertEquals(cache.getCommonSuperClass("java/util/ArrayList", "java/util/LinkedList"),
+                "java/util/AbstractList");
+    }
+
+    /**
+     * Exposes the reflective implementation of {@link ClassWriter#getCommonSuperClass}.
+     */
+    private static class ReflectiveClassWriter extends ClassWriter {
+
+        ReflectiveClassWriter() {
+            super(0);
+        }
+
+        @Override
+        public String getCommonSuperClass(String type1, String type2) {
+            return super.getCommonSuperClass(type1, type2);
+        }
+    }
+
+    /**
+     * Class loader which hides some class files of its parent.
+     */
+    private static class HidingClassLoader extends ClassLoader {
+
+        private final Set<String> hiddenResources = new HashSet<>();
+
+        HidingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        void hide(String resourceName) {
+            hiddenResources.add(resourceName);
+        }
+
+        void reveal(String resourceName) {
+            hiddenResources.remove(resourceName);
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return hiddenResources.contains(name) ? null : super.getResource(name);
+        }
+    }
+}
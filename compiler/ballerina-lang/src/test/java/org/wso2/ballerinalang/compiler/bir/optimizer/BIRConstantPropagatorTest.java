@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.List;
+
+/**
+ * Test cases for the constant propagation of BIR functions.
+ *
+ * @since 2201.10.0
+ */
+public class BIRConstantPropagatorTest {
+
+    private final BType intType = new BType(TypeTags.INT, null);
+
+    @Test
+    public void testLocalVariableScopesAfterRemovingDeadInstructions() {
+        BIRFunction function = new BIRFunction(null, new Name("test"), 0, null, new Name("default"), 0,
+                SymbolOrigin.SOURCE);
+        BIRBasicBlock bb0 = new BIRBasicBlock(0);
+        BIRBasicBlock bb1 = new BIRBasicBlock(1);
+        function.basicBlocks.add(bb0);
+        function.basicBlocks.add(bb1);
+
+        BIRVariableDcl temp1 = addVariable(function, "%1", VarKind.TEMP);
+        BIRVariableDcl temp2 = addVariable(function, "%2", VarKind.TEMP);
+        BIRVariableDcl temp3 = addVariable(function, "%3", VarKind.TEMP);
+        BIRVariableDcl x = addVariable(function, "x", VarKind.LOCAL);
+        BIRVariableDcl y = addVariable(function, "y", VarKind.LOCAL);
+        BIRVariableDcl z = addVariable(function, "z", VarKind.LOCAL);
+
+        // int x = 1; int y = x; where the constant loads to %1, %2 and %3 become dead
+        bb0.instructions.add(new ConstantLoad(null, 1L, intType, new BIROperand(temp1)));
+        bb0.instructions.add(new ConstantLoad(null, 2L, intType, new BIROperand(temp2)));
+        bb0.instructions.add(new Move(null, new BIROperand(temp1), new BIROperand(x)));
+        bb0.instructions.add(new ConstantLoad(null, 3L, intType, new BIROperand(temp3)));
+        bb0.instructions.add(new Move(null, new BIROperand(x), new BIROperand(y)));
+        bb0.terminator = new BIRTerminator.GOTO(null, bb1);
+        declare(x, bb0, 2);
+        declare(y, bb0, 4);
+
+        // int z = y; in a basic block without dead instructions
+        bb1.instructions.add(new Move(null, new BIROperand(y), new BIROperand(z)));
+        bb1.terminator = new BIRTerminator.Return(null);
+        declare(z, bb1, 0);
+
+        new BIRConstantPropagator().visit(function);
+
+        Assert.assertEquals(bb0.instructions.size(), 2);
+        Assert.assertEquals(bb0.instructions.get(0).kind, InstructionKind.CONST_LOAD);
+        assertDeclaration(x, bb0, 0);
+        assertDeclaration(y, bb0, 1);
+        assertDeclaration(z, bb1, 0);
+        Assert.assertEquals(function.localVars, List.of(x, y, z));
+    }
+
+    private BIRVariableDcl addVariable(BIRFunction function, String name, VarKind kind) {
+        BIRVariableDcl variableDcl = new BIRVariableDcl(intType, new Name(name), VarScope.FUNCTION, kind);
+        function.localVars.add(variableDcl);
+        return variableDcl;
+    }
+
+    private static void declare(BIRVariableDcl variableDcl, BIRBasicBlock startBB, int insOffset) {
+        variableDcl.startBB = startBB;
+        variableDcl.insOffset = insOffset;
+    }
+
+    private static void assertDeclaration(BIRVariableDcl variableDcl, BIRBasicBlock startBB, int insOffset) {
+        Assert.assertSame(variableDcl.startBB, startBB);
+        Assert.assertEquals(variableDcl.insOffset, insOffset);
+        BIRNonTerminator declaration = startBB.instructions.get(variableDcl.insOffset);
+        Assert.assertSame(declaration.lhsOp.variableDcl, variableDcl);
+    }
+}
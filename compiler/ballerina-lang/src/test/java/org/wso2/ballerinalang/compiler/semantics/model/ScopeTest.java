@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.model;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.model.symbols.SymbolOrigin.COMPILED_SOURCE;
+
+/**
+ * Tests for lazily defined symbols in {@link Scope}.
+ *
+ * @since 2201.10.0
+ */
+public class ScopeTest {
+
+    @Test
+    public void testLazySymbolIsDefinedOnLookup() {
+        Scope scope = new Scope(null);
+        Name name = new Name("foo");
+        int[] defineCount = new int[1];
+        scope.defineLazily(name, () -> {
+            defineCount[0]++;
+            scope.define(name, createSymbol(name));
+        });
+        Assert.assertEquals(defineCount[0], 0);
+
+        Scope.ScopeEntry entry = scope.lookup(name);
+        Assert.assertEquals(defineCount[0], 1);
+        Assert.assertEquals(entry.symbol.name, name);
+        Assert.assertSame(entry.next, Scope.NOT_FOUND_ENTRY);
+        Assert.assertSame(scope.lookup(name), entry);
+        Assert.assertEquals(defineCount[0], 1);
+    }
+
+    @Test
+    public void testIterationKeepsDefinitionOrder() {
+        Scope scope = new Scope(null);
+        Name first = new Name("first");
+        Name lazy = new Name("lazy");
+        Name last = new Name("last");
+        scope.define(first, createSymbol(first));
+        scope.defineLazily(lazy, () -> scope.define(lazy, createSymbol(lazy)));
+        scope.define(last, createSymbol(last));
+
+        Assert.assertEquals(scope.definedEntries().size(), 2);
+        List<Name> names = new ArrayList<>();
+        for (Scope.ScopeEntry entry : scope.entries.values()) {
+            names.add(entry.symbol.name);
+        }
+        Assert.assertEquals(names, List.of(first, lazy, last));
+        Assert.assertEquals(scope.definedEntries().size(), 3);
+    }
+
+    @Test
+    public void testRedefiningLazySymbolChainsEntries() {
+        Scope scope = new Scope(null);
+        Name name = new Name("foo");
+        BSymbol lazySymbol = createSymbol(name);
+        BSymbol otherSymbol = createSymbol(name);
+        scope.defineLazily(name, () -> scope.define(name, lazySymbol));
+        scope.define(name, otherSymbol);
+
+        Scope.ScopeEntry entry = scope.lookup(name);
+        Assert.assertSame(entry.symbol, otherSymbol);
+        Assert.assertSame(entry.next.symbol, lazySymbol);
+        Assert.assertSame(entry.next.next, Scope.NOT_FOUND_ENTRY);
+    }
+
+    private static BSymbol createSymbol(Name name) {
+        return new BSymbol(SymTag.FUNCTION, 0, name, null, null, null, null, COMPILED_SOURCE);
+    }
+}
@@ -17,59 +17,147 @@
  */
 package io.ballerina.tools.text;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * The {@code LineMap} represents a collection text lines in the {@code TextDocument}.
+ * <p>
+ * Lines are kept in parallel arrays and the {@code TextLine} instances are created on demand, so that a
+ * {@code LineMap} can be derived from the {@code LineMap} of the previous version of a document by rescanning only
+ * the lines touched by a {@code TextDocumentChange}.
  *
  * @since 2.0.0
  */
 class LineMap {
+    private final String[] lineTexts;
+    private final int[] startOffsets;
+    private final byte[] newLineLengths;
     private final TextLine[] textLines;
     private final int length;
 
-    LineMap(TextLine[] textLines) {
+    private LineMap(String[] lineTexts, int[] startOffsets, byte[] newLineLengths, TextLine[] textLines) {
+        this.lineTexts = lineTexts;
+        this.startOffsets = startOffsets;
+        this.newLineLengths = newLineLengths;
         this.textLines = textLines;
-        this.length = textLines.length;
+        this.length = lineTexts.length;
+    }
+
+    /**
+     * Creates the {@code LineMap} of the given text.
+     *
+     * @param text source text
+     * @return the {@code LineMap} of the text
+     */
+    static LineMap from(String text) {
+        LineBuilder lineBuilder = new LineBuilder(16);
+        lineBuilder.scan(text, 0, true);
+        return new LineMap(lineBuilder.lineTexts(), lineBuilder.startOffsets(), lineBuilder.newLineLengths(),
+                new TextLine[lineBuilder.size]);
+    }
+
+    /**
+     * Derives the {@code LineMap} of the document produced by applying the given change to the document of this
+     * {@code LineMap}. Only the lines touched by the text edits are rescanned. The lines before them are shared and
+     * the offsets of the lines after them are shifted.
+     *
+     * @param textDocumentChange change applied to the document of this {@code LineMap}
+     * @param newTextDocument    document produced by the change
+     * @return the {@code LineMap} of the new document
+     */
+    LineMap apply(TextDocumentChange textDocumentChange, PieceTableTextDocument newTextDocument) {
+        int textEditCount = textDocumentChange.getTextEditCount();
+        if (textEditCount == 0) {
+            return this;
+        }
+
+        int delta = 0;
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            delta += textEdit.text().length() - textEdit.range().length();
+        }
+
+        // The line before the first edited line is rescanned as well, since an edit may join its "\r" with a "\n".
+        int firstLine = Math.max(0, lineIndexOf(textDocumentChange.getTextEdit(0).range().startOffset()) - 1);
+        int lastLine = lineIndexOf(textDocumentChange.getTextEdit(textEditCount - 1).range().endOffset());
+        boolean rescanLastLine = lastLine == length - 1;
+        int regionStart = startOffsets[firstLine];
+        int newRegionEnd = startOffsets[lastLine] + lineTexts[lastLine].length() + newLineLengths[lastLine] + delta;
+
+        LineBuilder lineBuilder = new LineBuilder(lastLine - firstLine + 2);
+        lineBuilder.scan(newTextDocument.substring(regionStart, newRegionEnd), regionStart, rescanLastLine);
+
+        int suffixLength = length - lastLine - 1;
+        int newLength = firstLine + lineBuilder.size + suffixLength;
+        String[] newLineTexts = new String[newLength];
+        int[] newStartOffsets = new int[newLength];
+        byte[] newNewLineLengths = new byte[newLength];
+        TextLine[] newTextLines = new TextLine[newLength];
+
+        System.arraycopy(lineTexts, 0, newLineTexts, 0, firstLine);
+        System.arraycopy(startOffsets, 0, newStartOffsets, 0, firstLine);
+        System.arraycopy(newLineLengths, 0, newNewLineLengths, 0, firstLine);
+        System.arraycopy(textLines, 0, newTextLines, 0, firstLine);
+
+        System.arraycopy(lineBuilder.lineTexts, 0, newLineTexts, firstLine, lineBuilder.size);
+        System.arraycopy(lineBuilder.startOffsets, 0, newStartOffsets, firstLine, lineBuilder.size);
+        System.arraycopy(lineBuilder.newLineLengths, 0, newNewLineLengths, firstLine, lineBuilder.size);
+
+        int suffixStart = firstLine + lineBuilder.size;
+        System.arraycopy(lineTexts, lastLine + 1, newLineTexts, suffixStart, suffixLength);
+        System.arraycopy(newLineLengths, lastLine + 1, newNewLineLengths, suffixStart, suffixLength);
+        for (int i = 0; i < suffixLength; i++) {
+            newStartOffsets[suffixStart + i] = startOffsets[lastLine + 1 + i] + delta;
+        }
+        return new LineMap(newLineTexts, newStartOffsets, newNewLineLengths, newTextLines);
     }
 
     TextLine textLine(int line) {
         lineRangeCheck(line);
-        return textLines[line];
+        return getTextLine(line);
     }
 
     LinePosition linePositionFrom(int position) {
         positionRangeCheck(position);
-        TextLine textLine = findLineFrom(position);
-        return LinePosition.from(textLine.lineNo(), position - textLine.startOffset());
+        int line = lineIndexOf(position);
+        return LinePosition.from(line, position - startOffsets[line]);
     }
 
     int textPositionFrom(LinePosition linePosition) {
         lineRangeCheck(linePosition.line());
-        TextLine textLine = textLines[linePosition.line()];
-        if (textLine.length() < linePosition.offset()) {
+        int line = linePosition.line();
+        if (lineTexts[line].length() < linePosition.offset()) {
             throw new IllegalArgumentException("Cannot find a line with the character offset '" +
                     linePosition.offset() + "'");
         }
 
-        return textLine.startOffset() + linePosition.offset();
+        return startOffsets[line] + linePosition.offset();
     }
 
     List<String> textLines() {
-        List<String> lines = new ArrayList();
-        for (TextLine textLine : textLines) {
-            lines.add(textLine.text());
+        return Collections.unmodifiableList(Arrays.asList(lineTexts));
+    }
+
+    private TextLine getTextLine(int line) {
+        TextLine textLine = textLines[line];
+        if (textLine == null) {
+            int startOffset = startOffsets[line];
+            String text = lineTexts[line];
+            textLine = new TextLine(line, text, startOffset, startOffset + text.length(), newLineLengths[line]);
+            textLines[line] = textLine;
         }
+        return textLine;
+    }
 
-        return Collections.unmodifiableList(lines);
+    private int endOffset() {
+        return startOffsets[length - 1] + lineTexts[length - 1].length();
     }
 
     private void positionRangeCheck(int position) {
-        if (position < 0 || position > textLines[length - 1].endOffset()) {
-            throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" +
-                    textLines[length - 1].endOffset() + "'");
+        if (position < 0 || position > endOffset()) {
+            throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" + endOffset() + "'");
         }
     }
 
@@ -80,40 +168,102 @@ class LineMap {
     }
 
     /**
-     * Return the {@code TextLine} to which the given position belongs to.
+     * Return the index of the line to which the given position belongs to.
      * <p>
-     * Perform a binary search to find the matching text line.
+     * Perform a binary search to find the last line starting at or before the position.
      *
      * @param position of the source text
-     * @return the {@code TextLine} to which the given position belongs to
+     * @return the index of the line to which the given position belongs to
      */
-    private TextLine findLineFrom(int position) {
-        // Check boundary conditions
-        if (position == 0) {
-            return textLines[0];
-        } else if (position == textLines[length - 1].endOffset()) {
-            return textLines[length - 1];
-        }
-
-        TextLine foundTextLine = null;
+    private int lineIndexOf(int position) {
         int left = 0;
         int right = length - 1;
-        while (left <= right) {
+        while (left < right) {
             // Using >>> handle the case when the sum of left and right is greater than
             // the maximum positive int value (2^31 - 1)
             // FYI: https://ai.googleblog.com/2006/06/extra-extra-read-all-about-it-nearly.html
-            int middle = (left + right) >>> 1;
-            int startOffset = textLines[middle].startOffset();
-            int endOffset = textLines[middle].endOffsetWithNewLines();
-            if (startOffset <= position && position < endOffset) {
-                foundTextLine = textLines[middle];
-                break;
-            } else if (endOffset <= position) {
-                left = middle + 1;
+            int middle = (left + right + 1) >>> 1;
+            if (startOffsets[middle] <= position) {
+                left = middle;
             } else {
                 right = middle - 1;
             }
         }
-        return foundTextLine;
+        return left;
+    }
+
+    /**
+     * Splits text into lines without copying it character by character.
+     */
+    private static class LineBuilder {
+        private String[] lineTexts;
+        private int[] startOffsets;
+        private byte[] newLineLengths;
+        private int size;
+
+        LineBuilder(int initialCapacity) {
+            this.lineTexts = new String[initialCapacity];
+            this.startOffsets = new int[initialCapacity];
+            this.newLineLengths = new byte[initialCapacity];
+        }
+
+        /**
+         * Adds the lines of the given text.
+         *
+         * @param text                source text
+         * @param startOffset         offset of the text within the document
+         * @param includeTrailingLine whether to add the line after the last new line as well, which is the case when
+         *                            the text extends to the end of the document
+         */
+        void scan(String text, int startOffset, boolean includeTrailingLine) {
+            int lineStart = 0;
+            int index = 0;
+            int textLength = text.length();
+            while (index < textLength) {
+                char c = text.charAt(index);
+                if (c == '\r' || c == '\n') {
+                    int nextCharIndex = index + 1;
+                    int lengthOfNewLineChars;
+                    if (c == '\r' && textLength != nextCharIndex && text.charAt(nextCharIndex) == '\n') {
+                        lengthOfNewLineChars = 2;
+                    } else {
+                        lengthOfNewLineChars = 1;
+                    }
+                    add(text.substring(lineStart, index), startOffset + lineStart, lengthOfNewLineChars);
+                    index += lengthOfNewLineChars;
+                    lineStart = index;
+                } else {
+                    index++;
+                }
+            }
+            if (includeTrailingLine) {
+                add(text.substring(lineStart), startOffset + lineStart, 0);
+            }
+        }
+
+        private void add(String lineText, int startOffset, int lengthOfNewLineChars) {
+            if (size == lineTexts.length) {
+                int newCapacity = size * 2;
+                lineTexts = Arrays.copyOf(lineTexts, newCapacity);
+                startOffsets = Arrays.copyOf(startOffsets, newCapacity);
+                newLineLengths = Arrays.copyOf(newLineLengths, newCapacity);
+            }
+            lineTexts[size] = lineText;
+            startOffsets[size] = startOffset;
+            newLineLengths[size] = (byte) lengthOfNewLineChars;
+            size++;
+        }
+
+        String[] lineTexts() {
+            return size == lineTexts.length ? lineTexts : Arrays.copyOf(lineTexts, size);
+        }
+
+        int[] startOffsets() {
+            return size == startOffsets.length ? startOffsets : Arrays.copyOf(startOffsets, size);
+        }
+
+        byte[] newLineLengths() {
+            return size == newLineLengths.length ? newLineLengths : Arrays.copyOf(newLineLengths, size);
+        }
     }
 }
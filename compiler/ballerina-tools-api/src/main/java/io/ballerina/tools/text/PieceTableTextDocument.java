@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.tools.text;
+
+import java.util.Arrays;
+
+/**
+ * The {@code PieceTableTextDocument} represents a {@code TextDocument} stored as a piece table.
+ * <p>
+ * The text is a sequence of pieces, each referring to a range of an immutable buffer, which is either the original
+ * text or the text of a {@code TextEdit}. Applying a {@code TextDocumentChange} only creates a new sequence of pieces
+ * instead of copying the whole text, and the {@code LineMap} of the new document is derived incrementally from the
+ * {@code LineMap} of this document when it has already been computed.
+ *
+ * @since 2201.10.0
+ */
+class PieceTableTextDocument extends TextDocument {
+    /**
+     * Maximum number of pieces before the pieces are merged into a single buffer.
+     */
+    private static final int MAX_PIECE_COUNT = 1024;
+
+    private final String[] buffers;
+    private final int[] bufferOffsets;
+    private final int[] pieceLengths;
+    // Start offset of each piece within the document
+    private final int[] pieceOffsets;
+    private final int pieceCount;
+    private final int length;
+
+    private String text;
+    private LineMap textLineMap;
+    private LineMap previousLineMap;
+    private TextDocumentChange previousChange;
+
+    PieceTableTextDocument(String text) {
+        this(new String[]{text}, new int[]{0}, new int[]{text.length()}, 1);
+        this.text = text;
+    }
+
+    private PieceTableTextDocument(String[] buffers, int[] bufferOffsets, int[] pieceLengths, int pieceCount) {
+        this.buffers = buffers;
+        this.bufferOffsets = bufferOffsets;
+        this.pieceLengths = pieceLengths;
+        this.pieceCount = pieceCount;
+        this.pieceOffsets = new int[pieceCount];
+        int offset = 0;
+        for (int i = 0; i < pieceCount; i++) {
+            pieceOffsets[i] = offset;
+            offset += pieceLengths[i];
+        }
+        this.length = offset;
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        PieceBuilder pieceBuilder = new PieceBuilder(pieceCount + 2 * textDocumentChange.getTextEditCount() + 1);
+        int startOffset = 0;
+        int textEditCount = textDocumentChange.getTextEditCount();
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            addPieces(pieceBuilder, startOffset, textRange.startOffset());
+            String newText = textEdit.text();
+            pieceBuilder.add(newText, 0, newText.length());
+            startOffset = textRange.endOffset();
+        }
+        addPieces(pieceBuilder, startOffset, length);
+
+        PieceTableTextDocument newTextDocument;
+        if (pieceBuilder.size > MAX_PIECE_COUNT) {
+            newTextDocument = new PieceTableTextDocument(pieceBuilder.toString());
+        } else {
+            newTextDocument = new PieceTableTextDocument(pieceBuilder.buffers, pieceBuilder.bufferOffsets,
+                    pieceBuilder.pieceLengths, pieceBuilder.size);
+        }
+        LineMap lineMap = this.textLineMap;
+        if (lineMap != null) {
+            newTextDocument.previousLineMap = lineMap;
+            newTextDocument.previousChange = textDocumentChange;
+        }
+        return newTextDocument;
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        if (textLineMap != null) {
+            return textLineMap;
+        }
+        LineMap lineMap = previousLineMap;
+        TextDocumentChange textDocumentChange = previousChange;
+        if (lineMap != null && textDocumentChange != null) {
+            textLineMap = lineMap.apply(textDocumentChange, this);
+            previousLineMap = null;
+            previousChange = null;
+        } else {
+            textLineMap = LineMap.from(toString());
+        }
+        return textLineMap;
+    }
+
+    @Override
+    public char[] toCharArray() {
+        if (text != null) {
+            return text.toCharArray();
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < pieceCount; i++) {
+            int bufferOffset = bufferOffsets[i];
+            buffers[i].getChars(bufferOffset, bufferOffset + pieceLengths[i], chars, pieceOffsets[i]);
+        }
+        return chars;
+    }
+
+    @Override
+    public String toString() {
+        if (text == null) {
+            text = new String(toCharArray());
+        }
+        return text;
+    }
+
+    /**
+     * Returns the text between the given offsets of the document.
+     *
+     * @param startOffset start offset, inclusive
+     * @param endOffset   end offset, exclusive
+     * @return the text within the range
+     */
+    String substring(int startOffset, int endOffset) {
+        if (text != null) {
+            return text.substring(startOffset, endOffset);
+        }
+        StringBuilder sb = new StringBuilder(endOffset - startOffset);
+        for (int i = pieceIndexOf(startOffset); i < pieceCount && pieceOffsets[i] < endOffset; i++) {
+            int from = Math.max(startOffset, pieceOffsets[i]) - pieceOffsets[i] + bufferOffsets[i];
+            int to = Math.min(endOffset, pieceOffsets[i] + pieceLengths[i]) - pieceOffsets[i] + bufferOffsets[i];
+            sb.append(buffers[i], from, to);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds the pieces covering the given range of this document.
+     */
+    private void addPieces(PieceBuilder pieceBuilder, int startOffset, int endOffset) {
+        if (startOffset >= endOffset) {
+            return;
+        }
+        for (int i = pieceIndexOf(startOffset); i < pieceCount && pieceOffsets[i] < endOffset; i++) {
+            int from = Math.max(startOffset, pieceOffsets[i]);
+            int to = Math.min(endOffset, pieceOffsets[i] + pieceLengths[i]);
+            pieceBuilder.add(buffers[i], from - pieceOffsets[i] + bufferOffsets[i], to - from);
+        }
+    }
+
+    /**
+     * Returns the index of the piece containing the given offset, using a binary search.
+     */
+    private int pieceIndexOf(int offset) {
+        int left = 0;
+        int right = pieceCount - 1;
+        while (left < right) {
+            int middle = (left + right + 1) >>> 1;
+            if (pieceOffsets[middle] <= offset) {
+                left = middle;
+            } else {
+                right = middle - 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Collects the pieces of a new document.
+     */
+    private static class PieceBuilder {
+        private String[] buffers;
+        private int[] bufferOffsets;
+        private int[] pieceLengths;
+        private int size;
+
+        PieceBuilder(int initialCapacity) {
+            this.buffers = new String[initialCapacity];
+            this.bufferOffsets = new int[initialCapacity];
+            this.pieceLengths = new int[initialCapacity];
+        }
+
+        void add(String buffer, int bufferOffset, int pieceLength) {
+            if (pieceLength == 0) {
+                return;
+            }
+            // Merge with the previous piece when it refers to the adjacent range of the same buffer
+            int last = size - 1;
+            if (last >= 0 && buffers[last] == buffer && bufferOffsets[last] + pieceLengths[last] == bufferOffset) {
+                pieceLengths[last] += pieceLength;
+                return;
+            }
+            if (size == buffers.length) {
+                int newCapacity = size * 2;
+                buffers = Arrays.copyOf(buffers, newCapacity);
+                bufferOffsets = Arrays.copyOf(bufferOffsets, newCapacity);
+                pieceLengths = Arrays.copyOf(pieceLengths, newCapacity);
+            }
+            buffers[size] = buffer;
+            bufferOffsets[size] = bufferOffset;
+            pieceLengths[size] = pieceLength;
+            size++;
+        }
+
+        @Override
+        public String toString() {
+            int length = 0;
+            for (int i = 0; i < size; i++) {
+                length += pieceLengths[i];
+            }
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < size; i++) {
+                sb.append(buffers[i], bufferOffsets[i], bufferOffsets[i] + pieceLengths[i]);
+            }
+            return sb.toString();
+        }
+    }
+}
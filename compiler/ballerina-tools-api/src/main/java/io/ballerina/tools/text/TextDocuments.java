@@ -26,7 +26,7 @@ public class TextDocuments {
     }
 
     public static TextDocument from(String text) {
-        return new StringTextDocument(text);
+        return new PieceTableTextDocument(text);
     }
 
 }
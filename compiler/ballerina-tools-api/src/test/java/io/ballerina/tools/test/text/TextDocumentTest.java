@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.tools.test.text;
+
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for applying {@code TextDocumentChange}s to a {@code TextDocument}.
+ *
+ * @since 2201.10.0
+ */
+public class TextDocumentTest {
+
+    private static final String[] INSERTED_TEXTS = {"", "a", "foo()", "\n", "\r\n", "\r", "x\ny", "int i = 0;\r\n",
+            "\n\n", "}\r"};
+
+    @Test
+    public void testApplyTextEdits() {
+        TextDocument textDocument = TextDocuments.from("function foo() {\n    int a = 10;\r\n}\r\n");
+        TextDocumentChange change = TextDocumentChange.from(new TextEdit[]{
+                TextEdit.from(TextRange.from(9, 3), "bar"),
+                TextEdit.from(TextRange.from(29, 2), "20")});
+        TextDocument newTextDocument = textDocument.apply(change);
+        Assert.assertEquals(newTextDocument.toString(), "function bar() {\n    int a = 20;\r\n}\r\n");
+        Assert.assertEquals(textDocument.toString(), "function foo() {\n    int a = 10;\r\n}\r\n");
+        assertLines(newTextDocument, newTextDocument.toString());
+    }
+
+    @Test
+    public void testIncrementalLineMap() {
+        Random random = new Random(7);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            expected.append("line ").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        TextDocument textDocument = TextDocuments.from(expected.toString());
+        for (int i = 0; i < 500; i++) {
+            // Compute the line map of every other version, so that both the incremental and the full scan are used
+            if (i % 2 == 0) {
+                textDocument.textLines();
+            }
+            int editCount = 1 + random.nextInt(3);
+            TextEdit[] textEdits = new TextEdit[editCount];
+            int offset = 0;
+            int documentLength = expected.length();
+            for (int j = 0; j < editCount; j++) {
+                int start = offset + random.nextInt(Math.max(1, (documentLength - offset) / (editCount - j)));
+                start = Math.min(start, documentLength);
+                int end = Math.min(documentLength, start + random.nextInt(8));
+                textEdits[j] = TextEdit.from(TextRange.from(start, end - start),
+                        INSERTED_TEXTS[random.nextInt(INSERTED_TEXTS.length)]);
+                offset = end;
+            }
+            for (int j = editCount - 1; j >= 0; j--) {
+                TextRange range = textEdits[j].range();
+                expected.replace(range.startOffset(), range.endOffset(), textEdits[j].text());
+            }
+            textDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+            assertLines(textDocument, expected.toString());
+        }
+    }
+
+    private void assertLines(TextDocument textDocument, String expected) {
+        TextDocument expectedTextDocument = TextDocuments.from(expected);
+        Assert.assertEquals(textDocument.toString(), expected);
+        Assert.assertEquals(new String(textDocument.toCharArray()), expected);
+        List<String> textLines = textDocument.textLines();
+        Assert.assertEquals(textLines, expectedTextDocument.textLines());
+        for (int i = 0; i < textLines.size(); i++) {
+            TextLine textLine = textDocument.line(i);
+            TextLine expectedTextLine = expectedTextDocument.line(i);
+            Assert.assertEquals(textLine.lineNo(), i);
+            Assert.assertEquals(textLine.text(), expectedTextLine.text());
+            Assert.assertEquals(textLine.startOffset(), expectedTextLine.startOffset());
+            Assert.assertEquals(textLine.endOffset(), expectedTextLine.endOffset());
+            Assert.assertEquals(textLine.endOffsetWithNewLines(), expectedTextLine.endOffsetWithNewLines());
+        }
+        for (int position = 0; position <= expected.length(); position++) {
+            LinePosition linePosition = textDocument.linePositionFrom(position);
+            Assert.assertEquals(linePosition, expectedTextDocument.linePositionFrom(position));
+            if (linePosition.offset() <= textDocument.line(linePosition.line()).length()) {
+                Assert.assertEquals(textDocument.textPositionFrom(linePosition), position);
+            }
+        }
+    }
+}
@@ -18,17 +18,25 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixedReason;
@@ -36,81 +44,318 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
+ * <p>
+ * Arrays of int, float and string members that are sorted without a key function are sorted as primitive arrays,
+ * without boxing the members. Other arrays are sorted with a stable merge sort on the members, or on the keys returned by
+ * the key function. Large arrays are sorted in parallel.
  *
  * @since 1.0
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+    // Below this size the cost of splitting the sort into parallel tasks outweighs the gain.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final int INSERTION_SORT_THRESHOLD = 8;
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        boolean ascending = ASCENDING.equals(direction.toString());
+        int size = arr.size();
+        Type elementType = arr.getElementType();
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null) {
+            switch (TypeUtils.getImpliedType(elementType).getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    long[] ints = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        ints[i] = arr.getInt(i);
+                    }
+                    return createIntArray(elementType, sortInts(ints, ascending));
+                case TypeTags.FLOAT_TAG:
+                    double[] floats = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        floats[i] = arr.getFloat(i);
+                    }
+                    return createFloatArray(elementType, sortFloats(floats, ascending));
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    BString[] strings = new BString[size];
+                    for (int i = 0; i < size; i++) {
+                        strings[i] = arr.getBString(i);
+                    }
+                    return createStringArray(elementType, sortStrings(strings, ascending));
+                default:
+                    break;
+            }
+        }
 
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        // Without a key function the members are the keys, and a single array is sorted.
+        Object[] keys = values;
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+            keys = new Object[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), values[i], true});
             }
+        }
+
+        try {
+            new MergeSort(keys, values, ascending).sort();
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap) error.getDetails());
+        }
+
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
+    }
+
+    private static long[] sortInts(long[] values, boolean ascending) {
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            Arrays.sort(values);
+        }
+        if (!ascending) {
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                long temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
             }
         }
+        return values;
+    }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+    private static double[] sortFloats(double[] values, boolean ascending) {
+        // -0.0 and 0.0 are equal members, so they must keep their relative order, while Arrays.sort places -0.0
+        // first. Record the order of the zeros when both are present to restore it after sorting.
+        boolean[] negativeZeros = null;
+        int negativeZeroCount = 0;
+        int zeroCount = 0;
+        for (double value : values) {
+            if (value == 0) {
+                zeroCount++;
+                if (Double.doubleToRawLongBits(value) != 0) {
+                    negativeZeroCount++;
+                }
+            }
+        }
+        if (negativeZeroCount > 0 && negativeZeroCount < zeroCount) {
+            negativeZeros = new boolean[zeroCount];
+            for (int i = 0, k = 0; i < values.length; i++) {
+                if (values[i] == 0) {
+                    negativeZeros[k++] = Double.doubleToRawLongBits(values[i]) != 0;
+                }
+            }
+        }
 
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+        // NaN is placed last in both directions, and Arrays.sort has already moved it to the end.
+        int end = values.length;
+        while (end > 0 && Double.isNaN(values[end - 1])) {
+            end--;
+        }
+        if (!ascending) {
+            for (int i = 0, j = end - 1; i < j; i++, j--) {
+                double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
         }
 
-        return sortedArray;
+        if (negativeZeros != null) {
+            int zeroStart = 0;
+            while (values[zeroStart] != 0) {
+                zeroStart++;
+            }
+            for (int k = 0; k < zeroCount; k++) {
+                values[zeroStart + k] = negativeZeros[k] ? -0.0 : 0.0;
+            }
+        }
+        return values;
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
-        if (hi <= lo) {
-            return;
+    private static BString[] sortStrings(BString[] values, boolean ascending) {
+        Comparator<BString> comparator = (lhs, rhs) ->
+                ValueComparisonUtils.codePointCompare(lhs.getValue(), rhs.getValue());
+        if (!ascending) {
+            comparator = comparator.reversed();
+        }
+        // Both sorts are stable, which keeps equal members in their original order as the spec requires.
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, comparator);
+        } else {
+            Arrays.sort(values, comparator);
         }
+        return values;
+    }
 
-        int mid = lo + (hi - lo) / 2;
+    private static BArray createIntArray(Type elementType, long[] values) {
+        if (elementType.getTag() == TypeTags.INT_TAG) {
+            return ValueCreator.createArrayValue(values);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
+    }
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+    private static BArray createFloatArray(Type elementType, double[] values) {
+        if (elementType.getTag() == TypeTags.FLOAT_TAG) {
+            return ValueCreator.createArrayValue(values);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
+    }
 
-        merge(input, aux, lo, mid, hi, direction);
+    private static BArray createStringArray(Type elementType, BString[] values) {
+        if (elementType.getTag() == TypeTags.STRING_TAG) {
+            return ValueCreator.createArrayValue(values);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+    /**
+     * Stable merge sort of the values by their keys, using the ordering of lang.array:sort. The keys and the values
+     * may be the same array.
+     */
+    private static class MergeSort {
+
+        private final Object[] keys;
+        private final Object[] values;
+        private final Object[] auxKeys;
+        private final Object[] auxValues;
+        private final boolean ascending;
+
+        MergeSort(Object[] keys, Object[] values, boolean ascending) {
+            this.keys = keys;
+            this.values = values;
+            this.auxKeys = new Object[keys.length];
+            this.auxValues = keys == values ? auxKeys : new Object[values.length];
+            this.ascending = ascending;
         }
 
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
+        void sort() {
+            if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+                ForkJoinPool.commonPool().invoke(new ParallelMergeSortTask(this, 0, keys.length - 1));
+            } else {
+                sort(0, keys.length - 1);
+            }
+        }
+
+        // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
+        void sort(int lo, int hi) {
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                insertionSort(lo, hi);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            sort(lo, mid);
+            sort(mid + 1, hi);
+            merge(lo, mid, hi);
+        }
+
+        private void insertionSort(int lo, int hi) {
+            for (int i = lo + 1; i <= hi; i++) {
+                Object key = keys[i];
+                Object value = values[i];
+                int j = i;
+                while (j > lo && isBefore(key, keys[j - 1])) {
+                    keys[j] = keys[j - 1];
+                    values[j] = values[j - 1];
+                    j--;
+                }
+                keys[j] = key;
+                values[j] = value;
+            }
+        }
+
+        void merge(int lo, int mid, int hi) {
+            // The halves are already in order, e.g. when the input is sorted.
+            if (!isBefore(keys[mid + 1], keys[mid])) {
+                return;
+            }
+
+            System.arraycopy(keys, lo, auxKeys, lo, hi + 1 - lo);
+            if (keys != values) {
+                System.arraycopy(values, lo, auxValues, lo, hi + 1 - lo);
+            }
+
+            for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
+                int index;
                 if (i > mid) {
                     index = j++;
                 } else if (j > hi) {
                     index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
+                } else if (isBefore(auxKeys[j], auxKeys[i])) {
                     index = j++;
                 } else {
                     index = i++;
                 }
-                input[k] = aux[index];
+                keys[k] = auxKeys[index];
+                values[k] = auxValues[index];
+            }
+        }
+
+        /**
+         * Checks whether the key of a later member has to be placed before the key of an earlier member.
+         */
+        private boolean isBefore(Object laterKey, Object earlierKey) {
+            if (ascending) {
+                return ValueComparisonUtils.compareValues(laterKey, earlierKey, ASCENDING) < 0;
+            }
+            return ValueComparisonUtils.compareValues(earlierKey, laterKey, "descending") < 0;
+        }
+    }
+
+    private static class ParallelMergeSortTask extends RecursiveAction {
+
+        private final transient MergeSort mergeSort;
+        private final int lo;
+        private final int hi;
+
+        ParallelMergeSortTask(MergeSort mergeSort, int lo, int hi) {
+            this.mergeSort = mergeSort;
+            this.lo = lo;
+            this.hi = hi;
+        }
 
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap) error.getDetails());
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                mergeSort.sort(lo, hi);
+                return;
             }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new ParallelMergeSortTask(mergeSort, lo, mid), new ParallelMergeSortTask(mergeSort, mid + 1, hi));
+            mergeSort.merge(lo, mid, hi);
         }
     }
 }
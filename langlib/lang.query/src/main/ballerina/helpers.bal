@@ -328,6 +328,26 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function createFrameMultiMap() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinFrames",
+    name: "createFrameMultiMap"
+} external;
+
+function getFrames(handle frameMultiMap, any|error key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinFrames",
+    name: "getFrames"
+} external;
+
+function putFrames(handle frameMultiMap, any|error key, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinFrames",
+    name: "putFrames"
+} external;
+
+function mergeFrame(_Frame targetFrame, _Frame sourceFrame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinFrames",
+    name: "mergeFrame"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
@@ -346,7 +346,9 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
+    _Frame? lhsFrame = ();
+    _Frame[] rhsCandidates = [];
+    int rhsCandidateIndex = 0;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -355,7 +357,6 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -364,7 +365,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -378,48 +379,47 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        error? failureAtJoin = self.failureAtJoin;
+
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
+        while true {
+            _Frame? lhsFrame = self.lhsFrame;
+            _Frame[] rhsCandidates = self.rhsCandidates;
+            int rhsCandidateIndex = self.rhsCandidateIndex;
+            if (lhsFrame is _Frame && rhsCandidateIndex < rhsCandidates.length()) {
+                self.rhsCandidateIndex = rhsCandidateIndex + 1;
+                _Frame joinedFrame = {...lhsFrame};
+                mergeFrame(joinedFrame, rhsCandidates[rhsCandidateIndex]);
+                return joinedFrame;
             }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
+            // Candidates of the current lhs frame are exhausted, move to the next lhs frame.
+            _Frame|error? nextLhsFrame = pf.process();
+            if (nextLhsFrame is _Frame) {
+                any|error lhsKFRes = lhsKF(nextLhsFrame);
                 if (lhsKFRes is error) {
                     return prepareQueryBodyError(lhsKFRes);
                 }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+                self.lhsFrame = nextLhsFrame;
+                self.rhsCandidates = self.rhsFramesMap.get(lhsKFRes) ?: [];
+                self.rhsCandidateIndex = 0;
+            } else {
+                self.lhsFrame = ();
+                self.rhsCandidates = [];
+                return nextLhsFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
-        }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
         }
-        return f;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = [];
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -433,6 +433,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -454,7 +455,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -475,7 +476,6 @@ class _OuterJoinFunction {
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -491,32 +491,29 @@ class _OuterJoinFunction {
             if (lhsKFRes is error) {
                 return prepareQueryBodyError(lhsKFRes);
             }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int rhsCandidateIndex = self.rhsCandidateIndex;
+                _Frame rhsFrame = rhsCandidates[rhsCandidateIndex];
+                if (rhsCandidateIndex + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = rhsCandidateIndex + 1;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
                 }
                 _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
+                mergeFrame(joinedFrame, rhsFrame);
                 return joinedFrame;
             } else {
                 // rhsCandidates is nil, move to next lhs frame in next iteration.
                 _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
+                mergeFrame(joinedFrame, nilFrame);
                 self.lhsFrame = ();
                 return joinedFrame;
             }
@@ -528,6 +525,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -917,36 +915,31 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Frames of a joined stream, grouped by the value of their join key.
+# Keys are compared using value equality.
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle m;
 
     function init() {
-        self.m = {};
+        self.m = createFrameMultiMap();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
+    function put(any|error k, _Frame v) {
+        _Frame[]? vals = getFrames(self.m, k);
         if (vals is _Frame[]) {
             vals.push(v);
         } else {
-            self.m[k] = [v];
+            putFrames(self.m, k, [v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # Returns the frames for the given key. The returned array must not be modified.
+    #
+    # + k - join key
+    # + return - frames with the given join key, or nil if there are none
+    function get(any|error k) returns _Frame[]? {
+        return getFrames(self.m, k);
     }
-
 }
 
 class IterHelper {
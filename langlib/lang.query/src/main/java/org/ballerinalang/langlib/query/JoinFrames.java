@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Native helpers used by the join clauses of lang.query to index the frames of the joined stream by the value of
+ * the join key, using ballerina value equality instead of the string representation of the key.
+ *
+ * @since 2201.10.0
+ */
+public class JoinFrames {
+
+    public static BHandle createFrameMultiMap() {
+        return ValueCreator.createHandleValue(new HashMap<JoinKey, BArray>());
+    }
+
+    public static Object getFrames(BHandle frameMultiMap, Object key) {
+        return getMap(frameMultiMap).get(new JoinKey(key));
+    }
+
+    public static void putFrames(BHandle frameMultiMap, Object key, BArray frames) {
+        getMap(frameMultiMap).put(new JoinKey(key), frames);
+    }
+
+    public static void mergeFrame(BMap<BString, Object> targetFrame, BMap<BString, Object> sourceFrame) {
+        for (Map.Entry<BString, Object> entry : sourceFrame.entrySet()) {
+            targetFrame.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<JoinKey, BArray> getMap(BHandle frameMultiMap) {
+        return (Map<JoinKey, BArray>) frameMultiMap.getValue();
+    }
+
+    /**
+     * Wraps a join key value so that keys which are equal as ballerina values map to the same frames.
+     */
+    private static final class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        private JoinKey(Object value) {
+            this.value = value;
+            this.hash = Long.hashCode(TableUtils.hash(value, null));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JoinKey other)) {
+                return false;
+            }
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+    }
+}
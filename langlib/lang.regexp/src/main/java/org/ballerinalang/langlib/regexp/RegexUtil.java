@@ -27,7 +27,6 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
@@ -35,7 +34,6 @@ import io.ballerina.runtime.internal.values.RegExpValue;
 
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
@@ -79,27 +77,20 @@ public class RegexUtil {
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
-        return pattern.matcher(inputStr);
+        // The required ballerina regexp constructs are mapped to java when the pattern is compiled.
+        return ((RegExpValue) regexpVal).getPattern().matcher(inputStr);
     }
 
     static BArray getGroupZeroAsSpan(BString str, Matcher matcher, int[] surrogates) {
         BArray resultTuple = ValueCreator.createTupleValue(SPAN_AS_TUPLE_TYPE);
-        int[] adjustedPositions = getAdjustedPositions(str, matcher, surrogates);
+        BString subString = StringUtils.fromString(matcher.group());
+        int[] adjustedPositions = getAdjustedPositions(str, matcher.start(), subString, surrogates);
         resultTuple.add(0, adjustedPositions[0]);
         resultTuple.add(1, adjustedPositions[1]);
-        resultTuple.add(2, StringUtils.fromString(matcher.group()));
+        resultTuple.add(2, subString);
         return resultTuple;
     }
 
-    static int[] getAdjustedPositions(BString str, Matcher matcher, int[] surrogates) {
-        BString subString = StringUtils.fromString(matcher.group());
-        return getAdjustedPositions(str, matcher.start(), subString, surrogates);
-    }
-
     static int[] getAdjustedPositions(BString str, int startIndex, BString subString, int[] surrogates) {
         int newStartIndex = startIndex;
         int prevSurrogate = 0;
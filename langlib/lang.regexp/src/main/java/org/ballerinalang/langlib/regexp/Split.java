@@ -25,6 +25,8 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.regex.Pattern;
+
 /**
  * Native implementation of lang.regexp:split(string).
  *
@@ -34,9 +36,9 @@ public class Split {
 
     public static BArray split(BRegexpValue regExp, BString str) {
         String originalString = str.getValue();
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regExp);
-        String regex = StringUtils.getStringValue(translatedRegExpVal);
-        String[] splitStrArr = originalString.split(regex, -1);
+        // Same as String.split, which compiles the pattern without any flags.
+        Pattern pattern = RegExpFactory.getPattern((RegExpValue) regExp, 0);
+        String[] splitStrArr = pattern.split(originalString, -1);
         return StringUtils.fromStringArray(splitStrArr);
     }
 }
@@ -561,6 +561,8 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
+                "testSortLargeArrays",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse",
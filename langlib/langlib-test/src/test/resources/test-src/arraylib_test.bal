@@ -1338,6 +1338,73 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    float[] arr = [0.0, -0.0, 1.5, float:NaN, -0.0, -2.0, 0.0];
+
+    float[] sortedArr = arr.sort();
+    assertValueEquality(sortedArr.toString(), "[-2.0,0.0,-0.0,-0.0,0.0,1.5,NaN]");
+
+    float[] sortedArr2 = arr.sort(array:DESCENDING);
+    assertValueEquality(sortedArr2.toString(), "[1.5,0.0,-0.0,-0.0,0.0,-2.0,NaN]");
+
+    string[] arr3 = ["\u{1F600}", "\u{FFFD}", "b", "", "\u{E000}a", "ab", "\u{10000}"];
+
+    string[] sortedArr3 = arr3.sort();
+    assertValueEquality(sortedArr3, ["", "ab", "b", "\u{E000}a", "\u{FFFD}", "\u{10000}", "\u{1F600}"]);
+
+    string[] sortedArr4 = arr3.sort(array:DESCENDING);
+    assertValueEquality(sortedArr4, ["\u{1F600}", "\u{10000}", "\u{FFFD}", "\u{E000}a", "b", "ab", ""]);
+}
+
+type SortEntry record {|
+    int key;
+    int index;
+|};
+
+function testSortLargeArrays() {
+    int size = 100000;
+    int[] ints = [];
+    float[] floats = [];
+    string[] strings = [];
+    SortEntry[] entries = [];
+    int seed = 42;
+    foreach int i in 0 ..< size {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        ints.push(seed - 1073741824);
+        floats.push(<float>seed / 1000.0);
+        strings.push(seed.toString());
+        entries.push({key: seed % 100, index: i});
+    }
+
+    int[] sortedInts = ints.sort();
+    int[] descendingInts = ints.sort(array:DESCENDING);
+    float[] sortedFloats = floats.sort();
+    string[] sortedStrings = strings.sort();
+    SortEntry[] sortedEntries = entries.sort(array:ASCENDING, isolated function(SortEntry entry) returns int {
+        return entry.key;
+    });
+    SortEntry[] descendingEntries = entries.sort(array:DESCENDING, isolated function(SortEntry entry) returns int {
+        return entry.key;
+    });
+
+    assertValueEquality(size, sortedInts.length());
+    assertValueEquality(size, sortedEntries.length());
+    foreach int i in 1 ..< size {
+        assertTrue(sortedInts[i - 1] <= sortedInts[i]);
+        assertTrue(descendingInts[i - 1] >= descendingInts[i]);
+        assertTrue(sortedFloats[i - 1] <= sortedFloats[i]);
+        assertTrue(sortedStrings[i - 1] <= sortedStrings[i]);
+
+        // Members with equal keys keep their original order.
+        SortEntry previous = sortedEntries[i - 1];
+        SortEntry current = sortedEntries[i];
+        assertTrue(previous.key < current.key || (previous.key == current.key && previous.index < current.index));
+        previous = descendingEntries[i - 1];
+        current = descendingEntries[i];
+        assertTrue(previous.key > current.key || (previous.key == current.key && previous.index < current.index));
+    }
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -2728,6 +2728,24 @@ function testRegexpWithUnicodeChars() {
     assertTrue(resJ5 is ());
 }
 
+function testRepeatedRegexpEvaluation() {
+    string[] words = ["ab", "cd", "ef"];
+    foreach int i in 0 ..< 3 {
+        foreach string word in words {
+            string:RegExp pattern = re `${word}\d+`;
+            regexp:Span? res = pattern.find("ab1 cd22 ef333");
+            assertTrue(res is regexp:Span);
+            regexp:Span span = <regexp:Span>res;
+            assertEquality(word, span.substring().substring(0, 2));
+            assertTrue(pattern.isFullMatch(word + "123"));
+            assertFalse(pattern.isFullMatch("xy123"));
+        }
+        regexp:Span[] spans = re `[a-z]+`.findAll("ab1 cd22 ef333");
+        assertEquality(3, spans.length());
+        assertEquality(["ab1", "cd22", "ef333"], re ` `.split("ab1 cd22 ef333"));
+    }
+}
+
 function assertEquality(any|error expected, any|error actual) {
     if expected is anydata && actual is anydata && expected == actual {
         return;
@@ -440,6 +440,35 @@ function testFromJsonStringWithTypeIntArray() {
     assertEquality(intArr[1], 2);
 }
 
+type NumericLiterals record {
+    int a;
+    int:Signed8 b;
+    int c;
+    json d;
+    json e;
+    float f;
+    int[] g;
+};
+
+function testFromJsonStringWithTypeNumericLiterals() {
+    string s = "{\"a\": -123, \"b\": -128, \"c\": 1234567890123456789, \"d\": -0, \"e\": 42, " +
+        "\"f\": 7, \"g\": [0, -1, 10], \"h\": 5}";
+    NumericLiterals literals = checkpanic s.fromJsonStringWithType();
+    assertEquality(literals.a, -123);
+    assertEquality(literals.b, -128);
+    assertEquality(literals.c, 1234567890123456789);
+    assertEquality(literals.d is float, true);
+    assertEquality(literals.e, 42);
+    assertEquality(literals.f, 7.0);
+    assertEquality(literals.g, [0, -1, 10]);
+    assertEquality(literals["h"], 5);
+
+    string outOfRange = "{\"a\": 1, \"b\": 200, \"c\": 1, \"d\": 1, \"e\": 1, \"f\": 1, \"g\": []}";
+    NumericLiterals|error result = outOfRange.fromJsonStringWithType();
+    assertEquality(result is error, true);
+    assertEquality((<error> result).message().startsWith("value '200' cannot be converted to"), true);
+}
+
 function testFromJsonStringWithTypeWithInferredArgument() {
     string s = "[1, 2]";
     int[] arr = checkpanic s.fromJsonStringWithType();
@@ -112,7 +112,7 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
 
     public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
         final InitializeResult res = new InitializeResult(new ServerCapabilities());
-        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Full);
+        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Incremental);
 
         Map experimentalClientCapabilities = null;
         if (params.getCapabilities().getExperimental() != null) {
@@ -277,7 +277,7 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
 
             TextDocumentChangeRegistrationOptions changeRegOptions = new TextDocumentChangeRegistrationOptions();
             changeRegOptions.setDocumentSelector(List.of(balaFilter, exprFilter));
-            changeRegOptions.setSyncKind(TextDocumentSyncKind.Full);
+            changeRegOptions.setSyncKind(TextDocumentSyncKind.Incremental);
             Registration changeRegistration = new Registration(UUID.randomUUID().toString(),
                     "textDocument/didChange", changeRegOptions);
 
@@ -35,6 +35,7 @@ import org.ballerinalang.langserver.common.utils.SymbolUtil;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.ballerinalang.langserver.commons.codeaction.spi.DiagBasedPositionDetails;
 import org.ballerinalang.langserver.commons.codeaction.spi.DiagnosticBasedCodeActionProvider;
+import org.ballerinalang.langserver.references.ReferencesPrefilter;
 import org.ballerinalang.langserver.references.ReferencesUtil;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.ballerinalang.util.diagnostic.DiagnosticWarningCode;
@@ -126,7 +127,8 @@ public class IgnoreUnusedVariableCodeAction implements DiagnosticBasedCodeAction
             Optional<Integer> refCount = context.currentSemanticModel()
                     .flatMap(semanticModel -> semanticModel.symbol(finalBindingPatternNode))
                     .flatMap(symbol -> context.workspace().project(context.filePath())
-                            .map(project -> ReferencesUtil.getReferences(project, symbol)))
+                            .map(project -> ReferencesUtil.getReferences(project, symbol,
+                                    ReferencesPrefilter.getInstance(context.languageServercontext()))))
                     .map(modRefMap -> modRefMap.values().stream().map(List::size).reduce(0, Integer::sum));
 
             // If more than 1 reference, we don't show the codeaction
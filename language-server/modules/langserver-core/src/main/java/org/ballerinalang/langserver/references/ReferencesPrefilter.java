@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.references;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A prefilter for reference searches, which skips the modules that cannot refer to a given symbol because none of
+ * their documents use the name of the symbol. The identifier names of a document are collected when a search first
+ * needs them. Entries are keyed by syntax tree instances and therefore go away with the tree once a document is
+ * edited or its project is unloaded.
+ * <p>
+ * This is not a symbol index. The modules that pass the filter are still searched with the semantic model.
+ *
+ * @since 2201.10.0
+ */
+public class ReferencesPrefilter {
+
+    public static final LanguageServerContext.Key<ReferencesPrefilter> REFERENCES_PREFILTER_KEY =
+            new LanguageServerContext.Key<>();
+
+    // Kinds of symbols which are always referred to by an identifier token carrying the symbol name
+    private static final Set<SymbolKind> FILTERED_SYMBOL_KINDS = EnumSet.of(SymbolKind.XMLNS, SymbolKind.FUNCTION,
+            SymbolKind.CONSTANT, SymbolKind.TYPE_DEFINITION, SymbolKind.VARIABLE, SymbolKind.CLASS,
+            SymbolKind.ANNOTATION, SymbolKind.ENUM, SymbolKind.ENUM_MEMBER, SymbolKind.PARAMETER);
+    private static final String QUOTE = "'";
+    private static final String ESCAPE = "\\";
+
+    private final Map<SyntaxTree, DocumentIdentifiers> documentIdentifiers =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public static ReferencesPrefilter getInstance(LanguageServerContext context) {
+        ReferencesPrefilter referencesPrefilter = context.get(REFERENCES_PREFILTER_KEY);
+        if (referencesPrefilter == null) {
+            referencesPrefilter = new ReferencesPrefilter(context);
+        }
+
+        return referencesPrefilter;
+    }
+
+    private ReferencesPrefilter(LanguageServerContext context) {
+        context.put(REFERENCES_PREFILTER_KEY, this);
+    }
+
+    /**
+     * Checks whether the given module may contain references to the given symbol. A false return value guarantees
+     * that the module has no references to the symbol, whereas true only means that it has to be searched.
+     *
+     * @param module Module to be checked
+     * @param symbol Symbol to be searched for references
+     * @return false if the module cannot have any references to the symbol
+     */
+    public boolean mayReference(Module module, Symbol symbol) {
+        Optional<String> name = filteredName(symbol);
+        if (name.isEmpty()) {
+            return true;
+        }
+
+        for (DocumentId documentId : module.documentIds()) {
+            if (identifiersOf(module.document(documentId)).mayContain(name.get())) {
+                return true;
+            }
+        }
+        for (DocumentId documentId : module.testDocumentIds()) {
+            if (identifiersOf(module.document(documentId)).mayContain(name.get())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DocumentIdentifiers identifiersOf(Document document) {
+        SyntaxTree syntaxTree = document.syntaxTree();
+        DocumentIdentifiers identifiers = documentIdentifiers.get(syntaxTree);
+        if (identifiers == null) {
+            IdentifierCollector collector = new IdentifierCollector();
+            syntaxTree.rootNode().accept(collector);
+            identifiers = new DocumentIdentifiers(collector.identifiers, collector.hasEscapedIdentifiers);
+            documentIdentifiers.put(syntaxTree, identifiers);
+        }
+        return identifiers;
+    }
+
+    private static Optional<String> filteredName(Symbol symbol) {
+        if (!FILTERED_SYMBOL_KINDS.contains(symbol.kind())) {
+            return Optional.empty();
+        }
+        Optional<String> name = symbol.getName().map(ReferencesPrefilter::unquote);
+        // Object constructors are referred to by the new expressions without the name of the init method
+        if (name.isEmpty() || name.get().isEmpty() || name.get().contains(ESCAPE) || name.get().equals("init")) {
+            return Optional.empty();
+        }
+        return name;
+    }
+
+    private static String unquote(String identifier) {
+        return identifier.startsWith(QUOTE) ? identifier.substring(1) : identifier;
+    }
+
+    /**
+     * Identifier names of a single document. Documents with escaped identifiers may refer to any name.
+     */
+    private record DocumentIdentifiers(Set<String> identifiers, boolean hasEscapedIdentifiers) {
+
+        boolean mayContain(String name) {
+            return hasEscapedIdentifiers || identifiers.contains(name);
+        }
+    }
+
+    /**
+     * Collects the names of all the identifier tokens of a syntax tree.
+     */
+    private static class IdentifierCollector extends NodeVisitor {
+
+        private final Set<String> identifiers = new HashSet<>();
+        private boolean hasEscapedIdentifiers = false;
+
+        @Override
+        public void visit(Token token) {
+            if (token.kind() != SyntaxKind.IDENTIFIER_TOKEN) {
+                return;
+            }
+            String identifier = unquote(token.text());
+            if (identifier.contains(ESCAPE)) {
+                hasEscapedIdentifiers = true;
+                return;
+            }
+            identifiers.add(identifier);
+        }
+    }
+}
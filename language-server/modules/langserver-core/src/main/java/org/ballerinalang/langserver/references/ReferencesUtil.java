@@ -55,7 +55,8 @@ public class ReferencesUtil {
         if (project.isEmpty() || symbol.isEmpty()) {
             return references;
         }
-        references.putAll(getReferences(project.get(), symbol.get()));
+        ReferencesPrefilter referencesPrefilter = ReferencesPrefilter.getInstance(context.languageServercontext());
+        references.putAll(getReferences(project.get(), symbol.get(), referencesPrefilter));
         references.forEach((module, locations) -> {
             List<Location> docReferences = new LinkedList<>();
             // Find references in documentation
@@ -78,8 +79,26 @@ public class ReferencesUtil {
      * @return Map of module and list of reference locations.
      */
     public static Map<Module, List<Location>> getReferences(Project project, Symbol symbol) {
+        return getReferences(project, symbol, null);
+    }
+
+    /**
+     * Given a project and a symbol, returns references to that symbol within the project. Modules which the
+     * prefilter rules out are not searched.
+     *
+     * @param project             Project
+     * @param symbol              Symbol to be searched for references
+     * @param referencesPrefilter Prefilter to skip modules with, or null to search all the modules
+     * @return Map of module and list of reference locations.
+     */
+    public static Map<Module, List<Location>> getReferences(Project project, Symbol symbol,
+                                                            ReferencesPrefilter referencesPrefilter) {
         Map<Module, List<Location>> moduleLocationMap = new HashMap<>();
         project.currentPackage().moduleIds().forEach(moduleId -> {
+            if (referencesPrefilter != null
+                    && !referencesPrefilter.mayReference(project.currentPackage().module(moduleId), symbol)) {
+                return;
+            }
             List<Location> references = project.currentPackage()
                     .getCompilation().getSemanticModel(moduleId).references(symbol);
             if (references.isEmpty()) {
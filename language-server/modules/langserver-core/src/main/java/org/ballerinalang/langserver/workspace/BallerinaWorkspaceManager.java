@@ -41,6 +41,7 @@ import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.TomlDocument;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.projects.directory.SingleFileProject;
@@ -48,6 +49,11 @@ import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.BallerinaLanguageServer;
@@ -55,6 +61,7 @@ import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
+import org.ballerinalang.langserver.common.utils.PositionUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
@@ -75,6 +82,8 @@ import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -429,24 +438,31 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 LSContextOperation.TXT_DID_CHANGE.getName(), true);
 
         Project project = projectContext.project();
+        Package currentPackage = project.currentPackage();
+        List<TextDocumentContentChangeEvent> changes = params.getContentChanges();
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Update Ballerina.toml
-            updateBallerinaToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateBallerinaToml(getChangedTomlContent(currentPackage.ballerinaToml()
+                    .map(BallerinaToml::tomlDocument), changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
             // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateDependenciesToml(getChangedTomlContent(currentPackage.dependenciesToml()
+                    .map(DependenciesToml::tomlDocument), changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
             // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCloudToml(getChangedTomlContent(currentPackage.cloudToml()
+                    .map(CloudToml::tomlDocument), changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
             // create or update Compiler-plugin.toml
-            updateCompilerPluginToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCompilerPluginToml(getChangedTomlContent(currentPackage.compilerPluginToml()
+                    .map(CompilerPluginToml::tomlDocument), changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BAL_TOOL_TOML))) {
             // create or update BalTool.toml
-            updateBalToolToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateBalToolToml(getChangedTomlContent(currentPackage.balToolToml()
+                    .map(BalToolToml::tomlDocument), changes), projectContext, false);
         } else if (ProjectPaths.isBalFile(filePath) && project.kind() != ProjectKind.BALA_PROJECT) {
             // Update .bal document
-            updateBalDocument(filePath, params.getContentChanges().get(0).getText(), projectContext);
+            updateBalDocument(filePath, changes, projectContext);
         }
     }
 
@@ -1272,7 +1288,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
-    private void updateBalDocument(Path filePath, String content, ProjectContext projectContext)
+    private void updateBalDocument(Path filePath, List<TextDocumentContentChangeEvent> changes,
+                                   ProjectContext projectContext)
             throws WorkspaceDocumentException {
         // Lock Project Instance
         Lock lock = projectContext.lockAndGet();
@@ -1282,7 +1299,10 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             if (document.isEmpty()) {
                 throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
             }
-            document.get().modify().withContent(content).apply();
+            // The changed regions are applied on the current text document, so that the text document and its line
+            // map are not rebuilt for the whole file on each change
+            TextDocument textDocument = applyContentChanges(document.get().textDocument(), changes);
+            document.get().modify().withTextDocument(textDocument).apply();
         } finally {
             // Unlock Project Instance
             lock.unlock();
@@ -1694,6 +1714,39 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         return absFilePath.resolve(ProjectConstants.PACKAGE_JSON).toFile().exists();
     }
 
+    /**
+     * Applies the changes sent by the client on a text document, in the order they were made. A change without a range
+     * replaces the whole content.
+     *
+     * @param textDocument text document to be changed
+     * @param changes      content changes sent by the client
+     * @return the changed text document
+     */
+    private static TextDocument applyContentChanges(TextDocument textDocument,
+                                                    List<TextDocumentContentChangeEvent> changes) {
+        TextDocument changedTextDocument = textDocument;
+        for (TextDocumentContentChangeEvent change : changes) {
+            Range range = change.getRange();
+            if (range == null) {
+                changedTextDocument = TextDocuments.from(change.getText());
+                continue;
+            }
+            // The range of a change is relative to the content after the previous changes
+            int startOffset = changedTextDocument.textPositionFrom(PositionUtil.getLinePosition(range.getStart()));
+            int endOffset = changedTextDocument.textPositionFrom(PositionUtil.getLinePosition(range.getEnd()));
+            TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), change.getText());
+            changedTextDocument = changedTextDocument.apply(TextDocumentChange.from(new TextEdit[]{textEdit}));
+        }
+        return changedTextDocument;
+    }
+
+    private static String getChangedTomlContent(Optional<TomlDocument> tomlDocument,
+                                                List<TextDocumentContentChangeEvent> changes) {
+        TextDocument textDocument = tomlDocument.map(TomlDocument::textDocument)
+                .orElseGet(() -> TextDocuments.from(""));
+        return applyContentChanges(textDocument, changes).toString();
+    }
+
     private static boolean isError(Diagnostic diagnostic) {
         return diagnostic.diagnosticInfo().severity().equals(DiagnosticSeverity.ERROR);
     }
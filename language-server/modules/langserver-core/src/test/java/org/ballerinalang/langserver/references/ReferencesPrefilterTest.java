@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langserver.references;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the module filtering of reference searches with the references prefilter.
+ *
+ * @since 2201.10.0
+ */
+public class ReferencesPrefilterTest {
+
+    private Project project;
+    private ReferencesPrefilter referencesPrefilter;
+    private Module defaultModule;
+    private Module mod1;
+    private Module escapedModule;
+    private Module unrelatedModule;
+
+    @BeforeClass
+    public void init() {
+        project = BuildProject.load(FileUtils.RES_DIR.resolve("references").resolve("sources")
+                .resolve("indexproject"));
+        project.currentPackage().getCompilation();
+        referencesPrefilter = ReferencesPrefilter.getInstance(new LanguageServerContextImpl());
+        defaultModule = project.currentPackage().getDefaultModule();
+        mod1 = getModule("indexproject.mod1");
+        escapedModule = getModule("indexproject.escaped");
+        unrelatedModule = getModule("indexproject.unrelated");
+    }
+
+    @Test
+    public void testModulesWithoutTheName() {
+        Symbol helper = getModuleSymbol(mod1, "helper");
+        Assert.assertTrue(referencesPrefilter.mayReference(defaultModule, helper));
+        Assert.assertTrue(referencesPrefilter.mayReference(mod1, helper));
+        Assert.assertFalse(referencesPrefilter.mayReference(unrelatedModule, helper));
+
+        Symbol localOnly = getModuleSymbol(mod1, "localOnly");
+        Assert.assertFalse(referencesPrefilter.mayReference(defaultModule, localOnly));
+        Assert.assertTrue(referencesPrefilter.mayReference(mod1, localOnly));
+
+        Symbol counter = getModuleSymbol(mod1, "counter");
+        Assert.assertEquals(counter.kind(), SymbolKind.VARIABLE);
+        Assert.assertFalse(referencesPrefilter.mayReference(unrelatedModule, counter));
+
+        assertSameReferences(helper);
+        assertSameReferences(localOnly);
+        assertSameReferences(counter);
+    }
+
+    @Test
+    public void testModuleWithEscapedIdentifiers() {
+        Symbol helper = getModuleSymbol(mod1, "helper");
+        Assert.assertTrue(referencesPrefilter.mayReference(escapedModule, helper));
+        assertSameReferences(helper);
+    }
+
+    @Test
+    public void testInitFunctions() {
+        Symbol moduleInit = getModuleSymbol(mod1, "init");
+        Assert.assertEquals(moduleInit.kind(), SymbolKind.FUNCTION);
+        Assert.assertTrue(referencesPrefilter.mayReference(unrelatedModule, moduleInit));
+        assertSameReferences(moduleInit);
+
+        ClassSymbol counterClass = (ClassSymbol) getModuleSymbol(mod1, "Counter");
+        Symbol classInit = counterClass.initMethod().orElseThrow();
+        Assert.assertTrue(referencesPrefilter.mayReference(unrelatedModule, classInit));
+        assertSameReferences(classInit);
+    }
+
+    @Test
+    public void testSymbolKindOutsideFilteredKinds() {
+        TypeDefinitionSymbol rec = (TypeDefinitionSymbol) getModuleSymbol(mod1, "Rec");
+        Symbol countField = ((RecordTypeSymbol) rec.typeDescriptor()).fieldDescriptors().get("count");
+        Assert.assertEquals(countField.kind(), SymbolKind.RECORD_FIELD);
+        Assert.assertTrue(referencesPrefilter.mayReference(unrelatedModule, countField));
+        assertSameReferences(countField);
+    }
+
+    private void assertSameReferences(Symbol symbol) {
+        Map<String, List<String>> unfiltered = toComparable(ReferencesUtil.getReferences(project, symbol));
+        Map<String, List<String>> filtered =
+                toComparable(ReferencesUtil.getReferences(project, symbol, referencesPrefilter));
+        Assert.assertFalse(unfiltered.isEmpty());
+        Assert.assertEquals(filtered, unfiltered);
+    }
+
+    private static Map<String, List<String>> toComparable(Map<Module, List<Location>> references) {
+        Map<String, List<String>> comparable = new TreeMap<>();
+        references.forEach((module, locations) -> comparable.put(module.moduleName().toString(),
+                locations.stream().map(location -> location.lineRange().fileName() + location.lineRange())
+                        .sorted().collect(Collectors.toList())));
+        return comparable;
+    }
+
+    private Module getModule(String moduleName) {
+        return project.currentPackage().modules()
+                .filter(module -> module.moduleName().toString().equals(moduleName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Symbol getModuleSymbol(Module module, String name) {
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        return semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.getName().filter(name::equals).isPresent())
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -48,6 +48,8 @@ import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.LogTraceParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
@@ -169,6 +171,30 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testOpenDocument")
+    public void testUpdateDocumentWithRangedChanges(Path filePath) throws WorkspaceDocumentException {
+        //Trigger didOpen to create a project instance corresponding to the filePath
+        openFile(filePath);
+
+        // Inputs from lang server, where the range of a change is relative to the content after the previous changes
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 9), new Position(0, 12)), "bar"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 0), new Position(1, 0)), "    int a = 1;" + CommonUtil.LINE_SEPARATOR));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertTrue(document.isPresent());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), "function bar() {" +
+                CommonUtil.LINE_SEPARATOR + "    int a = 1;" + CommonUtil.LINE_SEPARATOR + "}");
+        Assert.assertEquals(document.get().textDocument().line(1).text(), "    int a = 1;");
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -0,0 +1,8 @@
+import indexproject.mod1;
+
+public function main() {
+    int total = mod1:helper() + mod1:counter;
+    mod1:Counter c = new;
+    mod1:Rec rec = {"count": total};
+    c.increment(rec.count);
+}
@@ -0,0 +1,4 @@
+public function escapedName() returns int {
+    int first\-value = 1;
+    return first\-value;
+}
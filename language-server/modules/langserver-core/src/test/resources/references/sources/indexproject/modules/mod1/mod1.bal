@@ -0,0 +1,29 @@
+public int counter = 0;
+
+public type Rec record {|
+    int count;
+|};
+
+public class Counter {
+    private int value = 0;
+
+    public function init() {
+        self.value = localOnly();
+    }
+
+    public function increment(int step) {
+        self.value += step;
+    }
+}
+
+function init() {
+    counter = localOnly();
+}
+
+public function helper() returns int {
+    return localOnly();
+}
+
+function localOnly() returns int {
+    return 1;
+}
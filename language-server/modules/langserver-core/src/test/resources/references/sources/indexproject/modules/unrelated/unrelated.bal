@@ -0,0 +1,4 @@
+public function unrelatedFunction() returns int {
+    int value = 2;
+    return value;
+}
@@ -18,6 +18,7 @@ package org.ballerinalang.debugadapter;
 
 import com.sun.jdi.request.EventRequestManager;
 import io.ballerina.projects.Project;
+import org.ballerinalang.debugadapter.evaluation.EvaluationExecutableCache;
 import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolClient;
 
@@ -38,6 +39,7 @@ public class ExecutionContext {
     private Project sourceProject;
     private String sourceProjectRoot;
     private final DebugProjectCache projectCache;
+    private final EvaluationExecutableCache evaluationCache;
     private Process launchedProcess;
     private DebugInstruction lastInstruction;
     private boolean terminateRequestReceived;
@@ -46,6 +48,7 @@ public class ExecutionContext {
     ExecutionContext(JBallerinaDebugServer adapter) {
         this.adapter = adapter;
         this.projectCache = new DebugProjectCache();
+        this.evaluationCache = new EvaluationExecutableCache();
         this.lastInstruction = DebugInstruction.CONTINUE;
     }
 
@@ -144,6 +147,10 @@ public class ExecutionContext {
         this.projectCache.addProject(project);
     }
 
+    public EvaluationExecutableCache getEvaluationCache() {
+        return evaluationCache;
+    }
+
     public String getSourceProjectRoot() {
         return sourceProjectRoot;
     }
@@ -250,6 +250,7 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
     public CompletableFuture<Void> launch(Map<String, Object> args) {
         try {
             clearState();
+            context.getEvaluationCache().clear();
             context.setDebugMode(ExecutionContext.DebugMode.LAUNCH);
             clientConfigHolder = new ClientLaunchConfigHolder(args);
             Project sourceProject = context.getProjectCache().getProject(Path.of(clientConfigHolder.getSourcePath()));
@@ -276,6 +277,7 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
     public CompletableFuture<Void> attach(Map<String, Object> args) {
         try {
             clearState();
+            context.getEvaluationCache().clear();
             context.setDebugMode(ExecutionContext.DebugMode.ATTACH);
             clientConfigHolder = new ClientAttachConfigHolder(args);
             Project sourceProject = context.getProjectCache().getProject(Path.of(clientConfigHolder.getSourcePath()));
@@ -664,6 +666,8 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
      * @param logsEnabled       indicates whether the debug server logs should be sent to the client
      */
     void terminateDebugServer(boolean terminateDebuggee, boolean logsEnabled) {
+        // Removes the executables built for the expression evaluations within the session.
+        context.getEvaluationCache().clear();
         // Destroys launched process, if presents.
         if (context.getLaunchedProcess().isPresent() && context.getLaunchedProcess().get().isAlive()) {
             killProcessWithDescendants(context.getLaunchedProcess().get());
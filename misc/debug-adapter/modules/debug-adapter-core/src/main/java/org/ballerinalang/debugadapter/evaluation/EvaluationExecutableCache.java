@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.debugadapter.evaluation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A cache of the executables which are built to evaluate expressions as standalone programs, against a digest of the
+ * sources of the generated evaluation project.
+ * <p>
+ * The evaluation program source contains the user expression, the imports used by the expression and the types of
+ * the captured frame variables (as the function parameters), while the variable values are passed in at invocation.
+ * The evaluation project also contains the definitions of the other modules of the debugged package, if the
+ * expression uses them. Therefore the same executable can be reused whenever an expression is evaluated again in a
+ * frame with the same variable types, which is the common case for watch expressions that get re-evaluated on each
+ * debug step.
+ * <p>
+ * Only the build is skipped. The executable is still classloaded and its modules are initialized for every
+ * evaluation, so an evaluation never observes the module-level state changed by a previous one.
+ * <p>
+ * The cache belongs to a debug session and is cleared when a new session is launched or attached and when the
+ * session ends.
+ *
+ * @since 2201.10.0
+ */
+public class EvaluationExecutableCache {
+
+    private final Map<String, CachedExecutable> executables;
+
+    private static final int MAX_CACHED_EXECUTABLES = 64;
+    private static final String CACHED_EXECUTABLE_PREFIX = "evaluation-executable-";
+    private static final String CACHED_EXECUTABLE_SUFFIX = ".jar";
+
+    public EvaluationExecutableCache() {
+        this.executables = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedExecutable> eldest) {
+                if (size() <= MAX_CACHED_EXECUTABLES) {
+                    return false;
+                }
+                deleteExecutable(eldest.getValue().executablePath());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache key of an evaluation project.
+     *
+     * @param mainSource    source of the generated evaluation program
+     * @param moduleSources sources of the other modules in the evaluation project, against the module names
+     * @return cache key
+     */
+    public static String createKey(String mainSource, Map<String, String> moduleSources) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        updateDigest(messageDigest, mainSource);
+        new TreeMap<>(moduleSources).forEach((moduleName, moduleSource) -> {
+            updateDigest(messageDigest, moduleName);
+            updateDigest(messageDigest, moduleSource);
+        });
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static void updateDigest(MessageDigest messageDigest, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        // The length is included so that the boundaries of the sources are part of the digest
+        messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        messageDigest.update(bytes);
+    }
+
+    /**
+     * Returns the cached executable for the given key, if available.
+     *
+     * @param key cache key of the evaluation project, see {@link #createKey(String, Map)}
+     * @return cached executable
+     */
+    public synchronized Optional<CachedExecutable> get(String key) {
+        CachedExecutable executable = executables.get(key);
+        if (executable == null) {
+            return Optional.empty();
+        }
+        if (!Files.exists(executable.executablePath())) {
+            executables.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(executable);
+    }
+
+    /**
+     * Copies the given executable into the cache and returns the cached executable. The original executable can be
+     * discarded along with the temporary evaluation project afterwards.
+     *
+     * @param key            cache key of the evaluation project, see {@link #createKey(String, Map)}
+     * @param executablePath path of the executable built for the evaluation project
+     * @param mainClassName  name of the class which contains the evaluation function
+     * @return cached executable
+     * @throws IOException if the executable cannot be copied into the cache
+     */
+    public synchronized CachedExecutable put(String key, Path executablePath, String mainClassName)
+            throws IOException {
+        Path cachedPath = Files.createTempFile(CACHED_EXECUTABLE_PREFIX, CACHED_EXECUTABLE_SUFFIX);
+        File cachedFile = cachedPath.toFile();
+        cachedFile.deleteOnExit();
+        Files.copy(executablePath, cachedPath, StandardCopyOption.REPLACE_EXISTING);
+
+        CachedExecutable executable = new CachedExecutable(cachedPath, mainClassName);
+        CachedExecutable previous = executables.put(key, executable);
+        if (previous != null) {
+            deleteExecutable(previous.executablePath());
+        }
+        return executable;
+    }
+
+    /**
+     * Returns the number of cached executables.
+     *
+     * @return number of cached executables
+     */
+    public synchronized int size() {
+        return executables.size();
+    }
+
+    /**
+     * Removes all the cached executables.
+     */
+    public synchronized void clear() {
+        executables.values().forEach(executable -> deleteExecutable(executable.executablePath()));
+        executables.clear();
+    }
+
+    private static void deleteExecutable(Path executablePath) {
+        try {
+            Files.deleteIfExists(executablePath);
+        } catch (IOException ignored) {
+            // The executable might still be in use by the debuggee. It will be removed on exit.
+        }
+    }
+
+    /**
+     * Represents an executable built for an evaluation program.
+     *
+     * @param executablePath path of the executable jar
+     * @param mainClassName  name of the class which contains the evaluation function
+     */
+    public record CachedExecutable(Path executablePath, String mainClassName) {
+    }
+}
@@ -47,6 +47,8 @@ import org.ballerinalang.debugadapter.EvaluationContext;
 import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
 import org.ballerinalang.debugadapter.evaluation.BImport;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
+import org.ballerinalang.debugadapter.evaluation.EvaluationExecutableCache;
+import org.ballerinalang.debugadapter.evaluation.EvaluationExecutableCache.CachedExecutable;
 import org.ballerinalang.debugadapter.evaluation.EvaluationImportResolver;
 import org.ballerinalang.debugadapter.evaluation.engine.Evaluator;
 import org.ballerinalang.debugadapter.evaluation.engine.ExternalVariableReferenceFinder;
@@ -64,6 +66,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -105,7 +108,9 @@ import static org.ballerinalang.debugadapter.variable.VariableUtils.getPackageOr
  * <li> Creates a 'BuildProject' instance which contains the given source snippet as its main file.
  * <li> If the user expression includes same package module usages, extracts all the module-level declarations from the
  * non-default modules and add them as separate modules into the evaluation package created in above step.
- * <li> Creates a Ballerina executable jar based on the generated code snippet, in a temp directory.
+ * <li> Creates a Ballerina executable jar based on the generated code snippet, in a temp directory. The executable is
+ * cached against the generated code snippet, and the above steps are skipped if the same snippet was already built
+ * within the debug session.
  * <li> Invokes 'classloadAndInvokeFunction' in the remote VM to classload the created executable jar and
  * invoke its '__getEvaluationResult' method. It will return the result of the expression as its return value.
  * </ol>
@@ -145,10 +150,20 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
     public BExpressionValue evaluate() throws EvaluationException {
         try {
             String evaluationSnippet = generateEvaluationSnippet();
-            BuildProject project = createProject(evaluationSnippet);
-            Path executablePath = createExecutables(project);
-            String mainClassName = constructMainClassName(project);
-            return classAndInvokeExecutable(executablePath, mainClassName);
+            Map<String, String> moduleDefinitions = containsOtherModuleImports() ? getOtherModuleDefinitions()
+                    : Map.of();
+            // The executable is built only if the same project was not built before within the debug session.
+            EvaluationExecutableCache executableCache = context.getExecutionContext().getEvaluationCache();
+            String cacheKey = EvaluationExecutableCache.createKey(evaluationSnippet, moduleDefinitions);
+            Optional<CachedExecutable> cachedExecutable = executableCache.get(cacheKey);
+            if (cachedExecutable.isEmpty()) {
+                BuildProject project = createProject(evaluationSnippet, moduleDefinitions);
+                Path executablePath = createExecutables(project);
+                String mainClassName = constructMainClassName(project);
+                cachedExecutable = Optional.of(executableCache.put(cacheKey, executablePath, mainClassName));
+            }
+            return classAndInvokeExecutable(cachedExecutable.get().executablePath(),
+                    cachedExecutable.get().mainClassName());
         } catch (EvaluationException e) {
             throw e;
         } catch (Exception e) {
@@ -183,10 +198,13 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
     /**
      * Creates and returns a 'BuildProject' instance which contains the given source snippet in the main file.
      *
-     * @param mainBalContent Source file content to be used for generating the project
+     * @param mainBalContent    Source file content to be used for generating the project
+     * @param moduleDefinitions Definitions of the other modules to be included in the project, against the module
+     *                          names
      * @return Created Ballerina project
      */
-    private BuildProject createProject(String mainBalContent) throws EvaluationException {
+    private BuildProject createProject(String mainBalContent, Map<String, String> moduleDefinitions)
+            throws EvaluationException {
         try {
             // Creates a new directory in the default temporary file directory.
             this.tempProjectDir = Files.createTempDirectory(TEMP_DIR_PREFIX + System.currentTimeMillis());
@@ -197,11 +215,8 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
             // Creates the Ballerina.toml file and writes the package meta information.
             createBallerinaToml();
 
-            // If the user expression contains any import usages of other modules in the same package, we need
-            // to include all the definitions from those modules, in our temporary evaluation project. (Here we cannot
-            // selectively include only the imported modules as the package modules can have inter dependencies.)
-            if (containsOtherModuleImports()) {
-                fillOtherModuleDefinitions();
+            for (Map.Entry<String, String> moduleDefinition : moduleDefinitions.entrySet()) {
+                createModuleFile(moduleDefinition.getKey(), moduleDefinition.getValue());
             }
 
             BuildOptions buildOptions = BuildOptions.builder()
@@ -400,24 +415,30 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
     }
 
     /**
-     * Updates the evaluation project with all the definitions from the modules which were used within the
-     * user expression.
+     * Returns all the definitions from the other modules in the package, against the module names. If the user
+     * expression contains any import usages of other modules in the same package, these definitions need to be
+     * included in the temporary evaluation project. (Here we cannot selectively include only the imported modules as
+     * the package modules can have inter dependencies.)
+     *
+     * @return module definitions against the module names
      */
-    private void fillOtherModuleDefinitions() throws Exception {
+    private Map<String, String> getOtherModuleDefinitions() {
+        Map<String, String> moduleDefinitions = new LinkedHashMap<>();
         ModuleId currentModuleId = context.getModule().moduleId();
         ModuleId defaultModuleId = context.getModule().packageInstance().getDefaultModule().moduleId();
         for (Module module : context.getModule().packageInstance().modules()) {
             if (module.moduleId() != defaultModuleId && module.moduleId() != currentModuleId) {
-                generateModuleDefinitions(module);
+                moduleDefinitions.put(module.moduleId().moduleName(), extractModuleDefinitions(module, true));
             }
         }
+        return moduleDefinitions;
     }
 
-    private void generateModuleDefinitions(Module module) throws Exception {
+    private void createModuleFile(String moduleName, String moduleDefinitions) throws Exception {
         // Todo: [IMPORTANT] Refactor to use in-memory project update APIs instead of using the FileWriter, once the
         //  project update API performance issues are fixed.
 
-        String[] moduleNameParts = module.moduleId().moduleName().split("\\.");
+        String[] moduleNameParts = moduleName.split("\\.");
         // We don't need the 0th element (as its the default module name).
         moduleNameParts = Arrays.copyOfRange(moduleNameParts, 1, moduleNameParts.length);
 
@@ -435,7 +456,6 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
 
         File moduleMainFile = Files.createTempFile(filePath, MAIN_FILE_PREFIX, BAL_FILE_EXT).toFile();
         moduleMainFile.deleteOnExit();
-        String moduleDefinitions = extractModuleDefinitions(module, true);
         FileUtils.writeToFile(moduleMainFile, moduleDefinitions);
     }
 
@@ -616,6 +636,8 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
 
     private void dispose() {
         // Todo - anything else to be disposed?
-        FileUtils.deleteDirectory(this.tempProjectDir);
+        if (this.tempProjectDir != null) {
+            FileUtils.deleteDirectory(this.tempProjectDir);
+        }
     }
 }
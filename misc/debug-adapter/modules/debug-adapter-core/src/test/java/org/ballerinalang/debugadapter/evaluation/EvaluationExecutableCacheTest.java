@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.debugadapter.evaluation;
+
+import org.ballerinalang.debugadapter.evaluation.EvaluationExecutableCache.CachedExecutable;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests for {@link EvaluationExecutableCache}.
+ *
+ * @since 2201.10.0
+ */
+public class EvaluationExecutableCacheTest {
+
+    private static final String MAIN_CLASS_NAME = "evaluation.main.0.main";
+
+    private Path buildDir;
+    private EvaluationExecutableCache cache;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        buildDir = Files.createTempDirectory("evaluation-cache-test-");
+        cache = new EvaluationExecutableCache();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        cache.clear();
+        try (var paths = Files.list(buildDir)) {
+            for (Path path : paths.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(buildDir);
+    }
+
+    @Test
+    public void testKeyIncludesModuleSources() {
+        String mainSource = "import evaluation/main.other; function f() returns any { return other:x; }";
+        String key = EvaluationExecutableCache.createKey(mainSource, Map.of("main.other", "int x = 1;"));
+
+        Assert.assertEquals(EvaluationExecutableCache.createKey(mainSource, Map.of("main.other", "int x = 1;")), key);
+        Assert.assertNotEquals(EvaluationExecutableCache.createKey(mainSource, Map.of()), key);
+        Assert.assertNotEquals(EvaluationExecutableCache.createKey(mainSource, Map.of("main.other", "int x = 2;")),
+                key);
+        Assert.assertNotEquals(EvaluationExecutableCache.createKey(mainSource, Map.of("main.another", "int x = 1;")),
+                key);
+    }
+
+    @Test
+    public void testKeyIsIndependentOfModuleOrder() {
+        Map<String, String> moduleSources = new LinkedHashMap<>();
+        moduleSources.put("main.a", "int a = 1;");
+        moduleSources.put("main.b", "int b = 1;");
+        Map<String, String> reversedModuleSources = new LinkedHashMap<>();
+        reversedModuleSources.put("main.b", "int b = 1;");
+        reversedModuleSources.put("main.a", "int a = 1;");
+
+        Assert.assertEquals(EvaluationExecutableCache.createKey("", reversedModuleSources),
+                EvaluationExecutableCache.createKey("", moduleSources));
+    }
+
+    @Test
+    public void testKeyIncludesSourceBoundaries() {
+        Assert.assertNotEquals(EvaluationExecutableCache.createKey("ab", Map.of()),
+                EvaluationExecutableCache.createKey("a", Map.of("b", "")));
+        Assert.assertNotEquals(EvaluationExecutableCache.createKey("", Map.of("main.a", "bc")),
+                EvaluationExecutableCache.createKey("", Map.of("main.ab", "c")));
+    }
+
+    @Test
+    public void testPutAndGet() throws IOException {
+        String key = EvaluationExecutableCache.createKey("main", Map.of());
+        Assert.assertTrue(cache.get(key).isEmpty());
+
+        Path executablePath = createExecutable("executable");
+        CachedExecutable executable = cache.put(key, executablePath, MAIN_CLASS_NAME);
+
+        // The executable is copied, so that the build directory can be removed after the evaluation.
+        Assert.assertNotEquals(executable.executablePath(), executablePath);
+        Assert.assertEquals(Files.readString(executable.executablePath()), "executable");
+        Assert.assertEquals(executable.mainClassName(), MAIN_CLASS_NAME);
+        Assert.assertEquals(cache.get(key), Optional.of(executable));
+    }
+
+    @Test
+    public void testDeletedExecutableIsNotReturned() throws IOException {
+        String key = EvaluationExecutableCache.createKey("main", Map.of());
+        CachedExecutable executable = cache.put(key, createExecutable("executable"), MAIN_CLASS_NAME);
+        Files.delete(executable.executablePath());
+
+        Assert.assertTrue(cache.get(key).isEmpty());
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testReplacedExecutableIsDeleted() throws IOException {
+        String key = EvaluationExecutableCache.createKey("main", Map.of());
+        CachedExecutable previous = cache.put(key, createExecutable("previous"), MAIN_CLASS_NAME);
+        CachedExecutable current = cache.put(key, createExecutable("current"), MAIN_CLASS_NAME);
+
+        Assert.assertFalse(Files.exists(previous.executablePath()));
+        Assert.assertEquals(cache.get(key), Optional.of(current));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedExecutableIsEvicted() throws IOException {
+        List<String> keys = new ArrayList<>();
+        List<CachedExecutable> executables = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            String key = EvaluationExecutableCache.createKey("main" + i, Map.of());
+            keys.add(key);
+            executables.add(cache.put(key, createExecutable("executable" + i), MAIN_CLASS_NAME));
+        }
+        // Makes the first executable the most recently used one.
+        Assert.assertTrue(cache.get(keys.get(0)).isPresent());
+
+        cache.put(EvaluationExecutableCache.createKey("main64", Map.of()), createExecutable("executable64"),
+                MAIN_CLASS_NAME);
+
+        Assert.assertEquals(cache.size(), 64);
+        Assert.assertTrue(cache.get(keys.get(0)).isPresent());
+        Assert.assertTrue(cache.get(keys.get(1)).isEmpty());
+        Assert.assertFalse(Files.exists(executables.get(1).executablePath()));
+    }
+
+    @Test
+    public void testClear() throws IOException {
+        CachedExecutable first = cache.put(EvaluationExecutableCache.createKey("first", Map.of()),
+                createExecutable("first"), MAIN_CLASS_NAME);
+        CachedExecutable second = cache.put(EvaluationExecutableCache.createKey("second", Map.of()),
+                createExecutable("second"), MAIN_CLASS_NAME);
+
+        cache.clear();
+
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertFalse(Files.exists(first.executablePath()));
+        Assert.assertFalse(Files.exists(second.executablePath()));
+    }
+
+    private Path createExecutable(String content) throws IOException {
+        Path executablePath = Files.createTempFile(buildDir, "executable-", ".jar");
+        Files.writeString(executablePath, content);
+        return executablePath;
+    }
+}
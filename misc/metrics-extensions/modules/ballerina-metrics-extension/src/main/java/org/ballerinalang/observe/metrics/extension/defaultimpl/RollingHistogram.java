@@ -24,13 +24,27 @@ import org.HdrHistogram.DoubleHistogram;
 import org.HdrHistogram.DoubleRecorder;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Recording is lock-free. Values are recorded once, into a {@link DoubleRecorder} stripe selected by the recording
+ * thread, and the stripes are merged into the ring buffer when the histogram is rotated or read.
  */
 public class RollingHistogram {
 
+    /**
+     * Upper bound for the number of recorder stripes.
+     */
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * Number of recorder stripes, a power of two derived from the number of available processors.
+     */
+    private static final int STRIPE_COUNT = stripeCount(Runtime.getRuntime().availableProcessors());
+
     /**
      * Clock for measuring time.
      */
@@ -42,9 +56,14 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Recorders the values are recorded into, striped by the recording thread and created lazily.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final AtomicReferenceArray<DoubleRecorder> recorderStripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+    /**
+     * Histograms in a ring buffer. These are only accessed while holding the lock of this {@link RollingHistogram}.
+     */
+    private final DoubleHistogram[] ringBuffer;
 
     /**
      * Current bucket index.
@@ -62,15 +81,10 @@ public class RollingHistogram {
     private final long durationBetweenRotatesMillis;
 
     /**
-     * This interval histogram is reused when taking the next interval histogram.
+     * This interval histogram is reused when taking the next interval histogram from a recorder stripe.
      */
     private final DoubleHistogram intervalHistogram;
 
-    /**
-     * A histogram to keep accumulated stats.
-     */
-    private DoubleHistogram accumulatedHistogram;
-
     /**
      * Global atomic field updater to update volatile {@code rotating} integer.
      */
@@ -82,35 +96,35 @@ public class RollingHistogram {
      */
     private volatile int rotating; // 0 - not rotating, 1 - rotating
 
-    /**
-     * A flag to check whether accumulatedHistogram is stale or not.
-     */
-    private volatile boolean accumulatedHistogramStale;
-
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        ringBuffer = new DoubleHistogram[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = newHistogram();
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
         this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / ageBuckets;
-        intervalHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-        accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        intervalHistogram = newHistogram();
     }
 
     public void record(double value) {
         rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
+        recorderStripe().recordValue(value);
+    }
+
+    private DoubleRecorder recorderStripe() {
+        int index = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+        DoubleRecorder recorder = recorderStripes.get(index);
+        if (recorder == null) {
+            recorder = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            if (!recorderStripes.compareAndSet(index, null, recorder)) {
+                recorder = recorderStripes.get(index);
             }
-        } finally {
-            accumulatedHistogramStale = true;
         }
+        return recorder;
     }
 
     private void rotate() {
@@ -127,8 +141,11 @@ public class RollingHistogram {
         try {
             int iterations = 0;
             synchronized (this) {
+                // Values recorded so far belong to the buckets that are alive before this rotation.
+                mergeRecorderStripes();
                 do {
-                    currentHistogram().reset();
+                    // Replaced rather than reset, refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
+                    ringBuffer[currentBucket] = newHistogram();
                     if (++currentBucket >= ringBuffer.length) {
                         currentBucket = 0;
                     }
@@ -142,11 +159,6 @@ public class RollingHistogram {
                     lastRotateTimestampMillis += durationBetweenRotatesMillis *
                             (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
                 }
-
-                accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-                //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
-                //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
-                accumulatedHistogramStale = true;
             }
         } finally {
             rotating = 0;
@@ -160,38 +172,59 @@ public class RollingHistogram {
     public Snapshot getSnapshot() {
         rotate();
         synchronized (this) {
-            accumulateIfStale();
+            mergeRecorderStripes();
+            DoubleHistogram histogram = currentHistogram();
             PercentileValue[] percentileValues = null;
             final double[] monitoredPercentiles = statisticConfig.getPercentiles();
             if (monitoredPercentiles != null) {
                 percentileValues = new PercentileValue[monitoredPercentiles.length];
                 for (int i = 0; i < monitoredPercentiles.length; i++) {
                     final double p = monitoredPercentiles[i];
-                    percentileValues[i] = new PercentileValue(p, accumulatedHistogram.getValueAtPercentile(p * 100));
+                    percentileValues[i] = new PercentileValue(p, histogram.getValueAtPercentile(p * 100));
                 }
             }
             return new Snapshot(statisticConfig.getTimeWindow(),
-                    accumulatedHistogram.getMinValue(),
-                    accumulatedHistogram.getMean(),
-                    accumulatedHistogram.getStdDeviation(),
-                    accumulatedHistogram.getMaxValue(),
+                    histogram.getMinValue(),
+                    histogram.getMean(),
+                    histogram.getStdDeviation(),
+                    histogram.getMaxValue(),
                     percentileValues);
         }
     }
 
-    private void accumulateIfStale() {
-        if (accumulatedHistogramStale) {
-            accumulate();
-            accumulatedHistogramStale = false;
+    /**
+     * Moves the values recorded in the recorder stripes since the last merge into every bucket of the ring buffer.
+     * This must be called while holding the lock of this {@link RollingHistogram}.
+     */
+    private void mergeRecorderStripes() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            DoubleRecorder recorder = recorderStripes.get(i);
+            if (recorder == null) {
+                continue;
+            }
+            recorder.getIntervalHistogramInto(intervalHistogram);
+            if (intervalHistogram.getTotalCount() == 0) {
+                continue;
+            }
+            for (DoubleHistogram histogram : ringBuffer) {
+                histogram.add(intervalHistogram);
+            }
         }
     }
 
-    private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+    private DoubleHistogram currentHistogram() {
+        return ringBuffer[currentBucket];
     }
 
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+    private DoubleHistogram newHistogram() {
+        return new DoubleHistogram(statisticConfig.getPercentilePrecision());
+    }
+
+    private static int stripeCount(int availableProcessors) {
+        int stripes = 1;
+        while (stripes < availableProcessors && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        return stripes;
     }
 }
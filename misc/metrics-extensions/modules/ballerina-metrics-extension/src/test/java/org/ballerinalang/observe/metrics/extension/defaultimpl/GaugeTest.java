@@ -20,12 +20,15 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 import io.ballerina.runtime.observability.metrics.Gauge;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +75,40 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testGaugeConcurrentUpdates() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_gauge_concurrent").description("Test Gauge")
+                .summarize(StatisticConfig.builder().percentiles(0.5, 1.0).build())
+                .register(metricRegistry);
+        int nThreads = 8;
+        int nUpdates = 10_000;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < nThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < nUpdates; j++) {
+                    gauge.increment(1D);
+                    gauge.decrement(1D);
+                    gauge.increment(1D);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long nTotalUpdates = (long) nThreads * nUpdates;
+        Assert.assertEquals(gauge.getValue(), (double) nTotalUpdates);
+        Assert.assertEquals(gauge.getCount(), 3 * nTotalUpdates);
+        Snapshot snapshot = gauge.getSnapshots()[0];
+        Assert.assertEquals(snapshot.getMax(), (double) nTotalUpdates, nTotalUpdates * 0.01);
+    }
 }
@@ -34,6 +34,7 @@ import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -42,6 +43,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -122,6 +126,148 @@ public class TestBirAndJarCache {
         Assert.assertFalse(Files.exists(cacheDir.resolve(jBallerinaBackend.targetPlatform().code())));
     }
 
+    @Test(description = "tests recording the fingerprints of the cached modules")
+    public void testModuleFingerprintCaching() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-module-fingerprints" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("project_wo_deps").toFile(), projectPath.toFile());
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+
+        Path birCachePath = new Target(project.targetDir()).cachesPath().resolve("pram")
+                .resolve("project_wo_deps").resolve("0.1.0").resolve(ProjectConstants.REPO_BIR_CACHE_NAME);
+        Path fingerprintPath = birCachePath.resolve("project_wo_deps" + ProjectConstants.MODULE_FINGERPRINT_EXT);
+        Assert.assertTrue(Files.exists(birCachePath.resolve("project_wo_deps"
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT)));
+        Assert.assertTrue(Files.exists(fingerprintPath));
+        String fingerprint = Files.readString(fingerprintPath);
+        Assert.assertFalse(fingerprint.isBlank());
+
+        // Build the unchanged project again, the module is reused with the same fingerprint
+        project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        compilation = project.currentPackage().getCompilation();
+        jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        Assert.assertEquals(Files.readString(fingerprintPath), fingerprint);
+    }
+
+    @Test(description = "tests that only the modules whose fingerprint changed are compiled again")
+    public void testModuleFingerprintInvalidation() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-module-fingerprints" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("project_with_module_deps").toFile(),
+                projectPath.toFile());
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        BuildProject project = buildProject(projectPath, buildOptions);
+        Path birCachePath = new Target(project.targetDir()).cachesPath().resolve("pram")
+                .resolve("project_with_module_deps").resolve("0.1.0").resolve(ProjectConstants.REPO_BIR_CACHE_NAME);
+        List<String> allModules = List.of("project_with_module_deps", "project_with_module_deps.greeting",
+                "project_with_module_deps.numbers", "project_with_module_deps.util");
+        Assert.assertEquals(getCachedModules(birCachePath), allModules);
+
+        // All the modules of the unchanged project are loaded from the cache
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, buildOptions), List.of());
+
+        // The edited module and the modules which depend on it are compiled again
+        Files.writeString(projectPath.resolve("modules").resolve("util").resolve("util.bal"),
+                "public function prefix() returns string {\n    return \"Hi, \";\n}\n");
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, buildOptions),
+                List.of("project_with_module_deps", "project_with_module_deps.greeting",
+                        "project_with_module_deps.util"));
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, buildOptions), List.of());
+
+        Files.writeString(projectPath.resolve("modules").resolve("greeting").resolve("greeting.bal"),
+                "\npublic function farewell() returns string => \"Bye\";\n", StandardOpenOption.APPEND);
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, buildOptions),
+                List.of("project_with_module_deps", "project_with_module_deps.greeting"));
+
+        // A build option which affects the generated code invalidates all the modules
+        BuildOptions remoteManagementOptions = BuildOptions.builder()
+                .setEnableCache(true)
+                .setRemoteManagement(true)
+                .build();
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, remoteManagementOptions), allModules);
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, remoteManagementOptions), List.of());
+        Assert.assertEquals(getRecompiledModules(projectPath, birCachePath, buildOptions), allModules);
+    }
+
+    @Test(description = "tests that a module is not cached when its jar cannot be written")
+    public void testJarCachingFailure() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("project_wo_deps");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        // A file in place of the platform library directory makes writing the jar fail
+        Path platformLibDirPath = cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME).resolve("pram")
+                .resolve("project_wo_deps").resolve("0.1.0").resolve(JvmTarget.JAVA_17.code());
+        Files.createDirectories(platformLibDirPath.getParent());
+        Files.createFile(platformLibDirPath);
+
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+
+        RuntimeException exception = Assert.expectThrows(RuntimeException.class,
+                () -> JBallerinaBackend.from(compilation, JvmTarget.JAVA_17));
+        Assert.assertTrue(exception.getMessage().startsWith("Failed to write library"), exception.getMessage());
+        // Neither the BIR nor a partially written jar is left in the cache
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 0);
+        try (Stream<Path> pathStream = Files.walk(cacheDirPath)) {
+            List<String> cachedFiles = pathStream.filter(Files::isRegularFile)
+                    .map(path -> path.getFileName().toString())
+                    .filter(fileName -> !fileName.equals(JvmTarget.JAVA_17.code()))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(cachedFiles, List.of());
+        }
+    }
+
+    private static BuildProject buildProject(Path projectPath, BuildOptions buildOptions) {
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(),
+                JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        return project;
+    }
+
+    private static List<String> getCachedModules(Path birCachePath) throws IOException {
+        try (Stream<Path> pathStream = Files.list(birCachePath)) {
+            return pathStream.map(path -> path.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT))
+                    .map(fileName -> fileName.substring(0,
+                            fileName.length() - ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT.length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> getRecompiledModules(Path projectPath, Path birCachePath, BuildOptions buildOptions)
+            throws IOException {
+        // The BIR of a module is written again only if the module is compiled from its sources, hence the BIRs are
+        // marked with an old timestamp to find the ones written by the build
+        FileTime marker = FileTime.fromMillis(0);
+        List<String> cachedModules = getCachedModules(birCachePath);
+        for (String module : cachedModules) {
+            Files.setLastModifiedTime(birCachePath.resolve(module + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT),
+                    marker);
+        }
+        buildProject(projectPath, buildOptions);
+
+        List<String> recompiledModules = new ArrayList<>();
+        for (String module : getCachedModules(birCachePath)) {
+            Path birFilePath = birCachePath.resolve(module + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+            if (!Files.getLastModifiedTime(birFilePath).equals(marker)) {
+                recompiledModules.add(module);
+            }
+        }
+        return recompiledModules;
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
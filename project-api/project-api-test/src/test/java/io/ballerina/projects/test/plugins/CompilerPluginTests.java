@@ -17,6 +17,7 @@
  */
 package io.ballerina.projects.test.plugins;
 
+import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CodeGeneratorResult;
 import io.ballerina.projects.CodeModifierResult;
 import io.ballerina.projects.DiagnosticResult;
@@ -32,9 +33,12 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.Resource;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.test.TestUtils;
+import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FileUtils;
 import org.ballerinalang.test.BAssertUtil;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
@@ -54,11 +58,15 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Contains cases to test compiler plugin loading and running.
@@ -483,6 +491,75 @@ public class CompilerPluginTests {
                 "INFO [tests/test.bal:(6:1,6:9)] testYee");
     }
 
+    @Test(description = "tests that the diagnostics of the code analyzers are reported for the cached modules")
+    public void testCodeAnalyzerDiagnosticsOfCachedModules() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-cached-analyzer-diagnostics" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("package_plugin_diagnostic_user_1").toFile(),
+                projectPath.toFile());
+        Path utilModulePath = projectPath.resolve(ProjectConstants.MODULES_ROOT).resolve("util");
+        Files.createDirectories(utilModulePath);
+        Files.writeString(utilModulePath.resolve("util.bal"), "public function greet() {\n}\n");
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        Path birCachePath = new Target(project.targetDir()).cachesPath().resolve("pramjs")
+                .resolve("package_plugin_diagnostic_user_1").resolve("0.1.0")
+                .resolve(ProjectConstants.REPO_BIR_CACHE_NAME);
+        List<String> diagnostics = buildAndGetDiagnostics(project);
+        Assert.assertEquals(diagnostics.size(), 6, diagnostics.toString());
+
+        // Every module is loaded from the cache, while the plugin reports the same diagnostics
+        markCachedBirs(birCachePath);
+        Assert.assertEquals(buildAndGetDiagnostics(TestUtils.loadBuildProject(projectPath, buildOptions)),
+                diagnostics);
+        Assert.assertEquals(getRewrittenBirs(birCachePath), List.of());
+
+        // Only the edited module is compiled again, while the diagnostics of the other module are kept
+        Files.writeString(utilModulePath.resolve("util.bal"), "\npublic function wave() {\n}\n",
+                StandardOpenOption.APPEND);
+        markCachedBirs(birCachePath);
+        List<String> editedDiagnostics = buildAndGetDiagnostics(TestUtils.loadBuildProject(projectPath,
+                buildOptions));
+        Assert.assertEquals(getRewrittenBirs(birCachePath),
+                List.of("package_plugin_diagnostic_user_1.util" + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT));
+        Assert.assertEquals(editedDiagnostics.size(), 7, editedDiagnostics.toString());
+        Assert.assertTrue(editedDiagnostics.containsAll(diagnostics), editedDiagnostics.toString());
+    }
+
+    private static List<String> buildAndGetDiagnostics(BuildProject project) {
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        return compilation.diagnosticResult().diagnostics().stream()
+                .map(Diagnostic::toString)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static void markCachedBirs(Path birCachePath) throws IOException {
+        // The BIR of a module is written again only if the module is compiled from its sources
+        try (Stream<Path> pathStream = Files.list(birCachePath)) {
+            for (Path birFilePath : pathStream.filter(path -> path.toString()
+                    .endsWith(ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT)).collect(Collectors.toList())) {
+                Files.setLastModifiedTime(birFilePath, FileTime.fromMillis(0));
+            }
+        }
+    }
+
+    private static List<String> getRewrittenBirs(Path birCachePath) throws IOException {
+        List<String> rewrittenBirs = new ArrayList<>();
+        try (Stream<Path> pathStream = Files.list(birCachePath)) {
+            for (Path birFilePath : pathStream.filter(path -> path.toString()
+                    .endsWith(ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT)).collect(Collectors.toList())) {
+                if (!Files.getLastModifiedTime(birFilePath).equals(FileTime.fromMillis(0))) {
+                    rewrittenBirs.add(birFilePath.getFileName().toString());
+                }
+            }
+        }
+        return rewrittenBirs;
+    }
+
     public void assertDiagnostics(Package currentPackage) {
         // Check whether there are any diagnostics
         DiagnosticResult diagnosticResult = currentPackage.getCompilation().diagnosticResult();
@@ -0,0 +1,5 @@
+import project_with_module_deps.greeting;
+
+public function main() {
+    string message = greeting:greet("Ballerina");
+}
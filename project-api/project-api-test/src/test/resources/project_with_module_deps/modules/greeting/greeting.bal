@@ -0,0 +1,5 @@
+import project_with_module_deps.util;
+
+public function greet(string name) returns string {
+    return util:prefix() + name;
+}
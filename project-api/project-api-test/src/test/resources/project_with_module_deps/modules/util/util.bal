@@ -0,0 +1,3 @@
+public function prefix() returns string {
+    return "Hello, ";
+}
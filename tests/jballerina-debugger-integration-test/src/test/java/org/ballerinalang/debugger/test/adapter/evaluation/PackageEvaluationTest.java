@@ -132,4 +132,18 @@ public class PackageEvaluationTest extends ExpressionEvaluationTest {
         // other qualified name references (i.e. types)
         debugTestRunner.assertExpression(context, "other:Kid", "evaluation_tests.other:Kid", "typedesc");
     }
+
+    @Test
+    public void evaluationExecutableReuseTest() throws BallerinaTestException {
+        // Let expressions are evaluated by building them into executables. An executable is reused when the same
+        // expression is evaluated again, but its modules are initialized afresh on every evaluation. Hence the
+        // module-level state changed by a previous evaluation is not visible to the next one.
+        String expression = "let int n = 0 in other:nextEvaluationCount() + n";
+        debugTestRunner.assertExpression(context, expression, "1", "int");
+        debugTestRunner.assertExpression(context, expression, "1", "int");
+
+        String otherExpression = "let int n = 10 in other:nextEvaluationCount() + n";
+        debugTestRunner.assertExpression(context, otherExpression, "11", "int");
+        debugTestRunner.assertExpression(context, expression, "1", "int");
+    }
 }
@@ -119,3 +119,10 @@ class Location {
 public function sum(int a, int b) returns int {
     return a + b;
 }
+
+int evaluationCount = 0;
+
+public function nextEvaluationCount() returns int {
+    evaluationCount += 1;
+    return evaluationCount;
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.run;
+
+import org.ballerinalang.test.BaseTest;
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.ballerinalang.test.util.BFileUtil;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * Tests building an executable with the '--trim-executable' option and running it.
+ *
+ * @since 2201.10.0
+ */
+public class TrimmedExecutableTestCase extends BaseTest {
+
+    private static final String PACKAGE_NAME = "trimmed_executable";
+    // Class packages of the modules of the test package, i.e. <org>/<package>.<module>/<major version>/
+    private static final String USED_MODULE_CLASS_PACKAGE = "testorg/trimmed_executable$0046greeting/0/";
+    private static final String UNUSED_MODULE_CLASS_PACKAGE = "testorg/trimmed_executable$0046unused/0/";
+    private static final String MODULE_INIT_CLASS_ENTRY = "$_init.class";
+    private static final String JAVA_OPTS = "JAVA_OPTS";
+
+    private BMainInstance bMainInstance;
+    private Path tempProjectDir;
+    private Path executablePath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        bMainInstance = new BMainInstance(balServer);
+        tempProjectDir = Files.createTempDirectory("bal-test-integration-trimmed-executable-");
+        Path projectPath = Paths.get("src", "test", "resources", "run", PACKAGE_NAME).toAbsolutePath();
+        BFileUtil.copy(projectPath, tempProjectDir);
+        executablePath = tempProjectDir.resolve("target").resolve("bin").resolve(PACKAGE_NAME + ".jar");
+    }
+
+    @Test(description = "Test that the modules which are not imported are left out of a trimmed executable")
+    public void testTrimmedExecutable() throws BallerinaTestException, IOException {
+        buildExecutable();
+        List<String> untrimmedClassEntries = getClassEntries();
+        Assert.assertTrue(untrimmedClassEntries.contains(UNUSED_MODULE_CLASS_PACKAGE + MODULE_INIT_CLASS_ENTRY),
+                "the unused module should be part of an executable which is not trimmed");
+
+        buildExecutable("--trim-executable");
+        List<String> trimmedClassEntries = getClassEntries();
+        Assert.assertTrue(trimmedClassEntries.size() < untrimmedClassEntries.size());
+        Assert.assertTrue(trimmedClassEntries.contains(USED_MODULE_CLASS_PACKAGE + MODULE_INIT_CLASS_ENTRY));
+        List<String> unusedModuleClassEntries = trimmedClassEntries.stream()
+                .filter(entry -> entry.startsWith(UNUSED_MODULE_CLASS_PACKAGE))
+                .toList();
+        Assert.assertTrue(unusedModuleClassEntries.isEmpty(),
+                "found classes of the unused module in the trimmed executable: " + unusedModuleClassEntries);
+
+        Assert.assertEquals(runExecutable(), "Hello, Ballerina!");
+    }
+
+    private void buildExecutable(String... args) throws BallerinaTestException, IOException {
+        Files.deleteIfExists(executablePath);
+        String output = bMainInstance.runMainAndReadStdOut("build", args, new HashMap<>(),
+                tempProjectDir.toString(), false);
+        Assert.assertTrue(Files.exists(executablePath), "failed to build the executable: " + output);
+    }
+
+    private List<String> getClassEntries() throws IOException {
+        try (JarFile jarFile = new JarFile(executablePath.toFile())) {
+            return jarFile.stream()
+                    .map(ZipEntry::getName)
+                    .filter(name -> name.endsWith(".class"))
+                    .toList();
+        }
+    }
+
+    private String runExecutable() throws BallerinaTestException {
+        Map<String, String> envProperties = new HashMap<>();
+        bMainInstance.addJavaAgents(envProperties);
+        List<String> runCmdSet = new ArrayList<>();
+        runCmdSet.add("java");
+        if (envProperties.containsKey(JAVA_OPTS)) {
+            runCmdSet.add(envProperties.get(JAVA_OPTS).trim());
+        }
+        runCmdSet.add("-jar");
+        runCmdSet.add(executablePath.toString());
+        ProcessBuilder processBuilder = new ProcessBuilder(runCmdSet).redirectErrorStream(true);
+        processBuilder.environment().putAll(envProperties);
+        try {
+            Process process = processBuilder.start();
+            String output;
+            try (InputStream inputStream = process.getInputStream()) {
+                output = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            Assert.assertEquals(process.waitFor(), 0, "failed to run the trimmed executable: " + output);
+            return output;
+        } catch (IOException | InterruptedException e) {
+            throw new BallerinaTestException("Error occurred while running the trimmed executable", e);
+        }
+    }
+
+    @AfterClass
+    public void cleanup() {
+        BFileUtil.deleteDirectory(tempProjectDir.toFile());
+    }
+}
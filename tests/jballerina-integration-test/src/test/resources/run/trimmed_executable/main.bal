@@ -0,0 +1,13 @@
+import trimmed_executable.greeting;
+import ballerina/io;
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+public function main() {
+    Person person = {name: "Ballerina", age: 8};
+    function (string) returns string greet = name => greeting:greet(name);
+    io:println(greet(person.name));
+}
@@ -0,0 +1,3 @@
+public function greet(string name) returns string {
+    return "Hello, " + name + "!";
+}
@@ -0,0 +1,4 @@
+// This module is not imported by the program, hence it is left out of the trimmed executable
+public function farewell(string name) returns string {
+    return "Goodbye, " + name + "!";
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.bala.functions;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAttachedFunction;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the lazy loading of the function symbols of the modules imported from BALA.
+ *
+ * @since 2201.10.0
+ */
+public class LazySymbolLoadingBalaTest {
+
+    private static final String TEST_SOURCE = "test-src/bala/test_bala/functions/test_lazy_symbol_loading.bal";
+
+    private CompileResult lazyResult;
+    private CompileResult eagerResult;
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.compileAndCacheBala("test-src/bala/test_projects/test_project_lazy_symbols");
+        lazyResult = BCompileUtil.compile(TEST_SOURCE, BuildOptions.builder().setLazyBirSymbolLoading(true).build());
+        eagerResult = BCompileUtil.compile(TEST_SOURCE, BuildOptions.builder().setLazyBirSymbolLoading(false).build());
+    }
+
+    @Test(dataProvider = "lazilyLoadedFunctionTests")
+    public void testLazilyLoadedFunctions(String funcName) {
+        Assert.assertEquals(lazyResult.getErrorCount(), 0);
+        BRunUtil.invoke(lazyResult, funcName);
+    }
+
+    @DataProvider
+    public Object[][] lazilyLoadedFunctionTests() {
+        return new Object[][]{
+                {"testFunctionLookup"},
+                {"testFunctionPointers"},
+                {"testAttachedFunctions"}
+        };
+    }
+
+    @Test
+    public void testScopeEntries() {
+        Scope lazyScope = getImportedModule(lazyResult).scope;
+        Scope eagerScope = getImportedModule(eagerResult).scope;
+
+        // Only the functions which were looked up during the compilation are loaded.
+        Assert.assertTrue(getDefinedNames(lazyScope).contains("sum"));
+        Assert.assertFalse(getDefinedNames(lazyScope).contains("privateFunction"));
+        Assert.assertTrue(getDefinedNames(eagerScope).contains("privateFunction"));
+
+        // Iterating the entries loads the rest of the functions, in the same order as when loaded eagerly.
+        List<Name> lazyNames = new ArrayList<>(lazyScope.entries.keySet());
+        Assert.assertEquals(lazyNames, new ArrayList<>(eagerScope.entries.keySet()));
+        Assert.assertTrue(getDefinedNames(lazyScope).contains("privateFunction"));
+
+        for (Map.Entry<Name, Scope.ScopeEntry> entry : lazyScope.entries.entrySet()) {
+            BSymbol lazySymbol = entry.getValue().symbol;
+            BSymbol eagerSymbol = eagerScope.lookup(entry.getKey()).symbol;
+            String name = entry.getKey().value;
+            Assert.assertEquals(lazySymbol.tag, eagerSymbol.tag, name);
+            Assert.assertEquals(lazySymbol.flags, eagerSymbol.flags, name);
+            Assert.assertEquals(String.valueOf(lazySymbol.type), String.valueOf(eagerSymbol.type), name);
+        }
+    }
+
+    @Test
+    public void testAttachedFunctionsOfLazilyLoadedModule() {
+        Name className = Names.fromString("Counter");
+        BObjectTypeSymbol lazyClass =
+                (BObjectTypeSymbol) getImportedModule(lazyResult).scope.lookup(className).symbol.type.tsymbol;
+        BObjectTypeSymbol eagerClass =
+                (BObjectTypeSymbol) getImportedModule(eagerResult).scope.lookup(className).symbol.type.tsymbol;
+
+        // Attached functions, including the resource functions, are always loaded with the class.
+        Assert.assertFalse(lazyClass.attachedFuncs.isEmpty());
+        Assert.assertEquals(getFunctionNames(lazyClass.attachedFuncs), getFunctionNames(eagerClass.attachedFuncs));
+        for (int i = 0; i < lazyClass.attachedFuncs.size(); i++) {
+            BAttachedFunction lazyFunction = lazyClass.attachedFuncs.get(i);
+            BAttachedFunction eagerFunction = eagerClass.attachedFuncs.get(i);
+            Assert.assertEquals(lazyFunction.symbol.flags, eagerFunction.symbol.flags);
+            Assert.assertEquals(String.valueOf(lazyFunction.type), String.valueOf(eagerFunction.type));
+        }
+    }
+
+    private static BPackageSymbol getImportedModule(CompileResult compileResult) {
+        BLangPackage bLangPackage = (BLangPackage) compileResult.getAST();
+        return bLangPackage.getImports().get(0).symbol;
+    }
+
+    private static List<String> getDefinedNames(Scope scope) {
+        List<String> names = new ArrayList<>();
+        for (Scope.ScopeEntry entry : scope.definedEntries()) {
+            if ((entry.symbol.tag & SymTag.FUNCTION) == SymTag.FUNCTION) {
+                names.add(entry.symbol.name.value);
+            }
+        }
+        return names;
+    }
+
+    private static List<String> getFunctionNames(List<BAttachedFunction> functions) {
+        return functions.stream().map(function -> function.funcName.value).toList();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        lazyResult = null;
+        eagerResult = null;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *   Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.List;
+
+/**
+ * Tests the function inlining and constant propagation enabled by the BIR optimization level.
+ *
+ * @since 2201.10.0
+ */
+public class BirFunctionInliningTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setBirOptimizationLevel(1).build();
+        result = BCompileUtil.compile("test-src/bir/bir_inlining.bal", buildOptions);
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(dataProvider = "functionsToTest")
+    public void testInlinedFunctions(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @DataProvider
+    public Object[] functionsToTest() {
+        return new Object[]{
+                "testInlinedConstantAccessor",
+                "testInlinedParameterAccess",
+                "testOptionalReturn",
+                "testConstantBranch",
+                "testPanicInCalledFunction"
+        };
+    }
+
+    @Test
+    public void testCallsReplacedWithCalleeBody() {
+        BIRNode.BIRPackage birPackage = result.getPackageCompilation().defaultModuleBLangPackage().symbol.bir;
+        assertCalls(birPackage, "testInlinedConstantAccessor", List.of());
+        assertCalls(birPackage, "testInlinedParameterAccess", List.of());
+        // The division may panic, so it is kept in the callee to preserve the stack trace
+        assertCalls(birPackage, "testPanicInCalledFunction", List.of("divide"));
+    }
+
+    private void assertCalls(BIRNode.BIRPackage birPackage, String functionName, List<String> expectedCallees) {
+        BIRNode.BIRFunction function = birPackage.functions.stream()
+                .filter(func -> func.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow();
+        List<String> callees = function.basicBlocks.stream()
+                .filter(bb -> bb.terminator != null && bb.terminator.kind == InstructionKind.CALL)
+                .map(bb -> ((BIRTerminator.Call) bb.terminator).name.value)
+                .filter(name -> !name.equals("assertEquality"))
+                .toList();
+        Assert.assertEquals(callees, expectedCallees);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
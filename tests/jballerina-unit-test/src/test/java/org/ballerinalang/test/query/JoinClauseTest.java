@@ -125,6 +125,11 @@ public class JoinClauseTest {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
     
+    @Test(description = "Test join clause with structured and mixed type keys")
+    public void testJoinClauseWithStructuredAndMixedTypeKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithStructuredAndMixedTypeKeys");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 40);
@@ -20,6 +20,7 @@ package org.ballerinalang.test.record;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
@@ -28,6 +29,9 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 
@@ -154,6 +158,75 @@ public class RecordValueTest {
                 "{\"name\":\"Jane\",\"age\":25,\"spouse\":\"John\",\"gender\":\"female\"}");
     }
 
+    @Test
+    public void testRecordViewsWithoutRestFields() {
+        Object result = BRunUtil.invokeAndGetJVMResult(compileResult, "getEmployee");
+        Assert.assertTrue(result instanceof MapValue);
+        MapValue<BString, Object> employee = (MapValue<BString, Object>) result;
+
+        Assert.assertEquals(joinEntries(employee), "[{name:Anne}, {id:1}]");
+        Assert.assertEquals(joinKeys(employee), "[name, id]");
+        Assert.assertEquals(joinValues(employee), "[Anne, 1]");
+        Assert.assertEquals(employee.size(), 2);
+    }
+
+    @Test
+    public void testRecordViewsBeforeAndAfterAddingRestFields() {
+        Object result = BRunUtil.invokeAndGetJVMResult(compileResult, "getDefaultPerson");
+        Assert.assertTrue(result instanceof MapValue);
+        MapValue<BString, Object> person = (MapValue<BString, Object>) result;
+
+        // only the declared fields are set, so nothing is held by the backing map
+        Assert.assertEquals(joinEntries(person), "[{name:John}, {age:30}]");
+        Assert.assertEquals(joinKeys(person), "[name, age]");
+        Assert.assertEquals(joinValues(person), "[John, 30]");
+
+        person.put(StringUtils.fromString("gender"), StringUtils.fromString("male"));
+        Assert.assertEquals(joinEntries(person), "[{name:John}, {age:30}, {gender:male}]");
+        Assert.assertEquals(joinKeys(person), "[name, age, gender]");
+        Assert.assertEquals(joinValues(person), "[John, 30, male]");
+    }
+
+    @Test
+    public void testRecordViewsSkipEmptyBackingMap() throws ReflectiveOperationException {
+        Object result = BRunUtil.invokeAndGetJVMResult(compileResult, "getDefaultPerson");
+        Assert.assertTrue(result instanceof MapValue);
+        MapValue<BString, Object> person = (MapValue<BString, Object>) result;
+
+        // the declared fields are held in the record fields, so the views of the backing map are not created
+        person.entrySet();
+        person.getKeys();
+        person.values();
+        Assert.assertNull(getBackingMapView(person, HashMap.class, "entrySet"));
+        Assert.assertNull(getBackingMapView(person, AbstractMap.class, "keySet"));
+        Assert.assertNull(getBackingMapView(person, AbstractMap.class, "values"));
+
+        person.put(StringUtils.fromString("gender"), StringUtils.fromString("male"));
+        person.entrySet();
+        person.getKeys();
+        person.values();
+        Assert.assertNotNull(getBackingMapView(person, HashMap.class, "entrySet"));
+        Assert.assertNotNull(getBackingMapView(person, AbstractMap.class, "keySet"));
+        Assert.assertNotNull(getBackingMapView(person, AbstractMap.class, "values"));
+    }
+
+    @Test
+    public void testRecordNativeData() {
+        Object result = BRunUtil.invokeAndGetJVMResult(compileResult, "getEmployee");
+        Assert.assertTrue(result instanceof MapValueImpl);
+        MapValueImpl<BString, Object> employee = (MapValueImpl<BString, Object>) result;
+
+        Assert.assertNull(employee.getNativeData("key"));
+        Assert.assertTrue(employee.getNativeDataMap().isEmpty());
+
+        Object data = new Object();
+        employee.addNativeData("key", data);
+        Assert.assertSame(employee.getNativeData("key"), data);
+        Assert.assertNull(employee.getNativeData("other"));
+        Assert.assertEquals(employee.getNativeDataMap().size(), 1);
+        Assert.assertEquals(joinKeys(employee), "[name, id]");
+    }
+
     @Test(expectedExceptions = {UnsupportedOperationException.class})
     public void testRecordRemove() {
         Object result = BRunUtil.invokeAndGetJVMResult(compileResult, "getDefaultPerson");
@@ -170,6 +243,38 @@ public class RecordValueTest {
         person.clear();
     }
 
+    private static Object getBackingMapView(MapValue<BString, Object> record, Class<?> mapClass, String viewName)
+            throws ReflectiveOperationException {
+        // LinkedHashMap keeps each view in a field once it is created
+        Field viewField = mapClass.getDeclaredField(viewName);
+        viewField.setAccessible(true);
+        return viewField.get(record);
+    }
+
+    private static String joinEntries(MapValue<BString, Object> record) {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<BString, Object> entry : record.entrySet()) {
+            sj.add("{" + entry.getKey() + ":" + entry.getValue() + "}");
+        }
+        return sj.toString();
+    }
+
+    private static String joinKeys(MapValue<BString, Object> record) {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        for (BString key : record.getKeys()) {
+            sj.add(key.getValue());
+        }
+        return sj.toString();
+    }
+
+    private static String joinValues(MapValue<BString, Object> record) {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        for (Object value : record.values()) {
+            sj.add(value.toString());
+        }
+        return sj.toString();
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -144,6 +144,11 @@ public class RecordConstraintTableTest {
         BRunUtil.invoke(result, "testSpreadFieldInConstructor");
     }
 
+    @Test(description = "Test table operations after removing many rows")
+    public void testTableOperationsAfterManyRemovals() {
+        BRunUtil.invoke(result, "testTableOperationsAfterManyRemovals");
+    }
+
     @Test(dataProvider = "functionsToTestEmptyKeyedKeylessTbl")
     public void testEmptyKeyedKeylessTbl(String function) {
         BRunUtil.invoke(result, function);
@@ -0,0 +1,70 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import testorg/lazy_symbols;
+
+function testFunctionLookup() {
+    assertEquality(15, lazy_symbols:sum(5));
+    assertEquality(8, lazy_symbols:sum(5, 3));
+    lazy_symbols:setOffset(100);
+    assertEquality(108, lazy_symbols:sum(5, 3));
+    lazy_symbols:setOffset(0);
+
+    assertEquality("a-b-c", lazy_symbols:concat("-", "a", "b", "c"));
+    assertEquality(1, lazy_symbols:withReturnAnnotation());
+    assertEquality("deprecated", lazy_symbols:deprecatedFunction());
+    assertEquality(2, lazy_symbols:callPrivateFunction());
+}
+
+function testFunctionPointers() {
+    function (int) returns int increment = lazy_symbols:increment;
+    assertEquality(3, lazy_symbols:twice(increment, 1));
+    assertEquality(12, lazy_symbols:twice(lazy_symbols:increment, 10));
+}
+
+function testAttachedFunctions() {
+    lazy_symbols:Counter counter = lazy_symbols:getCounter();
+    int count = counter->increment();
+    assertEquality(1, count);
+    count = counter->increment();
+    assertEquality(2, count);
+
+    count = counter->/count;
+    assertEquality(2, count);
+
+    counter->/count.put(10);
+    count = counter->/count;
+    assertEquality(10, count);
+
+    counter.reset();
+    count = counter->/count;
+    assertEquality(0, count);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any expected, any actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString () + "'");
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public annotation Label on return;
+
+int offset = 0;
+
+# Returns the sum of the given values and the current offset.
+#
+# + a - first value
+# + b - second value
+# + return - sum of the values
+public function sum(int a, int b = 10) returns int {
+    return a + b + offset;
+}
+
+public function setOffset(int value) {
+    offset = value;
+}
+
+public isolated function concat(string separator, string... parts) returns string {
+    return string:'join(separator, ...parts);
+}
+
+public function withReturnAnnotation() returns @Label int {
+    return 1;
+}
+
+@deprecated
+public function deprecatedFunction() returns string => "deprecated";
+
+public function twice(function (int) returns int func, int value) returns int => func(func(value));
+
+public function increment(int value) returns int => value + 1;
+
+function privateFunction() returns int => 2;
+
+public function callPrivateFunction() returns int => privateFunction();
+
+public function getCounter() returns Counter => new;
+
+public client class Counter {
+    private int count = 0;
+
+    resource function get count() returns int {
+        return self.count;
+    }
+
+    resource function put count(int value) {
+        self.count = value;
+    }
+
+    remote function increment() returns int {
+        self.count += 1;
+        return self.count;
+    }
+
+    public function reset() {
+        self.count = 0;
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int LIMIT = 10;
+
+function getLimit() returns int => LIMIT;
+
+function getName() returns string => "ballerina";
+
+function getOptionalName() returns string? => "ballerina";
+
+function identity(int value) returns int => value;
+
+function isPositive(int value) returns boolean => value > 0;
+
+function divide(int a, int b) returns int => a / b;
+
+function testInlinedConstantAccessor() {
+    int limit = getLimit() + 5;
+    assertEquality(15, limit);
+    assertEquality("ballerina", getName());
+}
+
+function testOptionalReturn() {
+    assertEquality("ballerina", getOptionalName());
+}
+
+function testInlinedParameterAccess() {
+    int value = identity(7);
+    assertEquality(7, value);
+    assertEquality(true, isPositive(value));
+    assertEquality(false, isPositive(-value));
+}
+
+function testConstantBranch() {
+    int count = 0;
+    if getLimit() > 5 {
+        count += 1;
+    } else {
+        count -= 1;
+    }
+    assertEquality(1, count);
+}
+
+function testPanicInCalledFunction() {
+    int|error result = trap divide(1, 0);
+    assertEquality(true, result is error);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(string `expected '${expected.toString()}', found '${actual.toString()}'`);
+}
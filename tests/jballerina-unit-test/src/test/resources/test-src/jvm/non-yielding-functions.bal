@@ -0,0 +1,90 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function fibonacci(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    return n == 0 ? true : isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    return n == 0 ? false : isEven(n - 1);
+}
+
+function square(int n) returns int => n * n;
+
+function sumOfSquares(int n) returns int {
+    int sum = 0;
+    foreach int i in 1 ... n {
+        sum += square(i);
+    }
+    return sum;
+}
+
+function waitForSquare(int n) returns int {
+    future<int> result = start square(n);
+    return checkpanic wait result;
+}
+
+function sumOfSquaresWithWait(int n) returns int {
+    int sum = 0;
+    foreach int i in 1 ... n {
+        // Calls a function which yields in between calls to functions which cannot yield
+        sum += square(i) - square(i) + waitForSquare(i);
+    }
+    return sum;
+}
+
+function divide(int a, int b) returns int => a / b;
+
+function testRecursiveCalls() {
+    assertEquality(6765, fibonacci(20));
+    assertEquality(true, isEven(100));
+    assertEquality(true, isOdd(101));
+}
+
+function testNonYieldingCallsFromYieldingFunction() {
+    assertEquality(sumOfSquares(50), sumOfSquaresWithWait(50));
+}
+
+function testNonYieldingCallsFromStartedStrands() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< 20 {
+        futures.push(start fibonacci(i));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+    assertEquality(10945, sum);
+}
+
+function testPanicFromNonYieldingFunction() {
+    int|error result = trap divide(1, 0);
+    assertEquality(true, result is error);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(string `expected '${expected.toString()}', found '${actual.toString()}'`);
+}
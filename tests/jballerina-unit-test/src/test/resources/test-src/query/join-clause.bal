@@ -527,6 +527,28 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+function testJoinClauseWithStructuredAndMixedTypeKeys() {
+    [int, string][] lhsKeys = [[1, "a"], [2, "b"], [3, "c"]];
+    [int, string][] rhsKeys = [[3, "c"], [1, "a"], [1, "b"], [3, "c"]];
+    [int, string][] joinedKeys = from var lhs in lhsKeys
+            join var rhs in rhsKeys on lhs equals rhs
+            select rhs;
+    assertEquality([[1, "a"], [3, "c"], [3, "c"]], joinedKeys);
+
+    // Keys with the same string representation are not equal unless the values are equal.
+    (int|string)[] lhsValues = [1, "1", 2];
+    (int|string)[] rhsValues = ["1", 2, "2"];
+    (int|string)[] joinedValues = from var lhs in lhsValues
+            join var rhs in rhsValues on lhs equals rhs
+            select rhs;
+    assertEquality(["1", 2], joinedValues);
+
+    (int|string)[] outerJoinedValues = from var lhs in lhsValues
+            outer join var rhs in rhsValues on lhs equals rhs
+            select rhs ?: "none";
+    assertEquality(["none", "1", 2], outerJoinedValues);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
@@ -28,3 +28,12 @@ function getNewPerson() returns Person {
 	Person p = {name: "Jane", age: 25, spouse: "John", "gender": "female"};
 	return p;
 }
+
+type Employee record {|
+    string name;
+    int id;
+|};
+
+function getEmployee() returns Employee {
+    return {name: "Anne", id: 1};
+}
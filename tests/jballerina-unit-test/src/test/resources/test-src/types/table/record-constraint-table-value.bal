@@ -743,6 +743,53 @@ function testEqualityWithEmptyKeyedKeylessTbl() {
     assertTrue(tbl1 == tbl3);
 }
 
+function testTableOperationsAfterManyRemovals() {
+    CustomerTableWithKS tbl = table [];
+    foreach int i in 0 ..< 100 {
+        tbl.add({id: i, name: "name" + i.toString(), lname: "lname" + i.toString()});
+    }
+
+    // Remove rows while iterating, including rows that are yet to be visited.
+    int visited = 0;
+    foreach Customer customer in tbl {
+        visited += 1;
+        if customer.id % 4 == 0 {
+            _ = tbl.remove(customer.id + 1);
+            _ = tbl.remove(customer.id + 2);
+        }
+    }
+    assertEquality(50, visited);
+    assertEquality(50, tbl.length());
+
+    foreach int i in 0 ..< 100 {
+        if i % 4 != 0 {
+            _ = tbl.removeIfHasKey(i);
+        }
+    }
+    assertEquality(25, tbl.length());
+    assertFalse(tbl.hasKey(2));
+    assertTrue(tbl.hasKey(96));
+
+    // Updating an existing row keeps its position, while re-added rows are appended.
+    tbl.put({id: 0, name: "name0", lname: "updated"});
+    tbl.add({id: 1, name: "name1", lname: "lname1"});
+    tbl.add({id: 2, name: "name2", lname: "lname2"});
+
+    int[] expectedKeys = [];
+    foreach int i in 0 ..< 25 {
+        expectedKeys.push(i * 4);
+    }
+    expectedKeys.push(1, 2);
+    assertEquality(expectedKeys, tbl.keys());
+    assertEquality("updated", tbl.get(0).lname);
+    assertEquality(100, tbl.nextKey());
+
+    tbl.removeAll();
+    assertEquality(0, tbl.length());
+    tbl.add({id: 5, name: "name5", lname: "lname5"});
+    assertEquality([5], tbl.keys());
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {